@@ -0,0 +1,60 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.common;
+
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.context.ClientContext;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.engine.ExecutionEngine;
+
+import java.util.Objects;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.specification.RequestSpecification;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+//Holds the invariant part of a request (config, base URI and endpoint context) built once per endpoint,
+//so that only the auth, headers, payload and query params are bound on every call.
+//The cached specifications are never modified, every call merges one into a fresh specification.
+@Slf4j
+class RequestSpecificationCache {
+
+    private static final long MAXIMUM_SIZE = 256;
+
+    private final Cache<SpecificationKey, RequestSpecification> specifications = CacheBuilder.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .build();
+
+    RequestSpecification specificationFor(final ExecutionEngine engine,
+                                          final ClientContext clientContext,
+                                          final String endpointContext) {
+        final SpecificationKey key = new SpecificationKey(engine, clientContext, endpointContext);
+        final RequestSpecification cached = specifications.getIfPresent(key);
+        if (Objects.nonNull(cached)) {
+            return cached;
+        }
+        return specifications.asMap().computeIfAbsent(key, this::build);
+    }
+
+    void invalidateAll() {
+        specifications.invalidateAll();
+    }
+
+    private RequestSpecification build(final SpecificationKey key) {
+        log.debug("Building the request specification for : " + key.endpointContext);
+        return new RequestSpecBuilder()
+                .setConfig(key.engine.configure(key.clientContext.restAssuredConfig()))
+                .setBaseUri(key.clientContext.baseURI())
+                .setBasePath(key.endpointContext)
+                .build();
+    }
+
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class SpecificationKey {
+        //Engines are compared by identity, a replaced engine never shares a specification with its predecessor.
+        private final ExecutionEngine engine;
+        private final ClientContext clientContext;
+        private final String endpointContext;
+    }
+}
@@ -1,12 +1,20 @@
 package uk.gov.hmcts.futurehearings.snl.acceptance.common;
 
 
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.capture.ExchangeRecorder;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.capture.RecordedExchange;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.context.ClientContext;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.engine.DefaultExecutionEngine;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.engine.ExecutionEngine;
+
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.Objects;
 
 import io.restassured.RestAssured;
 import io.restassured.http.Headers;
 import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
@@ -14,95 +22,129 @@ import org.springframework.http.HttpStatus;
 @Slf4j
 public class RestClientTemplate {
 
-    public static Response shouldExecute(final Headers headers,
-                                         final String authorizationToken,
+    private static final int DEFAULT_CAPTURE_CAPACITY = 200;
+
+    private static volatile ExecutionEngine executionEngine = new DefaultExecutionEngine();
+
+    private static volatile ExchangeRecorder exchangeRecorder = new ExchangeRecorder(DEFAULT_CAPTURE_CAPACITY);
+
+    private static final RequestSpecificationCache requestSpecificationCache = new RequestSpecificationCache();
+
+    public static void setExecutionEngine(final ExecutionEngine executionEngine) {
+        RestClientTemplate.executionEngine = executionEngine;
+        requestSpecificationCache.invalidateAll();
+    }
+
+    public static ExecutionEngine getExecutionEngine() {
+        return executionEngine;
+    }
+
+    public static void setExchangeRecorder(final ExchangeRecorder exchangeRecorder) {
+        RestClientTemplate.exchangeRecorder = exchangeRecorder;
+    }
+
+    public static ExchangeRecorder getExchangeRecorder() {
+        return exchangeRecorder;
+    }
+
+    public static Response shouldExecute(final ClientContext clientContext,
+                                         final Headers headers,
                                          final String requestBodyPayload,
                                          final String requestURL,
                                          final Map<String, String> params,
                                          final HttpStatus expectedHttpStatus,
                                          final HttpMethod httpMethod) {
+        return shouldExecute(clientContext, headers, requestBodyPayload, requestURL, params,
+                expectedHttpStatus, httpMethod, false);
+    }
+
+    //A streamed response is handed back with its body unread, neither the engine nor the exchange recorder buffer it.
+    //The caller has to read the body to the end or close it, only then is the connection released.
+    public static Response shouldExecute(final ClientContext clientContext,
+                                         final Headers headers,
+                                         final String requestBodyPayload,
+                                         final String requestURL,
+                                         final Map<String, String> params,
+                                         final HttpStatus expectedHttpStatus,
+                                         final HttpMethod httpMethod,
+                                         final boolean streamBody) {
 
-        log.debug("The value of the baseURI : " + RestAssured.baseURI);
-        log.debug("The value of the path : " + requestURL);
-        log.debug("The value of the Authorization Token : " + authorizationToken);
-        log.debug("The value of the header : " + headers.size());
-        headers.asList().forEach(header ->
-                log.debug("The Key of the header :" + header.getName() + " The value of the Header :" + header.getValue()));
-        //log.debug("The value of the param : " + params);
-        log.debug("The value of the param : " + params);
-        log.debug("The value of the HTTP Status : " + expectedHttpStatus.value());
+        final ExecutionEngine engine = executionEngine;
+        final RequestSpecification requestSpecification =
+                RestAssured.given(requestSpecificationCache.specificationFor(engine, clientContext, requestURL));
+        final String authorizationToken = clientContext.authorizationToken();
+        if (Objects.nonNull(authorizationToken)) {
+            requestSpecification.auth().oauth2(authorizationToken);
+        }
+
+        final long timestampMillis = System.currentTimeMillis();
+        final long startNanos = System.nanoTime();
+        final Response unread = execute(requestSpecification, headers, requestBodyPayload,
+                params, expectedHttpStatus, httpMethod);
+        final Response response = streamBody ? engine.stream(unread) : engine.complete(unread);
+        exchangeRecorder.record(RecordedExchange.builder()
+                .timestampMillis(timestampMillis)
+                .durationNanos(System.nanoTime() - startNanos)
+                .httpMethod(httpMethod)
+                .baseURI(clientContext.baseURI())
+                .path(requestURL)
+                .params(params)
+                .requestHeaders(headers)
+                .requestBody(sendsBody(httpMethod) && Objects.nonNull(requestBodyPayload)
+                        ? requestBodyPayload.getBytes(StandardCharsets.UTF_8) : null)
+                .statusCode(response.statusCode())
+                .responseHeaders(response.getHeaders())
+                .responseBody(streamBody ? null : response.getBody().asByteArray()));
+        return response;
+    }
 
+    private static boolean sendsBody(final HttpMethod httpMethod) {
+        return httpMethod == HttpMethod.POST || httpMethod == HttpMethod.PUT || httpMethod == HttpMethod.DELETE;
+    }
 
+    private static Response execute(final RequestSpecification requestSpecification,
+                                    final Headers headers,
+                                    final String requestBodyPayload,
+                                    final Map<String, String> params,
+                                    final HttpStatus expectedHttpStatus,
+                                    final HttpMethod httpMethod) {
         switch (httpMethod) {
             case POST:
-                return RestAssured
-                        //.expect().that().statusCode(expectedHttpStatus.value())
-                        .given()
+                return requestSpecification
                         .headers(headers)
-                        .auth()
-                        .oauth2(authorizationToken)
-                        .basePath(requestURL)
                         .body(requestBodyPayload)
                         .when()
                         .post().then().extract().response();
             case PUT:
-                    return RestAssured
-                            //.expect().that().statusCode(expectedHttpStatus.value())
-                            .given()
+                    return requestSpecification
                             .headers(headers)
-                            .auth()
-                            .oauth2(authorizationToken)
-                            .basePath(requestURL)
                             .body(requestBodyPayload)
                             .when()
                             .put().then().extract().response();
             case DELETE:
-                return RestAssured
-                        //.expect().that().statusCode(expectedHttpStatus.value())
-                        .given()
+                return requestSpecification
                         .headers(headers)
-                        .auth()
-                        .oauth2(authorizationToken)
-                        .basePath(requestURL)
                         .body(requestBodyPayload)
                         .when()
                         .delete().then().extract().response();
             case GET:
                 if (Objects.isNull(params) || params.size() == 0) {
-                    return RestAssured
-                            //.expect().that().statusCode(expectedHttpStatus.value())
-                            .given()
+                    return requestSpecification
                             .headers(headers)
-                            .auth()
-                            .oauth2(authorizationToken)
-                            .basePath(requestURL)
                             .when()
                             .get().then().extract().response();
                 } else {
-                    log.debug("Query Params " + params);
-                    Response response = null;
-                    response =
-                            RestAssured
-                                    //.expect().that().statusCode(expectedHttpStatus.value())
-                            .given()
+                    return requestSpecification
                             .queryParams(params)
                             .headers(headers)
-                            .auth()
-                            .oauth2(authorizationToken)
-                            .basePath(requestURL)
                             .when()
                             .get().then().extract().response();
-                    log.debug(response.getBody().prettyPrint());
-                    return response;
                 }
             case PATCH:
-                return RestAssured
+                return requestSpecification
                         .expect().that().statusCode(expectedHttpStatus.value())
                         .given()
                         .headers(headers)
-                        .auth()
-                        .oauth2(authorizationToken)
-                        .basePath(requestURL)
                         .when()
                         .patch().then().extract().response();
             default:
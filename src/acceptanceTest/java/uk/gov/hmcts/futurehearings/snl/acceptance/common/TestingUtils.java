@@ -1,56 +1,37 @@
 package uk.gov.hmcts.futurehearings.snl.acceptance.common;
 
-import java.io.File;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.golden.GoldenFiles;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.header.template.HeaderTemplate;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.template.PayloadTemplates;
+
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Paths;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 
-import io.restassured.http.Header;
 import io.restassured.http.Headers;
 import io.restassured.response.Response;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.json.JSONException;
-import org.skyscreamer.jsonassert.JSONAssert;
-import org.skyscreamer.jsonassert.JSONCompareMode;
-import org.springframework.util.ResourceUtils;
 
 @Slf4j
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class TestingUtils {
 
+    //Read from the class path once per run, see PayloadTemplates.
     public static String readFileContents(final String path) throws IOException {
-        File file = ResourceUtils.getFile("classpath:" + path);
-        //File is found
-        log.debug("File Found : " + file.exists());
-        return new String(Files.readAllBytes(Paths.get(file.toURI())));
+        return PayloadTemplates.get(path).text();
     }
 
+    //Equal as JSONAssert STRICT would have it, compared by canonical hash first, see GoldenFiles.
     public static void comparePayloads(final String expectedPayloadPath, final Response response) {
-        try {
-            String output =
-                    readFileContents(expectedPayloadPath);
-            JSONAssert.assertEquals(output,
-                    response.getBody().asString(), JSONCompareMode.STRICT);
-        } catch (JSONException | IOException comparisonException) {
-            log.error("Payloads have not matched", comparisonException);
-            throw new AssertionError("Payloads have not matched");
-        }
+        GoldenFiles.assertMatches(expectedPayloadPath, response);
     }
 
+    //The maps of CommonHeaderHelper are sent with the Header objects of their template, see HeaderTemplate.
     public static final Headers convertHeaderMapToRestAssuredHeaders(final Map<String, String> headerMap) {
-        List<Header> listOfHeaders = new ArrayList<>();
-        headerMap.forEach((key, value) -> {
-            Header header = new Header(key, value);
-            listOfHeaders.add(header);
-        });
-        Headers headers = new Headers(listOfHeaders);
-        return headers;
+        return HeaderTemplate.restAssuredHeaders(headerMap);
     }
+
     public static final String generateStringForGivenLength(int length, String character) {
 
         StringBuilder builder = new StringBuilder();
@@ -0,0 +1,21 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.common.capture;
+
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.RestClientTemplate;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ExchangeCaptureConfiguration {
+
+    @Value("${capture.capacity:200}")
+    private int capacity;
+
+    @Bean
+    public ExchangeRecorder exchangeRecorder() {
+        final ExchangeRecorder exchangeRecorder = new ExchangeRecorder(capacity);
+        RestClientTemplate.setExchangeRecorder(exchangeRecorder);
+        return exchangeRecorder;
+    }
+}
@@ -0,0 +1,45 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.common.capture;
+
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.RestClientTemplate;
+
+import java.util.List;
+import java.util.Objects;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.TestWatcher;
+
+//Writes out the exchanges a test made, only when that test has failed.
+@Slf4j
+public class ExchangeCaptureExtension implements BeforeEachCallback, AfterEachCallback, TestWatcher {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(ExchangeCaptureExtension.class);
+    private static final String MARK = "mark";
+
+    @Override
+    public void beforeEach(final ExtensionContext context) {
+        context.getStore(NAMESPACE).put(MARK, RestClientTemplate.getExchangeRecorder().mark());
+        ExchangeRecorder.setOwner(context.getUniqueId());
+    }
+
+    @Override
+    public void afterEach(final ExtensionContext context) {
+        ExchangeRecorder.clearOwner();
+    }
+
+    @Override
+    public void testFailed(final ExtensionContext context, final Throwable cause) {
+        final Long mark = context.getStore(NAMESPACE).get(MARK, Long.class);
+        if (Objects.isNull(mark)) {
+            return;
+        }
+        final List<RecordedExchange> exchanges = RestClientTemplate.getExchangeRecorder().since(mark, context.getUniqueId());
+        if (exchanges.isEmpty()) {
+            log.error("Test failed : " + context.getDisplayName() + ", no exchanges were captured");
+            return;
+        }
+        log.error("Test failed : " + context.getDisplayName() + ", captured exchanges :" + ExchangeRecorder.render(exchanges));
+    }
+}
@@ -0,0 +1,138 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.common.capture;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+import io.restassured.http.Headers;
+
+//Bounded, lock free ring buffer of the last N exchanges. Recording only stores references to what was sent and received,
+//the exchanges are rendered to text only when a test fails or a dump is asked for.
+public class ExchangeRecorder {
+
+    private static final ThreadLocal<String> OWNER = new ThreadLocal<>();
+
+    private final int capacity;
+    private final AtomicReferenceArray<RecordedExchange> slots;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public ExchangeRecorder(final int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The capture capacity has to be at least 1");
+        }
+        this.capacity = capacity;
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    //The owner (normally the unique id of the running test) is stamped on every exchange recorded by this thread.
+    public static void setOwner(final String owner) {
+        OWNER.set(owner);
+    }
+
+    public static void clearOwner() {
+        OWNER.remove();
+    }
+
+    public static String currentOwner() {
+        return OWNER.get();
+    }
+
+    //Carries the owner of the submitting thread over to the thread that will make the call.
+    public static <T> Supplier<T> withCurrentOwner(final Supplier<T> supplier) {
+        final String owner = OWNER.get();
+        return () -> {
+            final String previousOwner = OWNER.get();
+            OWNER.set(owner);
+            try {
+                return supplier.get();
+            } finally {
+                if (Objects.isNull(previousOwner)) {
+                    OWNER.remove();
+                } else {
+                    OWNER.set(previousOwner);
+                }
+            }
+        };
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public void record(final RecordedExchange.RecordedExchangeBuilder exchange) {
+        final long exchangeSequence = sequence.getAndIncrement();
+        slots.set((int) (exchangeSequence % capacity), exchange
+                .sequence(exchangeSequence)
+                .owner(OWNER.get())
+                .build());
+    }
+
+    //The sequence the next exchange will be recorded with, pass it to since() to get everything recorded after this point.
+    public long mark() {
+        return sequence.get();
+    }
+
+    public List<RecordedExchange> since(final long mark, final String owner) {
+        final List<RecordedExchange> exchanges = new ArrayList<>();
+        for (int index = 0; index < capacity; index++) {
+            final RecordedExchange exchange = slots.get(index);
+            if (Objects.nonNull(exchange) && exchange.sequence() >= mark
+                    && (Objects.isNull(owner) || owner.equals(exchange.owner()))) {
+                exchanges.add(exchange);
+            }
+        }
+        exchanges.sort(Comparator.comparingLong(RecordedExchange::sequence));
+        return exchanges;
+    }
+
+    public List<RecordedExchange> snapshot() {
+        return since(0, null);
+    }
+
+    public String dump() {
+        return render(snapshot());
+    }
+
+    public static String render(final List<RecordedExchange> exchanges) {
+        final StringBuilder rendered = new StringBuilder();
+        for (RecordedExchange exchange : exchanges) {
+            rendered.append(System.lineSeparator())
+                    .append("---- Exchange #").append(exchange.sequence())
+                    .append(" at ").append(Instant.ofEpochMilli(exchange.timestampMillis()))
+                    .append(" (").append(TimeUnit.NANOSECONDS.toMillis(exchange.durationNanos())).append(" ms)")
+                    .append(System.lineSeparator())
+                    .append(exchange.httpMethod()).append(' ').append(exchange.baseURI()).append(exchange.path());
+            if (Objects.nonNull(exchange.params()) && !exchange.params().isEmpty()) {
+                rendered.append(' ').append(exchange.params());
+            }
+            rendered.append(System.lineSeparator());
+            appendHeaders(rendered, exchange.requestHeaders());
+            appendBody(rendered, exchange.requestBody());
+            rendered.append("<- HTTP ").append(exchange.statusCode()).append(System.lineSeparator());
+            appendHeaders(rendered, exchange.responseHeaders());
+            appendBody(rendered, exchange.responseBody());
+        }
+        return rendered.toString();
+    }
+
+    private static void appendHeaders(final StringBuilder rendered, final Headers headers) {
+        if (Objects.isNull(headers)) {
+            return;
+        }
+        headers.forEach(header -> rendered.append(header.getName()).append(": ").append(header.getValue())
+                .append(System.lineSeparator()));
+    }
+
+    private static void appendBody(final StringBuilder rendered, final byte[] body) {
+        if (Objects.nonNull(body) && body.length > 0) {
+            rendered.append(new String(body, StandardCharsets.UTF_8)).append(System.lineSeparator());
+        }
+    }
+}
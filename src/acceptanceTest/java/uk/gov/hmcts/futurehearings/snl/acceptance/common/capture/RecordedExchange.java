@@ -0,0 +1,31 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.common.capture;
+
+import java.util.Map;
+
+import io.restassured.http.Headers;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import org.springframework.http.HttpMethod;
+
+//One request/response pair as it was sent and received, nothing is formatted until the exchange is rendered.
+@Getter(AccessLevel.PUBLIC)
+@Accessors(fluent = true)
+@Builder(toBuilder = true)
+public class RecordedExchange {
+
+    private final long sequence;
+    private final String owner;
+    private final long timestampMillis;
+    private final long durationNanos;
+    private final HttpMethod httpMethod;
+    private final String baseURI;
+    private final String path;
+    private final Map<String, String> params;
+    private final Headers requestHeaders;
+    private final byte[] requestBody;
+    private final int statusCode;
+    private final Headers responseHeaders;
+    private final byte[] responseBody;
+}
@@ -0,0 +1,54 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.common.context;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.support.PropertySourcesPlaceholderConfigurer;
+
+//The context of the acceptance tests, see AcceptanceTest. Only the beans of the acceptance harness are scanned,
+//nothing is auto-configured, so none of the web server, Actuator, Hystrix or Springfox of Application is started.
+@Slf4j
+@Configuration
+@ComponentScan("uk.gov.hmcts.futurehearings.snl.acceptance")
+public class AcceptanceConfiguration {
+
+    @Value("${targetInstance}")
+    private String targetInstance;
+
+    @Value("${targetSubscriptionKey}")
+    private String targetSubscriptionKey;
+
+    @Value("${token_apiURL}")
+    private String tokenApiURL;
+
+    @Value("${token_username}")
+    private String tokenUsername;
+
+    @Value("${token_password}")
+    private String tokenPassword;
+
+    @Value("${expired_access_token}")
+    private String expiredAccessToken;
+
+    //A placeholder without a value fails the context, as it did under the auto-configuration of Application.
+    @Bean
+    public static PropertySourcesPlaceholderConfigurer propertySourcesPlaceholderConfigurer() {
+        return new PropertySourcesPlaceholderConfigurer();
+    }
+
+    @Bean
+    public AcceptanceProperties acceptanceProperties() {
+        final AcceptanceProperties acceptanceProperties = AcceptanceProperties.builder()
+                .targetInstance(targetInstance)
+                .targetSubscriptionKey(targetSubscriptionKey)
+                .tokenApiURL(tokenApiURL)
+                .tokenUsername(tokenUsername)
+                .tokenPassword(tokenPassword)
+                .expiredAccessToken(expiredAccessToken)
+                .build();
+        log.debug("Acceptance properties : " + acceptanceProperties);
+        return acceptanceProperties;
+    }
+}
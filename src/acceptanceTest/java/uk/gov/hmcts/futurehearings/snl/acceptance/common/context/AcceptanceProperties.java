@@ -0,0 +1,22 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.common.context;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.Accessors;
+
+//The target and token settings of application-acceptance.yaml shared by every acceptance class.
+@Getter(AccessLevel.PUBLIC)
+@Accessors(fluent = true)
+@Builder
+@ToString(exclude = {"tokenPassword", "expiredAccessToken"})
+public class AcceptanceProperties {
+
+    private final String targetInstance;
+    private final String targetSubscriptionKey;
+    private final String tokenApiURL;
+    private final String tokenUsername;
+    private final String tokenPassword;
+    private final String expiredAccessToken;
+}
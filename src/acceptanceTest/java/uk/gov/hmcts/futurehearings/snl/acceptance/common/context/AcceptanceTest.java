@@ -0,0 +1,22 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.common.context;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+//Every acceptance class is annotated with this and nothing else that changes its context configuration,
+//so the Spring test context cache starts the AcceptanceConfiguration context once and shares it for the whole run.
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+@SpringBootTest(classes = {AcceptanceConfiguration.class}, webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("acceptance")
+public @interface AcceptanceTest {
+}
@@ -0,0 +1,74 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.common.context;
+
+import static io.restassured.config.EncoderConfig.encoderConfig;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.config.SSLConfig;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.Accessors;
+
+//Everything a test class used to set on the static RestAssured fields, held per test class instead
+//so that test classes can be executed in parallel. Instances are immutable, use the with* methods for a variation.
+//The OAuth token is supplied rather than held, it is resolved again for every request so that a class running
+//longer than the token lives picks up the refreshed one. Contexts differing only in their token are equal.
+@Getter(AccessLevel.PUBLIC)
+@Accessors(fluent = true)
+@Builder(toBuilder = true)
+@ToString(exclude = "authorizationToken")
+@EqualsAndHashCode(exclude = "authorizationToken")
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ClientContext {
+
+    private final String baseURI;
+    @Builder.Default
+    private final String defaultContentCharset = "UTF-8";
+    @Builder.Default
+    private final boolean appendDefaultContentCharset = true;
+    @Builder.Default
+    private final boolean relaxedHttpsValidation = true;
+    @Getter(AccessLevel.NONE)
+    private final Supplier<String> authorizationToken;
+
+    public static ClientContext of(final String baseURI, final Supplier<String> authorizationToken) {
+        return ClientContext.builder()
+                .baseURI(baseURI)
+                .authorizationToken(authorizationToken)
+                .build();
+    }
+
+    //The current token, null when the context has none.
+    public String authorizationToken() {
+        return Objects.isNull(authorizationToken) ? null : authorizationToken.get();
+    }
+
+    //A fixed token, e.g. an expired or invalid one, in place of the supplied one.
+    public ClientContext withAuthorizationToken(final String authorizationToken) {
+        if (Objects.equals(authorizationToken(), authorizationToken)) {
+            return this;
+        }
+        return toBuilder().authorizationToken(() -> authorizationToken).build();
+    }
+
+    public ClientContext withoutDefaultContentCharsetAppended() {
+        return toBuilder().appendDefaultContentCharset(false).build();
+    }
+
+    public RestAssuredConfig restAssuredConfig() {
+        RestAssuredConfig config = RestAssuredConfig.config()
+                .encoderConfig(encoderConfig()
+                        .defaultContentCharset(defaultContentCharset)
+                        .appendDefaultContentCharsetToContentTypeIfUndefined(appendDefaultContentCharset));
+        if (relaxedHttpsValidation) {
+            config = config.sslConfig(SSLConfig.sslConfig().relaxedHTTPSValidation());
+        }
+        return config;
+    }
+}
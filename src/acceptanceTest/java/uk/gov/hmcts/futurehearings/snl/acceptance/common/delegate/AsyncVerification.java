@@ -0,0 +1,63 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.common.delegate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+import io.restassured.response.Response;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+//Brings the outcome of asynchronous delegate calls back onto the calling test thread,
+//so a failed verification is reported as the original AssertionError and not as a CompletionException.
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class AsyncVerification {
+
+    public static Response await(final CompletableFuture<Response> verifiedResponse) {
+        try {
+            return verifiedResponse.join();
+        } catch (CompletionException completionException) {
+            throw rethrow(completionException.getCause());
+        }
+    }
+
+    public static List<Response> awaitAll(final Collection<CompletableFuture<Response>> verifiedResponses) {
+        CompletableFuture.allOf(verifiedResponses.toArray(new CompletableFuture<?>[0]))
+                .exceptionally(throwable -> null).join();
+        final List<Response> responses = new ArrayList<>(verifiedResponses.size());
+        Throwable firstFailure = null;
+        for (CompletableFuture<Response> verifiedResponse : verifiedResponses) {
+            try {
+                responses.add(verifiedResponse.join());
+            } catch (CompletionException completionException) {
+                if (firstFailure == null) {
+                    firstFailure = completionException.getCause();
+                } else {
+                    firstFailure.addSuppressed(completionException.getCause());
+                }
+            }
+        }
+        if (firstFailure != null) {
+            throw rethrow(firstFailure);
+        }
+        return responses;
+    }
+
+    private static RuntimeException rethrow(final Throwable cause) {
+        Throwable failure = cause;
+        while ((failure instanceof CompletionException || failure instanceof ExecutionException)
+                && failure.getCause() != null) {
+            failure = failure.getCause();
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        if (failure instanceof RuntimeException) {
+            return (RuntimeException) failure;
+        }
+        return new IllegalStateException("Asynchronous delegate call failed", failure);
+    }
+}
@@ -0,0 +1,77 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.common.delegate;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import lombok.extern.slf4j.Slf4j;
+
+//Runs the asynchronous delegate calls with at most maxConcurrency requests in flight.
+//On a JDK with virtual threads every task gets its own virtual thread and the bound is a semaphore,
+//otherwise a fixed pool of platform threads provides the bound.
+@Slf4j
+class BoundedDelegateExecutor implements Executor {
+
+    private final ExecutorService executorService;
+    private final Semaphore permits;
+
+    BoundedDelegateExecutor(final int maxConcurrency, final String threadNamePrefix) {
+        final ExecutorService virtualThreadExecutor = newVirtualThreadPerTaskExecutor();
+        if (virtualThreadExecutor != null) {
+            log.debug("Asynchronous delegate calls running on virtual threads, max concurrency : " + maxConcurrency);
+            this.executorService = virtualThreadExecutor;
+            this.permits = new Semaphore(maxConcurrency);
+        } else {
+            log.debug("Asynchronous delegate calls running on platform threads, max concurrency : " + maxConcurrency);
+            this.executorService = Executors.newFixedThreadPool(maxConcurrency, daemonThreadFactory(threadNamePrefix));
+            this.permits = null;
+        }
+    }
+
+    @Override
+    public void execute(final Runnable task) {
+        if (permits == null) {
+            executorService.execute(task);
+            return;
+        }
+        executorService.execute(() -> {
+            permits.acquireUninterruptibly();
+            try {
+                task.run();
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    void shutdown() throws InterruptedException {
+        executorService.shutdown();
+        if (!executorService.awaitTermination(30, TimeUnit.SECONDS)) {
+            executorService.shutdownNow();
+        }
+    }
+
+    //Looked up reflectively as the sources are compiled for Java 11.
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            final Method factoryMethod = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factoryMethod.invoke(null);
+        } catch (ReflectiveOperationException | UnsupportedOperationException notAvailable) {
+            return null;
+        }
+    }
+
+    private static ThreadFactory daemonThreadFactory(final String threadNamePrefix) {
+        final AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            final Thread thread = new Thread(runnable, threadNamePrefix + "-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -7,8 +7,10 @@ import uk.gov.hmcts.futurehearings.snl.acceptance.common.verify.SNLVerifier;
 
 import java.io.IOException;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import io.restassured.http.Headers;
+import io.restassured.response.Response;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 
@@ -18,4 +20,9 @@ public interface CommonDelegate {
     public void test_expected_response_for_supplied_header(final DelegateDTO delegateDTO,
                                                            final SNLVerifier SNLVerifier,
                                                            final SNLDto snlDto) throws IOException;
-}
\ No newline at end of file
+
+    //Completes with the response once it has passed the verifier, use AsyncVerification to await the outcome.
+    public CompletableFuture<Response> test_expected_response_for_supplied_header_async(final DelegateDTO delegateDTO,
+                                                                                       final SNLVerifier SNLVerifier,
+                                                                                       final SNLDto snlDto);
+}
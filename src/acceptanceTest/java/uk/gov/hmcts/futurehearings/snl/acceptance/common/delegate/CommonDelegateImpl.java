@@ -2,100 +2,154 @@ package uk.gov.hmcts.futurehearings.snl.acceptance.common.delegate;
 
 import static uk.gov.hmcts.futurehearings.snl.acceptance.common.RestClientTemplate.shouldExecute;
 
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.TestingUtils;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.capture.ExchangeRecorder;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.context.ClientContext;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.delegate.dto.DelegateDTO;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.dto.SNLDto;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.timing.LatencyHistograms;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.verify.ResponseDocument;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.verify.SNLVerifier;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
-import io.restassured.http.Header;
 import io.restassured.http.Headers;
 import io.restassured.response.Response;
-import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
-@Slf4j
 @Component("CommonDelegate")
 public class CommonDelegateImpl implements CommonDelegate {
 
+    @Value("${delegate.async.maxConcurrency:16}")
+    private int maxConcurrency;
+
+    private BoundedDelegateExecutor asyncExecutor;
+
+    @Autowired
+    private LatencyHistograms latencyHistograms;
+
+    @PostConstruct
+    void initialiseAsyncExecutor() {
+        asyncExecutor = new BoundedDelegateExecutor(maxConcurrency, "snl-delegate");
+    }
+
+    @PreDestroy
+    void shutdownAsyncExecutor() throws InterruptedException {
+        asyncExecutor.shutdown();
+    }
+
     public void test_expected_response_for_supplied_header(final DelegateDTO delegateDTO,
                                                            final SNLVerifier SNLVerifier,
                                                            final SNLDto snlDto) throws IOException {
+        executeAndVerify(delegateDTO, SNLVerifier, snlDto);
+    }
+
+    public CompletableFuture<Response> test_expected_response_for_supplied_header_async(final DelegateDTO delegateDTO,
+                                                                                       final SNLVerifier SNLVerifier,
+                                                                                       final SNLDto snlDto) {
+        return CompletableFuture.supplyAsync(ExchangeRecorder.withCurrentOwner(() -> {
+            try {
+                return executeAndVerify(delegateDTO, SNLVerifier, snlDto);
+            } catch (IOException ioException) {
+                throw new UncheckedIOException(ioException);
+            }
+        }), asyncExecutor);
+    }
+
+    private Response executeAndVerify(final DelegateDTO delegateDTO,
+                                      final SNLVerifier SNLVerifier,
+                                      final SNLDto snlDto) throws IOException {
 
-        log.debug("The value of the target header (Header Map) : " + delegateDTO.standardHeaderMap());
-        log.debug("The value of the target header (Wiremock Header) : " + delegateDTO.standardHeaderMap());
         Headers standardRestAssuredHeaders = null;
         if (Objects.nonNull(delegateDTO.standardHeaderMap()) && delegateDTO.standardHeaderMap().size() > 0) {
-            log.debug("We have standard Headers.... ");
-            standardRestAssuredHeaders = convertHeaderMapToRestAssuredHeaders(delegateDTO.standardHeaderMap());
+            standardRestAssuredHeaders = TestingUtils.convertHeaderMapToRestAssuredHeaders(delegateDTO.standardHeaderMap());
         } else {
             standardRestAssuredHeaders = delegateDTO.headers();
         }
-        handleRestCall(delegateDTO.targetURL(), delegateDTO.inputPayload(), standardRestAssuredHeaders,
-                delegateDTO.authorizationToken(), delegateDTO.params(), delegateDTO.httpMethod(),
+        //A token on the DTO takes precedence over the one the test class context was created with.
+        final ClientContext clientContext = Objects.requireNonNull(delegateDTO.clientContext(),
+                "No client context supplied for the call to " + delegateDTO.targetURL())
+                .withAuthorizationToken(delegateDTO.authorizationToken());
+        return handleRestCall(delegateDTO.targetURL(), delegateDTO.inputPayload(), standardRestAssuredHeaders,
+                clientContext, delegateDTO.params(), delegateDTO.httpMethod(),
                 delegateDTO.status(), SNLVerifier, snlDto);
     }
 
-    private void handleRestCall(final String targetURL,
+    private Response handleRestCall(final String targetURL,
                                 final String inputPayload,
                                 final Headers headers,
-                                final String authorizationToken,
+                                final ClientContext clientContext,
                                 final Map<String, String> params,
                                 final HttpMethod httpMethod,
                                 final HttpStatus status,
                                 final SNLVerifier SNLVerifier,
                                 final SNLDto snlDto) throws IOException {
 
-        log.debug("handleRestCall()");
-        log.debug("httpMethod"+httpMethod);
+        Response response = null;
         switch (httpMethod) {
             case POST:
             case PUT:
             case DELETE:
-                SNLVerifier.verify(snlDto,
-                        performRESTCall(targetURL, headers, authorizationToken, params, httpMethod, status, inputPayload));
+                response = performRESTCall(targetURL, headers, clientContext, params, httpMethod, status, inputPayload,
+                        SNLVerifier.streamsBody());
+                verify(SNLVerifier, snlDto, response);
                 break;
             case GET:
-                log.debug("Case : GET");
-                SNLVerifier.verify(snlDto, performRESTCall(targetURL, headers, authorizationToken, params, httpMethod, status, inputPayload));
+                response = performRESTCall(targetURL, headers, clientContext, params, httpMethod, status, inputPayload,
+                        SNLVerifier.streamsBody());
+                verify(SNLVerifier, snlDto, response);
                 break;
             case OPTIONS:
-                performRESTCall(targetURL, headers, authorizationToken, params, httpMethod, status, inputPayload);
+                response = performRESTCall(targetURL, headers, clientContext, params, httpMethod, status, inputPayload,
+                        false);
+        }
+        return response;
+    }
+
+    private static void verify(final SNLVerifier SNLVerifier,
+                               final SNLDto snlDto,
+                               final Response response) throws IOException {
+        if (!SNLVerifier.streamsBody()) {
+            SNLVerifier.verify(snlDto, ResponseDocument.of(response));
+            return;
+        }
+        //Closing whatever the verifier left unread, passed or failed, is what releases the connection.
+        try (InputStream body = response.asInputStream()) {
+            SNLVerifier.verify(snlDto, ResponseDocument.of(response));
         }
     }
 
     private Response performRESTCall(final String targetURL,
                                      final Headers headers,
-                                     final String authorizationToken,
+                                     final ClientContext clientContext,
                                      final Map<String, String> params,
                                      final HttpMethod httpMethod,
                                      final HttpStatus status,
-                                     final String inputPayload) {
-        log.debug("performRestCAll()");
-        return shouldExecute(
+                                     final String inputPayload,
+                                     final boolean streamBody) {
+        final long startNanos = System.nanoTime();
+        final Response response = shouldExecute(
+                clientContext,
                 headers,
-                authorizationToken,
                 inputPayload,
                 targetURL,
                 params,
                 status,
-                httpMethod);
+                httpMethod,
+                streamBody);
+        latencyHistograms.record(targetURL, httpMethod, response.statusCode(), System.nanoTime() - startNanos);
+        return response;
     }
 
-    private static final Headers convertHeaderMapToRestAssuredHeaders(final Map<String, String> headerMap) {
-
-        List<Header> listOfHeaders = new ArrayList<>();
-        headerMap.forEach((key, value) -> {
-            Header header = new Header(key, value);
-            listOfHeaders.add(header);
-        });
-        Headers headers = new Headers(listOfHeaders);
-        return headers;
-    }
 }
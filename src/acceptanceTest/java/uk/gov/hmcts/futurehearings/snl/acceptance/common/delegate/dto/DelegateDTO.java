@@ -1,5 +1,6 @@
 package uk.gov.hmcts.futurehearings.snl.acceptance.common.delegate.dto;
 
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.context.ClientContext;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.dto.SNLDto;
 
 import java.util.Map;
@@ -19,7 +20,7 @@ import org.springframework.http.HttpStatus;
 @Setter(AccessLevel.PUBLIC)
 @Getter(AccessLevel.PUBLIC)
 @Accessors(fluent = true)
-@Builder
+@Builder(toBuilder = true)
 @ToString
 @EqualsAndHashCode
 @AllArgsConstructor
@@ -27,6 +28,7 @@ public class DelegateDTO implements SNLDto {
 
     final String targetSubscriptionKey;
     final String authorizationToken;
+    final ClientContext clientContext;
     final String targetURL;
     String inputPayload;
     final Map<String, String> standardHeaderMap;
@@ -0,0 +1,36 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.common.engine;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class ConnectionPoolStatistics {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    void recordHit() {
+        hits.increment();
+    }
+
+    void recordMiss() {
+        misses.increment();
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    public double reuseRate() {
+        final long hitCount = hits();
+        final long total = hitCount + misses();
+        return total == 0 ? 0.0d : (double) hitCount / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("hits=%d, misses=%d, reuse rate=%.1f%%", hits(), misses(), reuseRate() * 100);
+    }
+}
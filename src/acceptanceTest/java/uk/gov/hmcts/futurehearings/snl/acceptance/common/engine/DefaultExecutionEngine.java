@@ -0,0 +1,37 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.common.engine;
+
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.response.Response;
+
+//RestAssured's out of the box behaviour - a new Http Client, and so a new connection, for every request.
+public class DefaultExecutionEngine implements ExecutionEngine {
+
+    private final ConnectionPoolStatistics statistics = new ConnectionPoolStatistics();
+
+    @Override
+    public RestAssuredConfig configure(final RestAssuredConfig config) {
+        return config;
+    }
+
+    @Override
+    public Response complete(final Response response) {
+        statistics.recordMiss();
+        return response;
+    }
+
+    @Override
+    public Response stream(final Response response) {
+        statistics.recordMiss();
+        return response;
+    }
+
+    @Override
+    public ConnectionPoolStatistics statistics() {
+        return statistics;
+    }
+
+    @Override
+    public void shutdown() {
+        //Nothing is pooled so there is nothing to release.
+    }
+}
@@ -0,0 +1,19 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.common.engine;
+
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.response.Response;
+
+public interface ExecutionEngine {
+
+    //Layers the engine's Http Client (and for the pooled engine, TLS) configuration onto the supplied config.
+    RestAssuredConfig configure(RestAssuredConfig config);
+
+    Response complete(Response response);
+
+    //Leaves the body unread, the caller has to read it to the end or close it to release the connection.
+    Response stream(Response response);
+
+    ConnectionPoolStatistics statistics();
+
+    void shutdown();
+}
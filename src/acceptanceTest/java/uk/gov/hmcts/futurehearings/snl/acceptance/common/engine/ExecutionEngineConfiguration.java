@@ -0,0 +1,63 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.common.engine;
+
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.RestClientTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Slf4j
+@Configuration
+public class ExecutionEngineConfiguration {
+
+    @Value("${httpClient.engine:pooled}")
+    private String engine;
+
+    @Value("${httpClient.maxConnectionsTotal:50}")
+    private int maxConnectionsTotal;
+
+    @Value("${httpClient.maxConnectionsPerRoute:20}")
+    private int maxConnectionsPerRoute;
+
+    @Value("${httpClient.connectionTimeToLiveSeconds:60}")
+    private long connectionTimeToLiveSeconds;
+
+    @Value("${httpClient.connectionRequestTimeoutMillis:30000}")
+    private long connectionRequestTimeoutMillis;
+
+    @Value("${httpClient.tlsSessionCacheSize:100}")
+    private int tlsSessionCacheSize;
+
+    @Value("${httpClient.tlsSessionTimeoutSeconds:3600}")
+    private int tlsSessionTimeoutSeconds;
+
+    @Value("${httpClient.relaxedHttpsValidation:true}")
+    private boolean relaxedHttpsValidation;
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutionEngine executionEngine() {
+        final ExecutionEngine executionEngine;
+        switch (engine.trim().toLowerCase()) {
+            case "default":
+                executionEngine = new DefaultExecutionEngine();
+                break;
+            case "pooled":
+                executionEngine = new PooledExecutionEngine(ExecutionEngineProperties.builder()
+                        .maxConnectionsTotal(maxConnectionsTotal)
+                        .maxConnectionsPerRoute(maxConnectionsPerRoute)
+                        .connectionTimeToLiveSeconds(connectionTimeToLiveSeconds)
+                        .connectionRequestTimeoutMillis(connectionRequestTimeoutMillis)
+                        .tlsSessionCacheSize(tlsSessionCacheSize)
+                        .tlsSessionTimeoutSeconds(tlsSessionTimeoutSeconds)
+                        .relaxedHttpsValidation(relaxedHttpsValidation)
+                        .build());
+                break;
+            default:
+                log.error("Execution engine not identified :" + engine);
+                throw new IllegalArgumentException("Execution engine not identified");
+        }
+        RestClientTemplate.setExecutionEngine(executionEngine);
+        return executionEngine;
+    }
+}
@@ -0,0 +1,22 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.common.engine;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.Accessors;
+
+@Getter(AccessLevel.PUBLIC)
+@Accessors(fluent = true)
+@Builder
+@ToString
+public class ExecutionEngineProperties {
+
+    private final int maxConnectionsTotal;
+    private final int maxConnectionsPerRoute;
+    private final long connectionTimeToLiveSeconds;
+    private final long connectionRequestTimeoutMillis;
+    private final int tlsSessionCacheSize;
+    private final int tlsSessionTimeoutSeconds;
+    private final boolean relaxedHttpsValidation;
+}
@@ -0,0 +1,49 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.common.engine;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.conn.ClientConnectionRequest;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ManagedClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+
+//A leased connection that is already open has come out of the pool (a hit),
+//one that is not yet open is about to pay for a fresh TCP and TLS handshake (a miss).
+@SuppressWarnings("deprecation")
+class InstrumentedConnectionManager extends PoolingClientConnectionManager {
+
+    private final ConnectionPoolStatistics statistics;
+
+    InstrumentedConnectionManager(final SchemeRegistry schemeRegistry,
+                                  final long timeToLiveSeconds,
+                                  final ConnectionPoolStatistics statistics) {
+        super(schemeRegistry, timeToLiveSeconds, TimeUnit.SECONDS);
+        this.statistics = statistics;
+    }
+
+    @Override
+    public ClientConnectionRequest requestConnection(final HttpRoute route, final Object state) {
+        final ClientConnectionRequest connectionRequest = super.requestConnection(route, state);
+        return new ClientConnectionRequest() {
+
+            @Override
+            public ManagedClientConnection getConnection(final long timeout, final TimeUnit timeUnit)
+                    throws InterruptedException, ConnectionPoolTimeoutException {
+                final ManagedClientConnection connection = connectionRequest.getConnection(timeout, timeUnit);
+                if (connection.isOpen()) {
+                    statistics.recordHit();
+                } else {
+                    statistics.recordMiss();
+                }
+                return connection;
+            }
+
+            @Override
+            public void abortRequest() {
+                connectionRequest.abortRequest();
+            }
+        };
+    }
+}
@@ -0,0 +1,121 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.common.engine;
+
+import java.security.GeneralSecurityException;
+import java.security.cert.X509Certificate;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
+
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.config.SSLConfig;
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.client.params.ClientPNames;
+import org.apache.http.conn.scheme.PlainSocketFactory;
+import org.apache.http.conn.scheme.Scheme;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.conn.ssl.SSLSocketFactory;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.ssl.SSLContexts;
+
+//RestAssured 4.x only drives the (deprecated) AbstractHttpClient family, so the pool is built on that API.
+@Slf4j
+@SuppressWarnings("deprecation")
+public class PooledExecutionEngine implements ExecutionEngine {
+
+    private final ConnectionPoolStatistics statistics = new ConnectionPoolStatistics();
+    private final InstrumentedConnectionManager connectionManager;
+    private final HttpClientConfig httpClientConfig;
+    private final SSLConfig sslConfig;
+
+    public PooledExecutionEngine(final ExecutionEngineProperties properties) {
+        log.debug("Pooled execution engine properties : " + properties);
+        final SSLSocketFactory sslSocketFactory = buildSSLSocketFactory(properties);
+        final SchemeRegistry schemeRegistry = new SchemeRegistry();
+        schemeRegistry.register(new Scheme("http", 80, PlainSocketFactory.getSocketFactory()));
+        schemeRegistry.register(new Scheme("https", 443, sslSocketFactory));
+
+        connectionManager = new InstrumentedConnectionManager(schemeRegistry,
+                properties.connectionTimeToLiveSeconds(), statistics);
+        connectionManager.setMaxTotal(properties.maxConnectionsTotal());
+        connectionManager.setDefaultMaxPerRoute(properties.maxConnectionsPerRoute());
+
+        final DefaultHttpClient httpClient = new DefaultHttpClient(connectionManager);
+        httpClientConfig = HttpClientConfig.httpClientConfig()
+                .setParam(ClientPNames.CONN_MANAGER_TIMEOUT, properties.connectionRequestTimeoutMillis())
+                .httpClientFactory(() -> httpClient)
+                .reuseHttpClientInstance();
+        //The same socket factory (and so the same SSLContext session cache) is handed to every request,
+        //this is what allows TLS sessions to be resumed when the pool has to open a new connection.
+        sslConfig = SSLConfig.sslConfig().sslSocketFactory(sslSocketFactory);
+    }
+
+    //TLS trust is owned by the engine (httpClient.relaxedHttpsValidation), any SSL config on the supplied config is replaced.
+    @Override
+    public RestAssuredConfig configure(final RestAssuredConfig config) {
+        return config.httpClient(httpClientConfig).sslConfig(sslConfig);
+    }
+
+    @Override
+    public Response complete(final Response response) {
+        //Reading the body to the end is what releases the connection back into the pool.
+        response.getBody().asByteArray();
+        return response;
+    }
+
+    @Override
+    public Response stream(final Response response) {
+        //The connection stays leased until the caller has read the body to the end or closed it.
+        return response;
+    }
+
+    @Override
+    public ConnectionPoolStatistics statistics() {
+        return statistics;
+    }
+
+    @Override
+    public void shutdown() {
+        log.info("Connection pool statistics : " + statistics);
+        connectionManager.shutdown();
+    }
+
+    private static SSLSocketFactory buildSSLSocketFactory(final ExecutionEngineProperties properties) {
+        try {
+            final SSLContext sslContext;
+            if (properties.relaxedHttpsValidation()) {
+                sslContext = SSLContext.getInstance("TLS");
+                sslContext.init(null, new TrustManager[]{new TrustAllTrustManager()}, null);
+            } else {
+                sslContext = SSLContexts.createDefault();
+            }
+            sslContext.getClientSessionContext().setSessionCacheSize(properties.tlsSessionCacheSize());
+            sslContext.getClientSessionContext().setSessionTimeout(properties.tlsSessionTimeoutSeconds());
+            return properties.relaxedHttpsValidation()
+                    ? new SSLSocketFactory(sslContext, SSLSocketFactory.ALLOW_ALL_HOSTNAME_VERIFIER)
+                    : new SSLSocketFactory(sslContext, SSLSocketFactory.BROWSER_COMPATIBLE_HOSTNAME_VERIFIER);
+        } catch (GeneralSecurityException securityException) {
+            throw new IllegalStateException("Unable to initialise the SSL Context", securityException);
+        }
+    }
+
+    private static class TrustAllTrustManager implements X509TrustManager {
+
+        @Override
+        public void checkClientTrusted(final X509Certificate[] chain, final String authType) {
+            //Relaxed HTTPS Validation - Same behaviour as RestAssured.useRelaxedHTTPSValidation()
+        }
+
+        @Override
+        public void checkServerTrusted(final X509Certificate[] chain, final String authType) {
+            //Relaxed HTTPS Validation - Same behaviour as RestAssured.useRelaxedHTTPSValidation()
+        }
+
+        @Override
+        public X509Certificate[] getAcceptedIssuers() {
+            return new X509Certificate[0];
+        }
+    }
+}
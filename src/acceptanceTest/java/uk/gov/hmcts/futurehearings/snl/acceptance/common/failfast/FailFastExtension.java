@@ -0,0 +1,102 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.common.failfast;
+
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.RestClientTemplate;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.capture.RecordedExchange;
+
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.ExecutionCondition;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.LifecycleMethodExecutionExceptionHandler;
+
+//Aborts the acceptance run once S&L is evidently unhealthy, rather than letting every remaining test fail on its own:
+//after -DfailFast.threshold (5 by default, 0 never aborts) systemic failures in a row, each class and test not started
+//yet is skipped with the reason. A failure is systemic when the test got a 401/403 or a 5xx from S&L or could not
+//reach it, or when the @BeforeAll of a class, where the OAuth token is fetched, failed. Any other outcome of a test
+//shows S&L is answering and starts the count again.
+@Slf4j
+public class FailFastExtension implements ExecutionCondition, BeforeEachCallback, AfterTestExecutionCallback,
+        LifecycleMethodExecutionExceptionHandler {
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(FailFastExtension.class);
+    private static final String MARK = "mark";
+    private static final int THRESHOLD = Integer.getInteger("failFast.threshold", 5);
+    private static final AtomicInteger SYSTEMIC_FAILURES = new AtomicInteger();
+    private static final AtomicReference<String> ABORTED = new AtomicReference<>();
+
+    @Override
+    public ConditionEvaluationResult evaluateExecutionCondition(final ExtensionContext context) {
+        final String aborted = ABORTED.get();
+        return Objects.isNull(aborted) ? ConditionEvaluationResult.enabled("No systemic failure so far")
+                : ConditionEvaluationResult.disabled(aborted);
+    }
+
+    @Override
+    public void beforeEach(final ExtensionContext context) {
+        context.getStore(NAMESPACE).put(MARK, RestClientTemplate.getExchangeRecorder().mark());
+    }
+
+    @Override
+    public void afterTestExecution(final ExtensionContext context) {
+        final Optional<Throwable> failure = context.getExecutionException();
+        final Long mark = context.getStore(NAMESPACE).get(MARK, Long.class);
+        final List<RecordedExchange> exchanges = Objects.isNull(mark) ? Collections.emptyList()
+                : RestClientTemplate.getExchangeRecorder().since(mark, context.getUniqueId());
+        final String systemicCause = failure.isPresent() ? systemicCause(failure.get(), exchanges) : null;
+        if (Objects.isNull(systemicCause)) {
+            SYSTEMIC_FAILURES.set(0);
+            return;
+        }
+        systemicFailure(context.getRequiredTestClass().getSimpleName() + " " + context.getDisplayName(), systemicCause);
+    }
+
+    @Override
+    public void handleBeforeAllMethodExecutionException(final ExtensionContext context,
+                                                        final Throwable throwable) throws Throwable {
+        systemicFailure(context.getRequiredTestClass().getSimpleName(), "@BeforeAll failed : " + throwable);
+        throw throwable;
+    }
+
+    private static String systemicCause(final Throwable failure, final List<RecordedExchange> exchanges) {
+        for (RecordedExchange exchange : exchanges) {
+            if (exchange.statusCode() == 401 || exchange.statusCode() == 403) {
+                return "S&L refused the credentials with " + exchange.statusCode() + " for " + exchange.path();
+            }
+            if (exchange.statusCode() >= 500) {
+                return "S&L answered " + exchange.statusCode() + " for " + exchange.path();
+            }
+        }
+        for (Throwable cause = failure; Objects.nonNull(cause); cause = cause.getCause()) {
+            if (cause instanceof ConnectException || cause instanceof SocketTimeoutException
+                    || cause instanceof UnknownHostException) {
+                return "S&L could not be reached : " + cause;
+            }
+        }
+        return null;
+    }
+
+    private static void systemicFailure(final String test, final String systemicCause) {
+        final int systemicFailures = SYSTEMIC_FAILURES.incrementAndGet();
+        log.warn("Systemic failure " + systemicFailures + " in a row, " + test + " : " + systemicCause);
+        if (THRESHOLD <= 0 || systemicFailures < THRESHOLD) {
+            return;
+        }
+        if (ABORTED.compareAndSet(null, "Acceptance run aborted after " + systemicFailures
+                + " systemic failures in a row, the last " + test + " : " + systemicCause)) {
+            log.error(ABORTED.get());
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.common.failfast;
+
+import uk.gov.hmcts.futurehearings.snl.acceptance.shard.TestHistory;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.MethodDescriptor;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.MethodOrdererContext;
+
+//Orders the test methods of an acceptance class so that an unhealthy S&L shows in the first few tests of the class:
+//the methods that failed in the last runs first, the most recent failure first, then the smoke tests, then the rest,
+//each group fastest first. The history is the TestHistory file of -DfailFast.history, the smoke tests are the methods
+//matching -DfailFast.smokeTests. Without a history only the smoke tests move, and ties keep the default JUnit order.
+@Slf4j
+public class FailFastMethodOrderer implements MethodOrderer {
+
+    private static final String DEFAULT_SMOKE_TESTS =
+            "test_successful_response_with_(a_mandatory_header|a_complete_header|mandatory_elements_payload)";
+    private static final Pattern SMOKE_TESTS =
+            Pattern.compile(System.getProperty("failFast.smokeTests", DEFAULT_SMOKE_TESTS));
+
+    @Override
+    public void orderMethods(final MethodOrdererContext context) {
+        final Map<String, Record> records = records(context.getTestClass().getName());
+        final long unknownDurationMillis = median(records);
+        final Map<MethodDescriptor, Record> ordering = new HashMap<>();
+        context.getMethodDescriptors().forEach(methodDescriptor -> ordering.put(methodDescriptor, records
+                .getOrDefault(reportingName(methodDescriptor.getMethod()), new Record(unknownDurationMillis, 0))));
+        context.getMethodDescriptors().sort(Comparator
+                .comparingInt((MethodDescriptor methodDescriptor) -> ordering.get(methodDescriptor).recentFailures)
+                .reversed()
+                .thenComparing(methodDescriptor -> !isSmokeTest(methodDescriptor.getMethod()))
+                .thenComparingLong(methodDescriptor -> ordering.get(methodDescriptor).durationMillis));
+    }
+
+    private static boolean isSmokeTest(final Method method) {
+        return SMOKE_TESTS.matcher(method.getName()).matches();
+    }
+
+    //The history of each method of the class, keyed by the name the JUnit XML results give it, the durations of the
+    //invocations of a parameterized method, e.g. test_x(String, String)[2], summed under test_x(String, String).
+    private static Map<String, Record> records(final String className) {
+        final TestHistory testHistory = History.TEST_HISTORY;
+        final Map<String, Record> records = new HashMap<>();
+        for (String methodName : testHistory.methodNames(className)) {
+            final Long durationMillis = testHistory.methodDuration(className, methodName);
+            final Record record = new Record(Objects.isNull(durationMillis) ? 0L : durationMillis,
+                    testHistory.methodRecentFailures(className, methodName));
+            records.merge(invokedMethodName(methodName), record, Record::add);
+        }
+        return records;
+    }
+
+    private static String invokedMethodName(final String methodName) {
+        final int invocation = methodName.lastIndexOf(")[");
+        return invocation < 0 || !methodName.endsWith("]") ? methodName : methodName.substring(0, invocation + 1);
+    }
+
+    //As the JUnit Platform reports a method to Gradle, e.g. test_x(String, String).
+    private static String reportingName(final Method method) {
+        return method.getName() + Arrays.stream(method.getParameterTypes())
+                .map(Class::getSimpleName)
+                .collect(Collectors.joining(", ", "(", ")"));
+    }
+
+    private static long median(final Map<String, Record> records) {
+        if (records.isEmpty()) {
+            return 0L;
+        }
+        final List<Long> sorted = records.values().stream().map(record -> record.durationMillis).sorted()
+                .collect(Collectors.toList());
+        return sorted.get(sorted.size() / 2);
+    }
+
+    private static final class Record {
+
+        private long durationMillis;
+        private int recentFailures;
+
+        private Record(final long durationMillis, final int recentFailures) {
+            this.durationMillis = durationMillis;
+            this.recentFailures = recentFailures;
+        }
+
+        private Record add(final Record invocation) {
+            durationMillis += invocation.durationMillis;
+            recentFailures |= invocation.recentFailures;
+            return this;
+        }
+    }
+
+    //Read once, on the first class ordered.
+    private static final class History {
+
+        private static final TestHistory TEST_HISTORY = read();
+
+        private static TestHistory read() {
+            final String historyFile = System.getProperty("failFast.history");
+            if (Objects.isNull(historyFile) || historyFile.isBlank()) {
+                return new TestHistory();
+            }
+            try {
+                final TestHistory testHistory = TestHistory.read(Paths.get(historyFile));
+                log.debug("Acceptance test methods ordered by the history of " + historyFile);
+                return testHistory;
+            } catch (IOException | RuntimeException readException) {
+                log.warn("Acceptance test methods ordered without history, " + historyFile + " could not be read : "
+                        + readException);
+                return new TestHistory();
+            }
+        }
+    }
+}
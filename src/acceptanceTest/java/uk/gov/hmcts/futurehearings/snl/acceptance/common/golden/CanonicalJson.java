@@ -0,0 +1,132 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.common.golden;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+//A SHA-256 of a JSON document that two documents share when JSONAssert STRICT would find them equal: member order does
+//not count, array order does, and numbers are compared as doubles the way JSONAssert compares them (1, 1.0 and 1e0
+//hash alike, and so do two numbers that only differ beyond the precision of a double).
+//The document is hashed as it is parsed. Scalars and array elements go straight into the digest of the value holding
+//them, only the members of an object are digested apart so that they can be sorted, and an object keeps one digest per
+//member until it is closed, never the text of the member. One MessageDigest is reused per level of nesting.
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CanonicalJson {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final String ALGORITHM = "SHA-256";
+
+    public static byte[] hash(final InputStream document) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(document)) {
+            return hash(parser);
+        }
+    }
+
+    public static byte[] hash(final String document) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(document)) {
+            return hash(parser);
+        }
+    }
+
+    private static byte[] hash(final JsonParser parser) throws IOException {
+        if (Objects.isNull(parser.nextToken())) {
+            throw new IOException("The document is empty");
+        }
+        final List<MessageDigest> digests = new ArrayList<>();
+        value(parser, digest(digests, 0), digests, 0);
+        if (Objects.nonNull(parser.nextToken())) {
+            throw new IOException("The document has content after its root value at " + parser.getCurrentLocation());
+        }
+        return digests.get(0).digest();
+    }
+
+    //Feeds the value at the current token into the digest, each kind of value is tagged so that "1" and 1 differ.
+    private static void value(final JsonParser parser, final MessageDigest digest, final List<MessageDigest> digests,
+                              final int depth) throws IOException {
+        switch (parser.currentToken()) {
+            case START_OBJECT:
+                final List<Map.Entry<String, byte[]>> members = new ArrayList<>();
+                final MessageDigest memberDigest = digest(digests, depth + 1);
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    final String name = parser.getCurrentName();
+                    parser.nextToken();
+                    text(memberDigest, name);
+                    value(parser, memberDigest, digests, depth + 1);
+                    members.add(Map.entry(name, memberDigest.digest()));
+                }
+                members.sort(Map.Entry.comparingByKey(Comparator.naturalOrder()));
+                digest.update((byte) '{');
+                for (Map.Entry<String, byte[]> member : members) {
+                    digest.update(member.getValue());
+                }
+                digest.update((byte) '}');
+                break;
+            case START_ARRAY:
+                digest.update((byte) '[');
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    value(parser, digest, digests, depth);
+                }
+                digest.update((byte) ']');
+                break;
+            case VALUE_STRING:
+                digest.update((byte) 's');
+                text(digest, parser.getText());
+                break;
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                digest.update((byte) 'n');
+                text(digest, number(parser.getDoubleValue()));
+                break;
+            case VALUE_TRUE:
+                digest.update((byte) 't');
+                break;
+            case VALUE_FALSE:
+                digest.update((byte) 'f');
+                break;
+            case VALUE_NULL:
+                digest.update((byte) '0');
+                break;
+            default:
+                throw new IOException("Unexpected " + parser.currentToken() + " at " + parser.getCurrentLocation());
+        }
+    }
+
+    //-0.0 and 0.0 are the same number to JSONAssert.
+    private static String number(final double number) {
+        return number == 0 ? "0" : Double.toString(number);
+    }
+
+    //Length prefixed, so that no two sequences of strings feed the digest the same bytes.
+    private static void text(final MessageDigest digest, final String text) {
+        final byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        digest.update(new byte[] {(byte) (bytes.length >>> 24), (byte) (bytes.length >>> 16),
+            (byte) (bytes.length >>> 8), (byte) bytes.length});
+        digest.update(bytes);
+    }
+
+    private static MessageDigest digest(final List<MessageDigest> digests, final int depth) {
+        if (depth < digests.size()) {
+            return digests.get(depth);
+        }
+        try {
+            final MessageDigest digest = MessageDigest.getInstance(ALGORITHM);
+            digests.add(digest);
+            return digest;
+        } catch (NoSuchAlgorithmException noSuchAlgorithmException) {
+            throw new IllegalStateException(ALGORITHM + " is not available", noSuchAlgorithmException);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.common.golden;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.json.JSONException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.skyscreamer.jsonassert.JSONCompare;
+import org.skyscreamer.jsonassert.JSONCompareMode;
+
+//Each pair is checked against JSONAssert STRICT as well, the hash has to agree with it.
+@DisplayName("Canonical JSON hash agrees with JSONAssert STRICT")
+class CanonicalJsonTest {
+
+    @ParameterizedTest(name = "{0} and {1}")
+    @DisplayName("Documents JSONAssert STRICT finds equal hash alike")
+    @CsvSource(delimiter = '|', value = {
+        "{\"a\":1,\"b\":[true,null]}|{\"b\":[true,null],\"a\":1}",
+        "{\"a\":1}|{\"a\":1.0}",
+        "{\"a\":1}|{\"a\":1e0}",
+        "{\"a\":0}|{\"a\":-0.0}",
+        "{\"a\":12345678901234567890}|{\"a\":12345678901234567891}",
+        "{\"a\":0.1}|{\"a\":0.10000000000000000001}",
+        "{\"a\":{\"c\":\"x\",\"b\":[{\"e\":2,\"d\":1}]}}|{\"a\":{\"b\":[{\"d\":1,\"e\":2}],\"c\":\"x\"}}"
+    })
+    void test_equal_documents_hash_alike(final String expected, final String actual)
+            throws IOException, JSONException {
+        assertTrue(JSONCompare.compareJSON(expected, actual, JSONCompareMode.STRICT).passed());
+        assertArrayEquals(CanonicalJson.hash(expected), CanonicalJson.hash(actual));
+    }
+
+    @ParameterizedTest(name = "{0} and {1}")
+    @DisplayName("Documents JSONAssert STRICT finds different hash apart")
+    @CsvSource(delimiter = '|', value = {
+        "{\"a\":[1,2]}|{\"a\":[2,1]}",
+        "{\"a\":1}|{\"a\":\"1\"}",
+        "{\"a\":1}|{\"a\":1.5}",
+        "{\"a\":null}|{\"a\":false}",
+        "{\"a\":[[1],2]}|{\"a\":[[1,2]]}",
+        "{\"a\":[{}],\"b\":1}|{\"a\":[{\"b\":1}]}",
+        "{\"a\":{\"b\":1}}|{\"a\":{},\"b\":1}",
+        "{\"ab\":\"c\"}|{\"a\":\"bc\"}",
+        "{\"a\":1}|{\"a\":1,\"b\":1}"
+    })
+    void test_different_documents_hash_apart(final String expected, final String actual)
+            throws IOException, JSONException {
+        assertTrue(JSONCompare.compareJSON(expected, actual, JSONCompareMode.STRICT).failed());
+        assertFalse(Arrays.equals(CanonicalJson.hash(expected), CanonicalJson.hash(actual)));
+    }
+
+    @ParameterizedTest(name = "[{index}] \"{0}\"")
+    @DisplayName("An empty document or one with content after its root value is refused")
+    @ValueSource(strings = {"", " ", "{\"a\":1} {\"b\":2}"})
+    void test_malformed_document_refused(final String document) {
+        assertThrows(IOException.class, () -> CanonicalJson.hash(document));
+    }
+}
@@ -0,0 +1,68 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.common.golden;
+
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.template.PayloadTemplates;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.restassured.response.Response;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.json.JSONException;
+import org.skyscreamer.jsonassert.JSONCompare;
+import org.skyscreamer.jsonassert.JSONCompareMode;
+import org.skyscreamer.jsonassert.JSONCompareResult;
+
+//Expected response files compared by their CanonicalJson hash, each file hashed once per run. The response is hashed
+//from its input stream, and JSONAssert STRICT is only run for a response whose hash does not match. It has the last
+//word, so a golden file never fails where JSONAssert would have passed.
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class GoldenFiles {
+
+    private static final Map<String, byte[]> HASHES = new ConcurrentHashMap<>();
+
+    public static void assertMatches(final String expectedPayloadPath, final Response response) {
+        final boolean matches;
+        try (InputStream body = response.asInputStream()) {
+            matches = Arrays.equals(hash(expectedPayloadPath), CanonicalJson.hash(body));
+        } catch (IOException ioException) {
+            log.error("Payloads have not matched", ioException);
+            throw new AssertionError("Payloads have not matched : " + ioException.getMessage(), ioException);
+        }
+        if (matches) {
+            return;
+        }
+        final String difference = difference(expectedPayloadPath, response.getBody().asString());
+        if (Objects.nonNull(difference)) {
+            throw new AssertionError("Payloads have not matched : " + difference);
+        }
+        log.debug("The response differs from " + expectedPayloadPath + " only in ways JSONAssert ignores");
+    }
+
+    private static byte[] hash(final String expectedPayloadPath) throws IOException {
+        final byte[] cached = HASHES.get(expectedPayloadPath);
+        if (Objects.nonNull(cached)) {
+            return cached;
+        }
+        final byte[] hashed = CanonicalJson.hash(PayloadTemplates.get(expectedPayloadPath).text());
+        final byte[] raced = HASHES.putIfAbsent(expectedPayloadPath, hashed);
+        return Objects.nonNull(raced) ? raced : hashed;
+    }
+
+    //The JSONAssert STRICT message, null when it finds the documents equal.
+    private static String difference(final String expectedPayloadPath, final String actual) {
+        try {
+            final JSONCompareResult result = JSONCompare.compareJSON(
+                    PayloadTemplates.get(expectedPayloadPath).text(), actual, JSONCompareMode.STRICT);
+            return result.failed() ? result.getMessage() : null;
+        } catch (JSONException | IOException diffException) {
+            return diffException.getMessage();
+        }
+    }
+}
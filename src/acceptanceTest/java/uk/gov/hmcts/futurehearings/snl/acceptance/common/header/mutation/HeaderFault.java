@@ -0,0 +1,68 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.common.header.mutation;
+
+import java.util.List;
+import java.util.ListIterator;
+
+import io.restassured.http.Header;
+
+//The ways a header of an otherwise standard request can be broken.
+public enum HeaderFault {
+
+    NULL_VALUE {
+        @Override
+        void apply(final List<Header> headers, final String name, final String value) {
+            replace(headers, name, new Header(name, null));
+        }
+    },
+    EMPTY_VALUE {
+        @Override
+        void apply(final List<Header> headers, final String name, final String value) {
+            replace(headers, name, new Header(name, ""));
+        }
+    },
+    INVALID_VALUE {
+        @Override
+        void apply(final List<Header> headers, final String name, final String value) {
+            replace(headers, name, new Header(name, value));
+        }
+    },
+    //The last character of the key is cut off, as createHeaderWithCorruptedHeaderKey does.
+    TRUNCATED_KEY {
+        @Override
+        void apply(final List<Header> headers, final String name, final String value) {
+            final Header header = find(headers, name);
+            replace(headers, name, new Header(name.substring(0, name.length() - 1), header.getValue()));
+        }
+    },
+    REMOVED_KEY {
+        @Override
+        void apply(final List<Header> headers, final String name, final String value) {
+            headers.remove(find(headers, name));
+        }
+    },
+    //A second header of the same name, with the value given.
+    DUPLICATED {
+        @Override
+        void apply(final List<Header> headers, final String name, final String value) {
+            headers.add(new Header(name, value));
+        }
+    };
+
+    abstract void apply(List<Header> headers, String name, String value);
+
+    private static void replace(final List<Header> headers, final String name, final Header replacement) {
+        final ListIterator<Header> iterator = headers.listIterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getName().equals(name)) {
+                iterator.set(replacement);
+                return;
+            }
+        }
+        throw new IllegalArgumentException("No " + name + " header to break in " + headers);
+    }
+
+    private static Header find(final List<Header> headers, final String name) {
+        return headers.stream().filter(header -> header.getName().equals(name)).findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("No " + name + " header to break in " + headers));
+    }
+}
@@ -0,0 +1,38 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.common.header.mutation;
+
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.verify.dto.SNLVerificationDTO;
+
+import java.util.Objects;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+
+//One fault of one header and the error S&L answers it with.
+//Equality leaves the expectation out, so the same fault declared twice is only run once.
+@Getter(AccessLevel.PUBLIC)
+@Accessors(fluent = true)
+@EqualsAndHashCode(exclude = "expected")
+public class HeaderFaultSpec {
+
+    private final String headerName;
+    private final HeaderFault fault;
+    private final String value;
+    private final SNLVerificationDTO expected;
+
+    //An invalid value that is null or empty is the NULL_VALUE or EMPTY_VALUE fault.
+    HeaderFaultSpec(final String headerName, final HeaderFault fault, final String value,
+                    final SNLVerificationDTO expected) {
+        this.headerName = headerName;
+        this.fault = fault == HeaderFault.INVALID_VALUE && Objects.isNull(value) ? HeaderFault.NULL_VALUE
+                : fault == HeaderFault.INVALID_VALUE && value.isEmpty() ? HeaderFault.EMPTY_VALUE : fault;
+        this.value = this.fault == HeaderFault.INVALID_VALUE || this.fault == HeaderFault.DUPLICATED ? value : null;
+        this.expected = expected;
+    }
+
+    @Override
+    public String toString() {
+        return headerName + " " + fault + (Objects.isNull(value) ? "" : " '" + value + "'");
+    }
+}
@@ -0,0 +1,44 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.common.header.mutation;
+
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.verify.dto.SNLVerificationDTO;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+
+//One case of the matrix, the faults applied together to a standard header and the error expected back.
+//The first fault is the one S&L reports, the others are masked by it.
+@Getter(AccessLevel.PUBLIC)
+@Accessors(fluent = true)
+public class HeaderMutation {
+
+    private final List<HeaderFaultSpec> faults;
+
+    HeaderMutation(final List<HeaderFaultSpec> faults) {
+        this.faults = Collections.unmodifiableList(new ArrayList<>(faults));
+    }
+
+    public SNLVerificationDTO expected() {
+        return faults.get(0).expected();
+    }
+
+    public Headers headers(final Map<String, String> standardHeader) {
+        final List<Header> headers = new ArrayList<>(standardHeader.size() + 1);
+        standardHeader.forEach((name, value) -> headers.add(new Header(name, value)));
+        faults.forEach(fault -> fault.fault().apply(headers, fault.headerName(), fault.value()));
+        return new Headers(headers);
+    }
+
+    @Override
+    public String toString() {
+        return faults.stream().map(HeaderFaultSpec::toString).collect(Collectors.joining(" + "));
+    }
+}
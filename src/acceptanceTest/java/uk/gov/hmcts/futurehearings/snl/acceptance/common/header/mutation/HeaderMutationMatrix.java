@@ -0,0 +1,87 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.common.header.mutation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+
+//Every case of up to maximumFaults broken headers that a header specification can tell the answer of.
+//The headers are declared in the order S&L validates them, so a case is answered with the error of its first fault
+//and the later ones are masked. A masked fault is never looked at, whichever fault it is, so only which headers
+//are masked tells cases apart: a case is kept per first fault and set of masked headers, and the masked faults are
+//rotated through the declared ones rather than multiplied out.
+@Slf4j
+public class HeaderMutationMatrix {
+
+    private final List<HeaderMutation> cases;
+
+    private HeaderMutationMatrix(final List<HeaderMutation> cases) {
+        this.cases = Collections.unmodifiableList(cases);
+    }
+
+    public static HeaderMutationMatrix of(final List<HeaderSpec> headers, final int maximumFaults) {
+        if (maximumFaults < 1) {
+            throw new IllegalArgumentException("A case needs at least one fault, not " + maximumFaults);
+        }
+        final List<List<HeaderFaultSpec>> broken = headers.stream()
+                .map(HeaderSpec::faultList)
+                .filter(faults -> !faults.isEmpty())
+                .collect(Collectors.toList());
+        final List<HeaderMutation> cases = new ArrayList<>();
+        for (int header = 0; header < broken.size(); header++) {
+            final List<HeaderFaultSpec> faults = broken.get(header);
+            for (int rotation = 0; rotation < faults.size(); rotation++) {
+                final List<HeaderFaultSpec> mutation = new ArrayList<>(maximumFaults);
+                mutation.add(faults.get(rotation));
+                mask(broken, header + 1, rotation, maximumFaults, mutation, cases);
+            }
+        }
+        return new HeaderMutationMatrix(cases);
+    }
+
+    private static void mask(final List<List<HeaderFaultSpec>> broken, final int fromHeader, final int rotation,
+                             final int maximumFaults, final List<HeaderFaultSpec> mutation,
+                             final List<HeaderMutation> cases) {
+        cases.add(new HeaderMutation(mutation));
+        if (mutation.size() == maximumFaults) {
+            return;
+        }
+        for (int header = fromHeader; header < broken.size(); header++) {
+            final List<HeaderFaultSpec> faults = broken.get(header);
+            mutation.add(faults.get(rotation % faults.size()));
+            mask(broken, header + 1, rotation, maximumFaults, mutation, cases);
+            mutation.remove(mutation.size() - 1);
+        }
+    }
+
+    public List<HeaderMutation> cases() {
+        return cases;
+    }
+
+    //Waits for every case, then fails with each case that was not answered as expected.
+    public static void awaitAll(final Map<HeaderMutation, CompletableFuture<Response>> verifiedResponses) {
+        final List<String> failures = new ArrayList<>();
+        verifiedResponses.forEach((mutation, verifiedResponse) -> {
+            try {
+                verifiedResponse.join();
+            } catch (CompletionException completionException) {
+                final Throwable cause = Objects.isNull(completionException.getCause())
+                        ? completionException : completionException.getCause();
+                failures.add(mutation + " : " + cause.getMessage());
+            }
+        });
+        log.debug(verifiedResponses.size() + " header fault cases run, " + failures.size() + " failed");
+        if (!failures.isEmpty()) {
+            throw new AssertionError(failures.size() + " of " + verifiedResponses.size()
+                    + " header fault cases were not answered as expected" + System.lineSeparator()
+                    + String.join(System.lineSeparator(), failures));
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.common.header.mutation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.verify.dto.SNLVerificationDTO;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+@DisplayName("Header fault cases pruned to one per first fault and set of masked headers")
+class HeaderMutationMatrixTest {
+
+    private static final SNLVerificationDTO A_EXPECTED = error(HttpStatus.NOT_ACCEPTABLE, "A");
+    private static final SNLVerificationDTO C_EXPECTED = error(HttpStatus.BAD_REQUEST, "C");
+    private static final SNLVerificationDTO D_EXPECTED = error(HttpStatus.BAD_REQUEST, "D");
+
+    //B has no faults, so it is left as it is in every case.
+    private static final List<HeaderSpec> HEADERS = List.of(
+            HeaderSpec.header("A").invalidValues(A_EXPECTED, "a1", "a2"),
+            HeaderSpec.header("B"),
+            HeaderSpec.header("C").invalidValues(C_EXPECTED, "c1", "c2", "c3"),
+            HeaderSpec.header("D").fault(HeaderFault.NULL_VALUE, D_EXPECTED));
+
+    @Test
+    @DisplayName("With one fault a case, every declared fault is a case of its own")
+    void test_single_faults() {
+        assertEquals(List.of("a1", "a2", "c1", "c2", "c3", "D"), cases(1));
+    }
+
+    @Test
+    @DisplayName("Each first fault masks every later header once, its masked faults rotated through the declared ones")
+    void test_masked_faults_rotated() {
+        assertEquals(List.of(
+                "a1", "a1 + c1", "a1 + D",
+                "a2", "a2 + c2", "a2 + D",
+                "c1", "c1 + D",
+                "c2", "c2 + D",
+                "c3", "c3 + D",
+                "D"), cases(2));
+    }
+
+    @Test
+    @DisplayName("Masked headers are combined up to maximumFaults, the rotation wraps round a header of fewer faults")
+    void test_masked_headers_combined() {
+        assertEquals(List.of(
+                "a1", "a1 + c1", "a1 + c1 + D", "a1 + D",
+                "a2", "a2 + c2", "a2 + c2 + D", "a2 + D",
+                "c1", "c1 + D",
+                "c2", "c2 + D",
+                "c3", "c3 + D",
+                "D"), cases(3));
+        assertEquals(cases(3), cases(10));
+    }
+
+    @Test
+    @DisplayName("A case is expected to be answered with the error of its first fault")
+    void test_expected_from_first_fault() {
+        final Map<String, SNLVerificationDTO> expected = HeaderMutationMatrix.of(HEADERS, 3).cases().stream()
+                .collect(Collectors.toMap(HeaderMutationMatrixTest::name, HeaderMutation::expected));
+
+        assertEquals(A_EXPECTED, expected.get("a2 + c2 + D"));
+        assertEquals(C_EXPECTED, expected.get("c3 + D"));
+        assertEquals(D_EXPECTED, expected.get("D"));
+    }
+
+    @Test
+    @DisplayName("A case needs at least one fault")
+    void test_no_faults_refused() {
+        assertThrows(IllegalArgumentException.class, () -> HeaderMutationMatrix.of(HEADERS, 0));
+    }
+
+    //The answers the header tests of SNLCommonHeaderTest expect, one fault at a time.
+    @Test
+    @DisplayName("The single faults of the S&L header specification are answered as the header tests expect")
+    void test_snl_single_faults_agree_with_header_tests() {
+        final Map<String, SNLVerificationDTO> expected = new LinkedHashMap<>();
+        final SNLVerificationDTO acceptExpected = error(HttpStatus.NOT_ACCEPTABLE,
+                "Expected header 'Accept=application/json'");
+        expected.put("Accept TRUNCATED_KEY", acceptExpected);
+        expected.put("Accept REMOVED_KEY", acceptExpected);
+        expected.put("Accept EMPTY_VALUE", acceptExpected);
+        for (String value : List.of("Random", "application/pdf", "application/text")) {
+            expected.put("Accept INVALID_VALUE '" + value + "'",
+                    error(HttpStatus.NOT_ACCEPTABLE, "HTTP 406 Not Acceptable"));
+        }
+        final SNLVerificationDTO sourceSystemExpected = error(HttpStatus.BAD_REQUEST,
+                "Expected header 'Source-System' must only contain alphanumeric characters");
+        expected.put("Source-System NULL_VALUE", sourceSystemExpected);
+        expected.put("Source-System TRUNCATED_KEY", sourceSystemExpected);
+        expected.put("Source-System INVALID_VALUE 'S&amp;L'", sourceSystemExpected);
+        final SNLVerificationDTO destinationSystemExpected = error(HttpStatus.BAD_REQUEST,
+                "Expected header 'Destination-System'='SNL'");
+        expected.put("Destination-System NULL_VALUE", destinationSystemExpected);
+        expected.put("Destination-System INVALID_VALUE 'S&amp;L'", destinationSystemExpected);
+        expected.put("Destination-System INVALID_VALUE 'CfT'", destinationSystemExpected);
+        final SNLVerificationDTO requestCreatedAtExpected = error(HttpStatus.BAD_REQUEST,
+                "Expected header 'Request-Created-At'");
+        expected.put("Request-Created-At NULL_VALUE", requestCreatedAtExpected);
+        expected.put("Request-Created-At TRUNCATED_KEY", requestCreatedAtExpected);
+        for (String value : List.of(" ", "2002-02-31T1000:30-05:00", "2002-02-31T10:00-30-05:00",
+                "2002-10-02T15:00:00*05Z", "2002-10-02T15:00?0005Z", "2002-10-02 15:00:00Z", "2002-10-02T15:00:00",
+                "2002-10-02T15:00:00.05Z", "2019-10-12 07:20:50.52Z")) {
+            expected.put("Request-Created-At INVALID_VALUE '" + value + "'", error(HttpStatus.BAD_REQUEST,
+                    "Expected header 'Request-Created-At' must be in RFC 3339 format (yyyy-MM-dd'T'HH:mm:ssXXX)"));
+        }
+
+        final Map<String, SNLVerificationDTO> specified = new LinkedHashMap<>();
+        HeaderMutationMatrix.of(SNLHeaderSpecification.HEADERS, 1).cases()
+                .forEach(headerMutation -> specified.put(headerMutation.toString(), headerMutation.expected()));
+
+        assertEquals(expected, specified);
+    }
+
+    private static List<String> cases(final int maximumFaults) {
+        return HeaderMutationMatrix.of(HEADERS, maximumFaults).cases().stream()
+                .map(HeaderMutationMatrixTest::name)
+                .collect(Collectors.toList());
+    }
+
+    //A fault by its invalid value, or by its header when it has none.
+    private static String name(final HeaderMutation headerMutation) {
+        return headerMutation.faults().stream()
+                .map(fault -> fault.fault() == HeaderFault.INVALID_VALUE ? fault.value() : fault.headerName())
+                .collect(Collectors.joining(" + "));
+    }
+
+    private static SNLVerificationDTO error(final HttpStatus httpStatus, final String errorDescription) {
+        return new SNLVerificationDTO(httpStatus, "9999", errorDescription, null);
+    }
+}
@@ -0,0 +1,49 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.common.header.mutation;
+
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.verify.dto.SNLVerificationDTO;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+//A header of the standard request and the faults of it whose answer from S&L is known.
+//A header without faults is left as it is in every case.
+public class HeaderSpec {
+
+    private final String name;
+    private final Set<HeaderFaultSpec> faults = new LinkedHashSet<>();
+
+    private HeaderSpec(final String name) {
+        this.name = name;
+    }
+
+    public static HeaderSpec header(final String name) {
+        return new HeaderSpec(name);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public HeaderSpec fault(final HeaderFault fault, final SNLVerificationDTO expected) {
+        return fault(fault, null, expected);
+    }
+
+    public HeaderSpec fault(final HeaderFault fault, final String value, final SNLVerificationDTO expected) {
+        faults.add(new HeaderFaultSpec(name, fault, value, expected));
+        return this;
+    }
+
+    public HeaderSpec invalidValues(final SNLVerificationDTO expected, final String... values) {
+        for (String value : values) {
+            fault(HeaderFault.INVALID_VALUE, value, expected);
+        }
+        return this;
+    }
+
+    List<HeaderFaultSpec> faultList() {
+        return Collections.unmodifiableList(new ArrayList<>(faults));
+    }
+}
@@ -0,0 +1,100 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.common.header.template;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+
+//The headers of one profile (standard, complete, all null...) built once per run. Only transactionIdHMCTS changes
+//from request to request, so a request holds the template and its own transaction id, and is sent with the Header
+//objects of the template rather than a map copied into a new list of headers.
+public final class HeaderTemplate {
+
+    static final String TRANSACTION_ID_HMCTS = "transactionIdHMCTS";
+
+    private final String[] names;
+    private final String[] values;
+    private final Header[] headers;
+    private final int transactionIdSlot;
+    private final TemplatedHeaderMap defaultHeaderMap;
+    private final Headers defaultHeaders;
+
+    private HeaderTemplate(final Map<String, String> headerMap) {
+        names = headerMap.keySet().toArray(new String[0]);
+        values = new String[names.length];
+        headers = new Header[names.length];
+        int slot = -1;
+        for (int index = 0; index < names.length; index++) {
+            values[index] = headerMap.get(names[index]);
+            headers[index] = new Header(names[index], values[index]);
+            if (TRANSACTION_ID_HMCTS.equals(names[index])) {
+                slot = index;
+            }
+        }
+        transactionIdSlot = slot;
+        defaultHeaderMap = new TemplatedHeaderMap(this, slot < 0 ? null : values[slot]);
+        defaultHeaders = new Headers(Arrays.asList(headers));
+    }
+
+    //The transactionIdHMCTS of the map, if any, is the default value of the slot.
+    public static HeaderTemplate of(final Map<String, String> headerMap) {
+        return new HeaderTemplate(headerMap);
+    }
+
+    //The headers exactly as the template was built, shared by every caller.
+    public Map<String, String> headerMap() {
+        return defaultHeaderMap;
+    }
+
+    public Map<String, String> headerMap(final String transactionIdHMCTS) {
+        if (transactionIdSlot < 0) {
+            throw new IllegalStateException("The template has no " + TRANSACTION_ID_HMCTS + " header");
+        }
+        return new TemplatedHeaderMap(this, transactionIdHMCTS);
+    }
+
+    //A map of a template goes straight to the headers of the template, any other map is copied header by header.
+    public static Headers restAssuredHeaders(final Map<String, String> headerMap) {
+        if (headerMap instanceof TemplatedHeaderMap) {
+            final TemplatedHeaderMap templatedHeaderMap = (TemplatedHeaderMap) headerMap;
+            return templatedHeaderMap.template().restAssuredHeaders(templatedHeaderMap.transactionIdHMCTS());
+        }
+        final List<Header> listOfHeaders = new ArrayList<>(headerMap.size());
+        headerMap.forEach((key, value) -> listOfHeaders.add(new Header(key, value)));
+        return new Headers(listOfHeaders);
+    }
+
+    private Headers restAssuredHeaders(final String transactionIdHMCTS) {
+        if (transactionIdSlot < 0 || Objects.equals(values[transactionIdSlot], transactionIdHMCTS)) {
+            return defaultHeaders;
+        }
+        final Header[] requestHeaders = headers.clone();
+        requestHeaders[transactionIdSlot] = new Header(TRANSACTION_ID_HMCTS, transactionIdHMCTS);
+        return new Headers(Arrays.asList(requestHeaders));
+    }
+
+    int size() {
+        return names.length;
+    }
+
+    String name(final int index) {
+        return names[index];
+    }
+
+    String value(final int index, final String transactionIdHMCTS) {
+        return index == transactionIdSlot ? transactionIdHMCTS : values[index];
+    }
+
+    int indexOf(final Object name) {
+        for (int index = 0; index < names.length; index++) {
+            if (names[index].equals(name)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+}
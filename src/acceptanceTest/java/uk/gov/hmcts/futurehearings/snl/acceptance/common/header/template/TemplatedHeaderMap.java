@@ -0,0 +1,76 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.common.header.template;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+//The read only header map of one request, the headers of its template with its own transactionIdHMCTS.
+final class TemplatedHeaderMap extends AbstractMap<String, String> {
+
+    private final HeaderTemplate template;
+    private final String transactionIdHMCTS;
+
+    TemplatedHeaderMap(final HeaderTemplate template, final String transactionIdHMCTS) {
+        this.template = template;
+        this.transactionIdHMCTS = transactionIdHMCTS;
+    }
+
+    HeaderTemplate template() {
+        return template;
+    }
+
+    String transactionIdHMCTS() {
+        return transactionIdHMCTS;
+    }
+
+    @Override
+    public int size() {
+        return template.size();
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return template.indexOf(key) >= 0;
+    }
+
+    @Override
+    public String get(final Object key) {
+        final int index = template.indexOf(key);
+        return index < 0 ? null : template.value(index, transactionIdHMCTS);
+    }
+
+    @Override
+    public Set<Map.Entry<String, String>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Map.Entry<String, String>> iterator() {
+                return new Iterator<>() {
+                    private int index;
+
+                    @Override
+                    public boolean hasNext() {
+                        return index < template.size();
+                    }
+
+                    @Override
+                    public Map.Entry<String, String> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        final int current = index++;
+                        return new AbstractMap.SimpleImmutableEntry<>(template.name(current),
+                                template.value(current, transactionIdHMCTS));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return template.size();
+            }
+        };
+    }
+}
@@ -8,10 +8,14 @@ import static uk.gov.hmcts.futurehearings.snl.acceptance.common.header.dto.facto
 import static uk.gov.hmcts.futurehearings.snl.acceptance.common.header.dto.factory.PayloadHeaderDTOFactory.convertToMapWithMandatoryHeaders;
 import static uk.gov.hmcts.futurehearings.snl.acceptance.common.header.dto.factory.PayloadHeaderDTOFactory.convertToRestAssuredHeaderRequiredHeaders;
 
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.header.template.HeaderTemplate;
+
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import io.restassured.http.Headers;
 import org.springframework.http.MediaType;
@@ -21,30 +25,49 @@ public class CommonHeaderHelper {
     private static final String SNL_DESTINATION_SYSTEM = "SNL";
     private static final String DESTINATION_SYSTEM = SNL_DESTINATION_SYSTEM;
 
+    //Built once, a request only brings its own transactionIdHMCTS, see HeaderTemplate.
+    private static final HeaderTemplate COMPLETE_HEADER = HeaderTemplate.of(buildHeaderWithValues(
+            MediaType.APPLICATION_JSON_VALUE,
+            MediaType.APPLICATION_JSON_VALUE,
+            "no-cache",
+            null,
+            "2012-03-19T07:22:00Z",
+            "2012-03-19T07:22:00Z",
+            "CFT",
+            DESTINATION_SYSTEM,
+            null));
+    private static final HeaderTemplate STANDARD_HEADER = standardHeader("CFT", DESTINATION_SYSTEM);
+    private static final HeaderTemplate ALL_VALUES_NULL_HEADER = HeaderTemplate.of(buildHeaderWithValues(
+            MediaType.APPLICATION_JSON_VALUE,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null));
+    private static final HeaderTemplate ALL_VALUES_EMPTY_HEADER = HeaderTemplate.of(buildHeaderWithValues(
+            MediaType.APPLICATION_JSON_VALUE,
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            ""));
+    private static final Map<String, HeaderTemplate> SOURCE_SYSTEM_HEADERS = new ConcurrentHashMap<>();
+    private static final Map<String, HeaderTemplate> DESTINATION_SYSTEM_HEADERS = new ConcurrentHashMap<>();
+
     public static final Map<String, String> createCompletePayloadHeader() {
 
-        return buildHeaderWithValues(MediaType.APPLICATION_JSON_VALUE,
-                MediaType.APPLICATION_JSON_VALUE,
-                "no-cache",
-                null,
-                "2012-03-19T07:22:00Z",
-                "2012-03-19T07:22:00Z",
-                "CFT",
-                DESTINATION_SYSTEM,
-                UUID.randomUUID().toString()
-        );
+        return COMPLETE_HEADER.headerMap(UUID.randomUUID().toString());
     }
 
     public static final Map<String, String> createStandardPayloadHeader() {
 
-        return buildHeaderWithValues(MediaType.APPLICATION_JSON_VALUE,
-                MediaType.APPLICATION_JSON_VALUE,
-                "2012-03-19T07:22:00Z",
-                "2012-03-19T07:22:00Z",
-                "CFT",
-                DESTINATION_SYSTEM,
-                UUID.randomUUID().toString()
-        );
+        return STANDARD_HEADER.headerMap(UUID.randomUUID().toString());
     }
 
     public static final Headers createStandardPayloadHeaderWithDuplicateValues(Map<String, String> duplicateHeaderValues) {
@@ -64,30 +87,12 @@ public class CommonHeaderHelper {
 
     public static final Map<String, String> createHeaderWithAllValuesNull() {
 
-        return buildHeaderWithValues(MediaType.APPLICATION_JSON_VALUE,
-                null,
-                null,
-                null,
-                null,
-                null,
-                null,
-                null,
-                null
-        );
+        return ALL_VALUES_NULL_HEADER.headerMap();
     }
 
     public static final Map<String, String> createHeaderWithAllValuesEmpty() {
 
-        return buildHeaderWithValues(MediaType.APPLICATION_JSON_VALUE,
-                "",
-                "",
-                "",
-                "",
-                "",
-                "",
-                "",
-                ""
-        );
+        return ALL_VALUES_EMPTY_HEADER.headerMap();
     }
 
     public static final Map<String, String> createHeaderWithCorruptedHeaderKey(final List<String> headersToBeTruncated) {
@@ -118,26 +123,18 @@ public class CommonHeaderHelper {
 
     public static Map<String, String> createHeaderWithSourceSystemValue(final String sourceSystem) {
 
-        return buildHeaderWithValues(MediaType.APPLICATION_JSON_VALUE,
-                MediaType.APPLICATION_JSON_VALUE,
-                "2012-03-19T07:22:00Z",
-                "2012-03-19T07:22:00Z",
-                sourceSystem,
-                DESTINATION_SYSTEM,
-                UUID.randomUUID().toString()
-        );
+        final HeaderTemplate sourceSystemHeader = Objects.isNull(sourceSystem)
+                ? standardHeader(null, DESTINATION_SYSTEM)
+                : SOURCE_SYSTEM_HEADERS.computeIfAbsent(sourceSystem, key -> standardHeader(key, DESTINATION_SYSTEM));
+        return sourceSystemHeader.headerMap(UUID.randomUUID().toString());
     }
 
     public static Map<String, String> createHeaderWithDestinationSystemValue(final String destinationSystem) {
 
-        return buildHeaderWithValues(MediaType.APPLICATION_JSON_VALUE,
-                MediaType.APPLICATION_JSON_VALUE,
-                "2012-03-19T07:22:00Z",
-                "2012-03-19T07:22:00Z",
-                "CFT",
-                destinationSystem,
-                UUID.randomUUID().toString()
-        );
+        final HeaderTemplate destinationSystemHeader = Objects.isNull(destinationSystem)
+                ? standardHeader("CFT", null)
+                : DESTINATION_SYSTEM_HEADERS.computeIfAbsent(destinationSystem, key -> standardHeader("CFT", key));
+        return destinationSystemHeader.headerMap(UUID.randomUUID().toString());
     }
 
     public static Map<String, String> createHeaderWithRequestCreatedAtSystemValue(final String requestCreatedAt) {
@@ -166,14 +163,7 @@ public class CommonHeaderHelper {
 
     public static Map<String, String> createHeaderWithTransactionIdHMCTSAtSystemValue(final String transactionIdHMCTS) {
 
-        return buildHeaderWithValues(MediaType.APPLICATION_JSON_VALUE,
-                MediaType.APPLICATION_JSON_VALUE,
-                "2012-03-19T07:22:00Z",
-                "2012-03-19T07:22:00Z",
-                "CFT",
-                DESTINATION_SYSTEM,
-                transactionIdHMCTS
-        );
+        return STANDARD_HEADER.headerMap(transactionIdHMCTS);
     }
 
     public static Map<String, String> createHeaderWithAcceptTypeAtSystemValue(final String acceptType) {
@@ -213,6 +203,16 @@ public class CommonHeaderHelper {
         return Collections.unmodifiableMap(headers);
     }
 
+    private static HeaderTemplate standardHeader(final String sourceSystem, final String destinationSystem) {
+        return HeaderTemplate.of(buildHeaderWithValues(MediaType.APPLICATION_JSON_VALUE,
+                MediaType.APPLICATION_JSON_VALUE,
+                "2012-03-19T07:22:00Z",
+                "2012-03-19T07:22:00Z",
+                sourceSystem,
+                destinationSystem,
+                null));
+    }
+
     private static Map<String, String> buildHeaderWithValues(final String contentType,
                                                              final String acceptType,
                                                              final String requestCreatedDate,
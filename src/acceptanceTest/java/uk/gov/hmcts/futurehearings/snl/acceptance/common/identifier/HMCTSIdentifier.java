@@ -0,0 +1,24 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.common.identifier;
+
+//The identifiers the S&L schemas key their resources on, with their maxLength.
+public enum HMCTSIdentifier {
+
+    LOCATION_ID_HMCTS(8),
+    CASE_LISTING_REQUEST_ID(10),
+    CASE_ID_HMCTS(30),
+    PERSON_ID_HMCTS(100);
+
+    private final int maxLength;
+
+    HMCTSIdentifier(final int maxLength) {
+        this.maxLength = maxLength;
+    }
+
+    public int maxLength() {
+        return maxLength;
+    }
+
+    public String next() {
+        return UniqueIds.next(maxLength);
+    }
+}
@@ -0,0 +1,73 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.common.identifier;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+//Identifiers that are unique for the run without a lock or a SecureRandom call: a node character followed by a
+//millisecond clock that never hands out the same tick twice, in base 36 and cut to the length of the field.
+//The clock starts from the wall clock, so a later run on the same node does not repeat the ticks of an earlier one
+//unless that run allocated more than a thousand identifiers a second on average.
+//Runs that overlap set -DuniqueIds.node=<0-9 or A-Z> each, as the shards of ./gradlew acceptance -Pshard do.
+//Otherwise the node is derived from the host name and process id, so concurrent runs share a node (and may collide)
+//only when those hash to the same one of the 36 nodes.
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class UniqueIds {
+
+    private static final String NODE_PROPERTY = "uniqueIds.node";
+    private static final String DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+    private static final long EPOCH_MILLIS = Instant.parse("2021-01-01T00:00:00Z").toEpochMilli();
+    //13 base 36 digits hold any long.
+    private static final int MAXIMUM_TICK_DIGITS = 13;
+
+    private static final char NODE = node(System.getProperty(NODE_PROPERTY));
+    private static final AtomicLong CLOCK = new AtomicLong();
+
+    //At most maxLength characters. With 8 characters the tick repeats after about two and a half years.
+    public static String next(final int maxLength) {
+        if (maxLength < 2) {
+            throw new IllegalArgumentException("An identifier needs at least 2 characters, not " + maxLength);
+        }
+        final long now = System.currentTimeMillis() - EPOCH_MILLIS;
+        final long tick = CLOCK.accumulateAndGet(now, (last, wallClock) -> Math.max(last + 1, wallClock));
+        final int digits = Math.min(maxLength - 1, MAXIMUM_TICK_DIGITS);
+        final char[] identifier = new char[digits + 1];
+        identifier[0] = NODE;
+        long remaining = tick;
+        for (int index = digits; index > 0; index--) {
+            identifier[index] = DIGITS.charAt((int) Long.remainderUnsigned(remaining, DIGITS.length()));
+            remaining = Long.divideUnsigned(remaining, DIGITS.length());
+        }
+        return new String(identifier);
+    }
+
+    static char node(final String configured) {
+        if (Objects.isNull(configured)) {
+            final String processName = processName();
+            final char derived = DIGITS.charAt(Math.floorMod(processName.hashCode(), DIGITS.length()));
+            log.debug(NODE_PROPERTY + " not set, node " + derived + " derived from " + processName);
+            return derived;
+        }
+        if (configured.length() != 1 || DIGITS.indexOf(Character.toUpperCase(configured.charAt(0))) < 0) {
+            throw new IllegalArgumentException(NODE_PROPERTY + " must be a single character of " + DIGITS + ", not " + configured);
+        }
+        return Character.toUpperCase(configured.charAt(0));
+    }
+
+    private static String processName() {
+        String hostName;
+        try {
+            hostName = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException unknownHostException) {
+            hostName = Objects.toString(System.getenv("HOSTNAME"), "localhost");
+        }
+        return hostName + "/" + ProcessHandle.current().pid();
+    }
+}
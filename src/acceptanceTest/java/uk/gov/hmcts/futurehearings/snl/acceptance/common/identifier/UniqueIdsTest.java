@@ -0,0 +1,99 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.common.identifier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@DisplayName("Identifiers unique for the run, from a node and a millisecond clock")
+class UniqueIdsTest {
+
+    //Kept small, every identifier moves the clock of the run a millisecond further ahead of the wall clock.
+    private static final int THREADS = 4;
+    private static final int IDENTIFIERS_PER_THREAD = 2_500;
+
+    @Test
+    @DisplayName("Concurrent callers never get the same tick, and each caller gets increasing ticks")
+    void test_ticks_unique_and_increasing_under_concurrent_callers() throws Exception {
+        final ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        try {
+            final List<Callable<List<String>>> callers = new ArrayList<>();
+            for (int caller = 0; caller < THREADS; caller++) {
+                callers.add(() -> {
+                    final List<String> identifiers = new ArrayList<>(IDENTIFIERS_PER_THREAD);
+                    for (int i = 0; i < IDENTIFIERS_PER_THREAD; i++) {
+                        identifiers.add(UniqueIds.next(14));
+                    }
+                    return identifiers;
+                });
+            }
+            final Set<String> unique = new HashSet<>();
+            for (Future<List<String>> identifiers : executorService.invokeAll(callers, 1, TimeUnit.MINUTES)) {
+                String previous = "";
+                for (String identifier : identifiers.get()) {
+                    //Fixed width base 36 digits, so the text order is the tick order.
+                    assertTrue(identifier.compareTo(previous) > 0, identifier + " after " + previous);
+                    previous = identifier;
+                    unique.add(identifier);
+                }
+            }
+            assertEquals(THREADS * IDENTIFIERS_PER_THREAD, unique.size());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @ParameterizedTest(name = "maxLength {0}")
+    @DisplayName("An identifier is cut to maxLength, at most a node and 13 tick digits")
+    @ValueSource(ints = {2, 8, 10, 14, 20, 100})
+    void test_identifier_cut_to_max_length(final int maxLength) {
+        final String identifier = UniqueIds.next(maxLength);
+
+        assertEquals(Math.min(maxLength, 14), identifier.length());
+        assertTrue(identifier.matches("[0-9A-Z]+"), identifier);
+    }
+
+    @Test
+    @DisplayName("An identifier needs a node and at least one tick digit")
+    void test_max_length_below_two_refused() {
+        assertThrows(IllegalArgumentException.class, () -> UniqueIds.next(1));
+    }
+
+    @Test
+    @DisplayName("A configured node is a single base 36 digit, upper cased")
+    void test_configured_node() {
+        assertEquals('7', UniqueIds.node("7"));
+        assertEquals('P', UniqueIds.node("p"));
+        assertEquals('Z', UniqueIds.node("Z"));
+    }
+
+    @ParameterizedTest(name = "\"{0}\"")
+    @DisplayName("A configured node that is not a single base 36 digit is refused")
+    @ValueSource(strings = {"", "AB", "12", "#", "-", "é"})
+    void test_invalid_node_refused(final String configured) {
+        assertThrows(IllegalArgumentException.class, () -> UniqueIds.node(configured));
+    }
+
+    @Test
+    @DisplayName("Without a configured node one is derived from the host and process, the same for the whole process")
+    void test_derived_node() {
+        final char derived = UniqueIds.node(null);
+
+        assertTrue("0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ".indexOf(derived) >= 0);
+        assertEquals(derived, UniqueIds.node(null));
+    }
+}
@@ -0,0 +1,189 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.common.payload;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ContainerNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+//A base document shared by every test plus the JSON Pointer (RFC 6901) mutations applied over it.
+//Instances are immutable, each mutation returns a new payload. The base is never modified: when the payload is
+//serialised only the containers on the path to a mutated value are copied, everything else is shared.
+public final class JsonPayload {
+
+    static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final JsonNode base;
+    private final List<Mutation> mutations;
+
+    private JsonPayload(final JsonNode base, final List<Mutation> mutations) {
+        this.base = base;
+        this.mutations = mutations;
+    }
+
+    public static JsonPayload of(final JsonNode base) {
+        return new JsonPayload(base, Collections.emptyList());
+    }
+
+    //Replaces the value at the pointer, or adds the member when the parent object does not have it yet.
+    public JsonPayload set(final String pointer, final Object value) {
+        return with(new Mutation(Operation.SET, pointer, toNode(value)));
+    }
+
+    public JsonPayload remove(final String pointer) {
+        return with(new Mutation(Operation.REMOVE, pointer, null));
+    }
+
+    //Inserts into an array before the index (or at the end for "-"), adds the member to an object.
+    public JsonPayload insert(final String pointer, final Object value) {
+        return with(new Mutation(Operation.INSERT, pointer, toNode(value)));
+    }
+
+    //Shares its unchanged parts with the base, it must not be modified.
+    public JsonNode toJsonNode() {
+        JsonNode document = base;
+        for (Mutation mutation : mutations) {
+            document = mutation.applyTo(document);
+        }
+        return document;
+    }
+
+    @Override
+    public String toString() {
+        try {
+            return OBJECT_MAPPER.writeValueAsString(toJsonNode());
+        } catch (JsonProcessingException processingException) {
+            throw new IllegalStateException("The payload could not be serialised", processingException);
+        }
+    }
+
+    private JsonPayload with(final Mutation mutation) {
+        final List<Mutation> extended = new ArrayList<>(mutations.size() + 1);
+        extended.addAll(mutations);
+        extended.add(mutation);
+        return new JsonPayload(base, Collections.unmodifiableList(extended));
+    }
+
+    private static JsonNode toNode(final Object value) {
+        return value instanceof JsonNode ? (JsonNode) value : OBJECT_MAPPER.valueToTree(value);
+    }
+
+    private enum Operation {
+        SET, REMOVE, INSERT
+    }
+
+    private static final class Mutation {
+
+        private final Operation operation;
+        private final String pointer;
+        private final List<String> tokens;
+        private final JsonNode value;
+
+        private Mutation(final Operation operation, final String pointer, final JsonNode value) {
+            this.operation = operation;
+            this.pointer = pointer;
+            this.value = value;
+            this.tokens = new ArrayList<>();
+            for (JsonPointer remaining = JsonPointer.compile(pointer); !remaining.matches(); remaining = remaining.tail()) {
+                tokens.add(remaining.getMatchingProperty());
+            }
+            if (tokens.isEmpty() && operation != Operation.SET) {
+                throw new IllegalArgumentException("The whole document can only be replaced, not " + operation);
+            }
+        }
+
+        private JsonNode applyTo(final JsonNode document) {
+            if (tokens.isEmpty()) {
+                return value;
+            }
+            return applyTo(document, 0);
+        }
+
+        private JsonNode applyTo(final JsonNode node, final int depth) {
+            final String token = tokens.get(depth);
+            if (!node.isContainerNode()) {
+                throw new IllegalArgumentException(pointer + " : " + token + " has no parent object or array");
+            }
+            final ContainerNode<?> copy = shallowCopy(node);
+            if (depth == tokens.size() - 1) {
+                applyAt(copy, token);
+            } else {
+                final JsonNode child = child(node, token);
+                replace(copy, token, applyTo(child, depth + 1));
+            }
+            return copy;
+        }
+
+        private void applyAt(final ContainerNode<?> parent, final String token) {
+            if (parent.isObject()) {
+                final ObjectNode object = (ObjectNode) parent;
+                if (operation == Operation.REMOVE) {
+                    if (!object.has(token)) {
+                        throw new IllegalArgumentException(pointer + " : nothing to remove");
+                    }
+                    object.remove(token);
+                } else {
+                    object.set(token, value);
+                }
+                return;
+            }
+            final ArrayNode array = (ArrayNode) parent;
+            if (operation == Operation.INSERT) {
+                if ("-".equals(token)) {
+                    array.add(value);
+                } else {
+                    array.insert(index(array, token, array.size()), value);
+                }
+            } else if (operation == Operation.SET) {
+                array.set(index(array, token, array.size() - 1), value);
+            } else {
+                array.remove(index(array, token, array.size() - 1));
+            }
+        }
+
+        private JsonNode child(final JsonNode node, final String token) {
+            final JsonNode child = node.isObject() ? node.get(token) : node.get(index((ArrayNode) node, token, node.size() - 1));
+            if (Objects.isNull(child)) {
+                throw new IllegalArgumentException(pointer + " : " + token + " does not exist");
+            }
+            return child;
+        }
+
+        private void replace(final ContainerNode<?> copy, final String token, final JsonNode child) {
+            if (copy.isObject()) {
+                ((ObjectNode) copy).set(token, child);
+            } else {
+                ((ArrayNode) copy).set(index((ArrayNode) copy, token, copy.size() - 1), child);
+            }
+        }
+
+        private int index(final ArrayNode array, final String token, final int maximum) {
+            try {
+                final int index = Integer.parseInt(token);
+                if (index >= 0 && index <= maximum) {
+                    return index;
+                }
+            } catch (NumberFormatException numberFormatException) {
+                //Reported below
+            }
+            throw new IllegalArgumentException(pointer + " : " + token + " is not an index of an array of " + array.size());
+        }
+
+        private static ContainerNode<?> shallowCopy(final JsonNode node) {
+            if (node.isObject()) {
+                final ObjectNode copy = JsonNodeFactory.instance.objectNode();
+                node.fields().forEachRemaining(field -> copy.set(field.getKey(), field.getValue()));
+                return copy;
+            }
+            return JsonNodeFactory.instance.arrayNode(node.size()).addAll((ArrayNode) node);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.common.payload;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("JSON Pointer mutations of a shared base payload")
+class JsonPayloadTest {
+
+    private static final String BASE = "{\"locationRequest\":{\"location\":{\"locationIdHMCTS\":\"123\","
+            + "\"locationDescription\":\"Court\",\"locationVenueIds\":[\"A\",\"B\"]},"
+            + "\"header\":{\"transactionIdHMCTS\":\"T1\"}}}";
+
+    @Test
+    @DisplayName("A mutation leaves the base document untouched")
+    void test_base_never_modified() throws Exception {
+        final JsonNode base = JsonPayload.OBJECT_MAPPER.readTree(BASE);
+        final JsonPayload payload = JsonPayload.of(base);
+
+        payload.set("/locationRequest/location/locationIdHMCTS", "999")
+                .remove("/locationRequest/location/locationDescription")
+                .insert("/locationRequest/location/locationVenueIds/0", "Z")
+                .toJsonNode();
+
+        assertEquals(JsonPayload.OBJECT_MAPPER.readTree(BASE), base);
+        assertEquals(base, payload.toJsonNode());
+    }
+
+    @Test
+    @DisplayName("Only the containers on the path to a mutated value are copied")
+    void test_unchanged_parts_shared_with_base() throws Exception {
+        final JsonNode base = JsonPayload.OBJECT_MAPPER.readTree(BASE);
+
+        final JsonNode mutated = JsonPayload.of(base)
+                .set("/locationRequest/location/locationIdHMCTS", "999")
+                .toJsonNode();
+
+        assertEquals("999", mutated.at("/locationRequest/location/locationIdHMCTS").asText());
+        assertSame(base.at("/locationRequest/header"), mutated.at("/locationRequest/header"));
+        assertSame(base.at("/locationRequest/location/locationVenueIds"),
+                mutated.at("/locationRequest/location/locationVenueIds"));
+    }
+
+    @Test
+    @DisplayName("Payloads derived from one payload do not see each other's mutations")
+    void test_derived_payloads_independent() throws Exception {
+        final JsonPayload shared = JsonPayload.of(JsonPayload.OBJECT_MAPPER.readTree(BASE))
+                .set("/locationRequest/header/transactionIdHMCTS", "T2");
+
+        final JsonPayload removed = shared.remove("/locationRequest/location/locationIdHMCTS");
+        final JsonPayload replaced = shared.set("/locationRequest/location/locationIdHMCTS", 5);
+
+        assertEquals("T2", removed.toJsonNode().at("/locationRequest/header/transactionIdHMCTS").asText());
+        assertFalse(removed.toJsonNode().at("/locationRequest/location").has("locationIdHMCTS"));
+        assertEquals(5, replaced.toJsonNode().at("/locationRequest/location/locationIdHMCTS").asInt());
+        assertEquals("123", shared.toJsonNode().at("/locationRequest/location/locationIdHMCTS").asText());
+    }
+
+    @Test
+    @DisplayName("Arrays are inserted into before an index or at the end, members are added by set")
+    void test_insert_and_add() throws Exception {
+        final JsonNode mutated = JsonPayload.of(JsonPayload.OBJECT_MAPPER.readTree(BASE))
+                .insert("/locationRequest/location/locationVenueIds/1", "X")
+                .insert("/locationRequest/location/locationVenueIds/-", "Y")
+                .set("/locationRequest/location/locationActive", true)
+                .toJsonNode();
+
+        assertEquals("[\"A\",\"X\",\"B\",\"Y\"]", mutated.at("/locationRequest/location/locationVenueIds").toString());
+        assertTrue(mutated.at("/locationRequest/location/locationActive").asBoolean());
+    }
+
+    @Test
+    @DisplayName("A pointer to nothing is reported when the payload is built")
+    void test_missing_path_reported() throws Exception {
+        final JsonPayload payload = JsonPayload.of(JsonPayload.OBJECT_MAPPER.readTree(BASE));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> payload.set("/locationRequest/missing/locationIdHMCTS", "1").toJsonNode());
+        assertThrows(IllegalArgumentException.class,
+                () -> payload.remove("/locationRequest/location/missing").toJsonNode());
+        assertThrows(IllegalArgumentException.class,
+                () -> payload.insert("/locationRequest/location/locationVenueIds/5", "X").toJsonNode());
+    }
+}
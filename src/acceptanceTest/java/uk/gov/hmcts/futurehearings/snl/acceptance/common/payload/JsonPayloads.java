@@ -0,0 +1,28 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.common.payload;
+
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.template.PayloadTemplates;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+//Base documents, each one parsed once for the whole run and shared by every payload built from it.
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JsonPayloads {
+
+    private static final Map<String, JsonPayload> BASES = new ConcurrentHashMap<>();
+
+    public static JsonPayload get(final String path) throws IOException {
+        final JsonPayload cached = BASES.get(path);
+        if (Objects.nonNull(cached)) {
+            return cached;
+        }
+        final JsonPayload parsed = JsonPayload.of(JsonPayload.OBJECT_MAPPER.readTree(PayloadTemplates.get(path).text()));
+        final JsonPayload raced = BASES.putIfAbsent(path, parsed);
+        return Objects.nonNull(raced) ? raced : parsed;
+    }
+}
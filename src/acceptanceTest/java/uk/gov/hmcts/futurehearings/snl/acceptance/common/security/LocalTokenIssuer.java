@@ -0,0 +1,169 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.common.security;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+//Stand-in for TOKEN_API_URL started inside the test JVM. Takes the same username=...&password=... form post and answers
+//with an HS256 signed idToken for the configured credentials, or 400 for anything else.
+@Slf4j
+public class LocalTokenIssuer {
+
+    private static final String TOKEN_PATH = "/token";
+    private static final String ISSUER = "snl-local-token-issuer";
+    private static final String SIGNING_ALGORITHM = "HmacSHA256";
+    private static final int KEY_LENGTH = 32;
+    private static final int WORKER_THREADS = 4;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+    private static LocalTokenIssuer shared;
+
+    private final String userName;
+    private final String password;
+    private final Duration tokenLifetime;
+    private final SecretKeySpec signingKey;
+    private final HttpServer server;
+
+    private LocalTokenIssuer(final String userName, final String password, final Duration tokenLifetime) throws IOException {
+        this.userName = userName;
+        this.password = password;
+        this.tokenLifetime = tokenLifetime;
+        final byte[] key = new byte[KEY_LENGTH];
+        new SecureRandom().nextBytes(key);
+        this.signingKey = new SecretKeySpec(key, SIGNING_ALGORITHM);
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        final AtomicInteger threadNumber = new AtomicInteger();
+        server.setExecutor(Executors.newFixedThreadPool(WORKER_THREADS, runnable -> {
+            final Thread thread = new Thread(runnable, "snl-token-issuer-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }));
+        server.createContext(TOKEN_PATH, this::handle);
+    }
+
+    //One issuer per JVM, every Spring test context of the run shares it.
+    public static synchronized LocalTokenIssuer shared(final String userName,
+                                                       final String password,
+                                                       final Duration tokenLifetime) throws IOException {
+        if (Objects.isNull(shared)) {
+            shared = new LocalTokenIssuer(userName, password, tokenLifetime);
+            shared.start();
+        } else if (!shared.userName.equals(userName) || !shared.password.equals(password)) {
+            throw new IllegalStateException("The local token issuer is already running with other credentials");
+        }
+        return shared;
+    }
+
+    public String tokenURL() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + TOKEN_PATH;
+    }
+
+    //The dispatcher thread takes its daemon flag from the thread calling start, started from a daemon thread
+    //the issuer never keeps the test JVM alive.
+    private void start() {
+        final Thread starter = new Thread(server::start, "snl-token-issuer-start");
+        starter.setDaemon(true);
+        starter.start();
+        try {
+            starter.join();
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while starting the local token issuer", interruptedException);
+        }
+        log.info("Local token issuer listening on " + tokenURL());
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        try {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                respond(exchange, 405, Map.of("error", "method_not_allowed"));
+                return;
+            }
+            final Map<String, String> form = parseForm(exchange.getRequestBody());
+            if (!userName.equals(form.get("username")) || !password.equals(form.get("password"))) {
+                respond(exchange, 400, Map.of("error", "invalid_grant"));
+                return;
+            }
+            final Map<String, Object> body = new LinkedHashMap<>();
+            body.put("idToken", issue(userName));
+            body.put("expiresIn", tokenLifetime.getSeconds());
+            respond(exchange, 200, body);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private String issue(final String subject) throws IOException {
+        final Instant issuedAt = Instant.now();
+        final Map<String, Object> header = new LinkedHashMap<>();
+        header.put("alg", "HS256");
+        header.put("typ", "JWT");
+        final Map<String, Object> claims = new LinkedHashMap<>();
+        claims.put("iss", ISSUER);
+        claims.put("sub", subject);
+        claims.put("iat", issuedAt.getEpochSecond());
+        claims.put("nbf", issuedAt.getEpochSecond());
+        claims.put("exp", issuedAt.plus(tokenLifetime).getEpochSecond());
+        claims.put("jti", UUID.randomUUID().toString());
+        final String signingInput = BASE64_URL.encodeToString(OBJECT_MAPPER.writeValueAsBytes(header))
+                + "." + BASE64_URL.encodeToString(OBJECT_MAPPER.writeValueAsBytes(claims));
+        return signingInput + "." + BASE64_URL.encodeToString(sign(signingInput));
+    }
+
+    private byte[] sign(final String signingInput) {
+        try {
+            final Mac mac = Mac.getInstance(SIGNING_ALGORITHM);
+            mac.init(signingKey);
+            return mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException securityException) {
+            throw new IllegalStateException("Unable to sign the token", securityException);
+        }
+    }
+
+    private static Map<String, String> parseForm(final InputStream requestBody) throws IOException {
+        final Map<String, String> form = new HashMap<>();
+        for (String pair : new String(requestBody.readAllBytes(), StandardCharsets.UTF_8).split("&")) {
+            final int separator = pair.indexOf('=');
+            if (separator > 0) {
+                form.put(URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return form;
+    }
+
+    private static void respond(final HttpExchange exchange, final int status, final Map<String, ?> body) throws IOException {
+        final byte[] bytes = OBJECT_MAPPER.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(bytes);
+        }
+    }
+}
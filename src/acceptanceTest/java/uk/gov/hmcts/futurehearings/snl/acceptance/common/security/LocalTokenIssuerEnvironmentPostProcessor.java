@@ -0,0 +1,55 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.common.security;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+//With tokenIssuer.local=true token_apiURL points at the LocalTokenIssuer, the acceptance configuration then no longer needs
+//TOKEN_API_URL and the credentials default to local ones when TOKEN_USERNAME and TOKEN_PASSWORD are not set.
+//Runs after the yaml files have been read (lowest precedence) so that tokenIssuer.local can be set in them.
+public class LocalTokenIssuerEnvironmentPostProcessor implements EnvironmentPostProcessor, Ordered {
+
+    private static final String PROPERTY_SOURCE_NAME = "localTokenIssuer";
+    private static final String DEFAULT_USERNAME = "snl-local-user";
+    private static final String DEFAULT_PASSWORD = "snl-local-password";
+
+    @Override
+    public void postProcessEnvironment(final ConfigurableEnvironment environment, final SpringApplication application) {
+        if (!environment.getProperty("tokenIssuer.local", Boolean.class, false)) {
+            return;
+        }
+        final String userName = resolvedOrDefault(environment, "token_username", DEFAULT_USERNAME);
+        final String password = resolvedOrDefault(environment, "token_password", DEFAULT_PASSWORD);
+        final Duration lifetime = Duration.ofSeconds(environment.getProperty("tokenIssuer.lifetimeSeconds", Long.class, 3600L));
+        try {
+            final LocalTokenIssuer issuer = LocalTokenIssuer.shared(userName, password, lifetime);
+            environment.getPropertySources().addFirst(new MapPropertySource(PROPERTY_SOURCE_NAME, Map.of(
+                    "token_apiURL", issuer.tokenURL(),
+                    "token_username", userName,
+                    "token_password", password)));
+        } catch (IOException ioException) {
+            throw new IllegalStateException("The local token issuer could not be started", ioException);
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+
+    private static String resolvedOrDefault(final ConfigurableEnvironment environment,
+                                            final String key,
+                                            final String defaultValue) {
+        try {
+            return environment.getProperty(key, defaultValue);
+        } catch (IllegalArgumentException unresolvablePlaceholder) {
+            return defaultValue;
+        }
+    }
+}
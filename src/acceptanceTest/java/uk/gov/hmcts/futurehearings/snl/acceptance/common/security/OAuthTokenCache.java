@@ -0,0 +1,223 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.common.security;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+
+//Process wide cache of the OAuth tokens, one per token endpoint and credentials. The expiry is read from the JWT exp claim,
+//the token is refreshed in the background ahead of it and concurrent callers without a usable token share one fetch.
+//A token already too close to its expiry when fetched, e.g. with the clock skewed against the issuer, is not refreshed
+//in the background and is handed out until REFRESH_RETRY_DELAY after its fetch, so the token endpoint is never called
+//more often than that.
+@Slf4j
+public class OAuthTokenCache {
+
+    private static final Duration REFRESH_AHEAD = Duration.ofMinutes(5);
+    //A token this close to its expiry is never handed out, it could expire before the request reaches the API.
+    private static final Duration EXPIRY_SKEW = Duration.ofSeconds(30);
+    //Used when the token is not a JWT or carries no exp claim.
+    private static final Duration DEFAULT_LIFETIME = Duration.ofMinutes(30);
+    //The least delay of a refresh, whatever the lifetime of the token.
+    private static final Duration REFRESH_RETRY_DELAY = Duration.ofSeconds(30);
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final ScheduledExecutorService REFRESHER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "snl-token-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final OAuthTokenCache INSTANCE = new OAuthTokenCache(OAuthTokenCache::fetchFromTokenEndpoint,
+            Clock.systemUTC());
+
+    private final Map<TokenKey, TokenSlot> slots = new ConcurrentHashMap<>();
+    private final TokenFetcher tokenFetcher;
+    private final Clock clock;
+    private final RefreshScheduler refreshScheduler;
+
+    OAuthTokenCache(final TokenFetcher tokenFetcher, final Clock clock) {
+        this(tokenFetcher, clock, (refresh, delay) -> REFRESHER.schedule(refresh, delay.toMillis(),
+                TimeUnit.MILLISECONDS));
+    }
+
+    OAuthTokenCache(final TokenFetcher tokenFetcher, final Clock clock, final RefreshScheduler refreshScheduler) {
+        this.tokenFetcher = tokenFetcher;
+        this.clock = clock;
+        this.refreshScheduler = refreshScheduler;
+    }
+
+    public static OAuthTokenCache getInstance() {
+        return INSTANCE;
+    }
+
+    public String token(final String token_apiURL, final String userName, final String password) {
+        return slots.computeIfAbsent(new TokenKey(token_apiURL, userName, password), TokenSlot::new).token();
+    }
+
+    static Instant expiryOf(final String token, final Instant fetchedAt) {
+        final String[] parts = token.split("\\.");
+        if (parts.length == 3) {
+            try {
+                final JsonNode claims = OBJECT_MAPPER.readTree(Base64.getUrlDecoder().decode(parts[1]));
+                if (claims.hasNonNull("exp")) {
+                    return Instant.ofEpochSecond(claims.get("exp").asLong());
+                }
+            } catch (IOException | IllegalArgumentException decodingException) {
+                log.debug("The token claims could not be decoded", decodingException);
+            }
+        }
+        return fetchedAt.plus(DEFAULT_LIFETIME);
+    }
+
+    private static String fetchFromTokenEndpoint(final TokenKey key) throws Exception {
+        return OAuthTokenGenerator.generateOAuthToken(key.token_apiURL, key.userName, key.password,
+                HttpStatus.OK);
+    }
+
+    @FunctionalInterface
+    interface TokenFetcher {
+        String fetch(TokenKey key) throws Exception;
+    }
+
+    @FunctionalInterface
+    interface RefreshScheduler {
+        void schedule(Runnable refresh, Duration delay);
+    }
+
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    @ToString(exclude = "password")
+    static final class TokenKey {
+        private final String token_apiURL;
+        private final String userName;
+        private final String password;
+    }
+
+    private static final class CachedToken {
+        private final String token;
+        private final Instant expiresAt;
+        private final Instant usableUntil;
+
+        private CachedToken(final String token, final Instant expiresAt, final Instant fetchedAt) {
+            this.token = token;
+            this.expiresAt = expiresAt;
+            final Instant skewed = expiresAt.minus(EXPIRY_SKEW);
+            final Instant retry = fetchedAt.plus(REFRESH_RETRY_DELAY);
+            this.usableUntil = skewed.isAfter(retry) ? skewed : retry;
+        }
+
+        private boolean expiresOnArrival(final Instant fetchedAt) {
+            return !expiresAt.minus(EXPIRY_SKEW).isAfter(fetchedAt);
+        }
+    }
+
+    private final class TokenSlot {
+
+        private final TokenKey key;
+        private final AtomicReference<CompletableFuture<CachedToken>> inFlight = new AtomicReference<>();
+        private volatile CachedToken current;
+
+        private TokenSlot(final TokenKey key) {
+            this.key = key;
+        }
+
+        private String token() {
+            final CachedToken cached = current;
+            if (isUsable(cached)) {
+                return cached.token;
+            }
+            try {
+                return refresh().join().token;
+            } catch (CompletionException completionException) {
+                final Throwable cause = completionException.getCause();
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new IllegalStateException("The OAuth token could not be fetched from " + key.token_apiURL, cause);
+            }
+        }
+
+        private boolean isUsable(final CachedToken cachedToken) {
+            return Objects.nonNull(cachedToken) && clock.instant().isBefore(cachedToken.usableUntil);
+        }
+
+        //Joins the fetch already in flight if there is one, otherwise fetches on the calling thread.
+        private CompletableFuture<CachedToken> refresh() {
+            final CompletableFuture<CachedToken> fetch = new CompletableFuture<>();
+            while (!inFlight.compareAndSet(null, fetch)) {
+                final CompletableFuture<CachedToken> existing = inFlight.get();
+                if (Objects.nonNull(existing)) {
+                    return existing;
+                }
+            }
+            try {
+                final Instant fetchedAt = clock.instant();
+                final String token = tokenFetcher.fetch(key);
+                final CachedToken cachedToken = new CachedToken(token, expiryOf(token, fetchedAt), fetchedAt);
+                current = cachedToken;
+                scheduleRefresh(cachedToken, fetchedAt);
+                fetch.complete(cachedToken);
+            } catch (Exception | AssertionError fetchFailure) {
+                fetch.completeExceptionally(fetchFailure);
+            } finally {
+                inFlight.compareAndSet(fetch, null);
+            }
+            return fetch;
+        }
+
+        //REFRESH_AHEAD before the expiry, or half way through the lifetime for a short lived token.
+        private void scheduleRefresh(final CachedToken cachedToken, final Instant fetchedAt) {
+            if (cachedToken.expiresOnArrival(fetchedAt)) {
+                log.warn("The OAuth token of " + key + " expires at " + cachedToken.expiresAt + ", fetched at "
+                        + fetchedAt + ", it is not refreshed ahead and is fetched again in " + REFRESH_RETRY_DELAY);
+                return;
+            }
+            final Duration lifetime = Duration.between(fetchedAt, cachedToken.expiresAt);
+            final Duration delay = lifetime.compareTo(REFRESH_AHEAD.multipliedBy(2)) > 0
+                    ? lifetime.minus(REFRESH_AHEAD)
+                    : lifetime.dividedBy(2);
+            schedule(cachedToken, delay);
+        }
+
+        private void schedule(final CachedToken cachedToken, final Duration delay) {
+            refreshScheduler.schedule(() -> backgroundRefresh(cachedToken),
+                    delay.compareTo(REFRESH_RETRY_DELAY) > 0 ? delay : REFRESH_RETRY_DELAY);
+        }
+
+        private void backgroundRefresh(final CachedToken expiring) {
+            if (current != expiring) {
+                //Already replaced by a fetch made on a caller thread.
+                return;
+            }
+            refresh().whenComplete((refreshed, failure) -> {
+                if (Objects.nonNull(failure) && isUsable(current)) {
+                    log.warn("Background refresh of the OAuth token failed, retrying in " + REFRESH_RETRY_DELAY, failure);
+                    schedule(current, REFRESH_RETRY_DELAY);
+                }
+            });
+        }
+    }
+}
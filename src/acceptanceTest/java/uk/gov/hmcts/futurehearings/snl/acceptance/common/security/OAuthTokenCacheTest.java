@@ -0,0 +1,214 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.common.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+//Drives the cache through its TokenFetcher, Clock and RefreshScheduler seam, no token endpoint is called and the
+//background refreshes are only run when a test runs them.
+@DisplayName("OAuth token cache expiry, refresh and fetch sharing")
+class OAuthTokenCacheTest {
+
+    private static final String TOKEN_API_URL = "https://token.example/token";
+    private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+
+    private final MutableClock clock = new MutableClock(NOW);
+    private final AtomicInteger fetches = new AtomicInteger();
+    private final List<Duration> refreshDelays = new ArrayList<>();
+    private final List<Runnable> refreshes = new ArrayList<>();
+
+    @Test
+    @DisplayName("A token is fetched once and handed out until it comes close to its exp claim")
+    void test_token_reused_until_expiry_skew() {
+        final OAuthTokenCache cache = cache(key -> jwt(fetches.incrementAndGet(),
+                NOW.plus(Duration.ofMinutes(60))));
+
+        assertEquals(jwt(1, NOW.plus(Duration.ofMinutes(60))), token(cache));
+        clock.set(NOW.plus(Duration.ofMinutes(59)));
+        assertEquals(jwt(1, NOW.plus(Duration.ofMinutes(60))), token(cache));
+        assertEquals(1, fetches.get());
+
+        clock.set(NOW.plus(Duration.ofMinutes(60)).minusSeconds(10));
+        assertEquals(jwt(2, NOW.plus(Duration.ofMinutes(60))), token(cache));
+        assertEquals(2, fetches.get());
+    }
+
+    @Test
+    @DisplayName("The expiry is read from the JWT exp claim, otherwise the token lives 30 minutes from its fetch")
+    void test_expiry_of_token() {
+        final Instant expiry = NOW.plus(Duration.ofMinutes(10));
+        assertEquals(expiry, OAuthTokenCache.expiryOf(jwt(1, expiry), NOW));
+        assertEquals(NOW.plus(Duration.ofMinutes(30)), OAuthTokenCache.expiryOf("opaque-token", NOW));
+        assertEquals(NOW.plus(Duration.ofMinutes(30)), OAuthTokenCache.expiryOf("a.not-base64!.c", NOW));
+    }
+
+    @Test
+    @DisplayName("Each token endpoint and set of credentials has a token of its own")
+    void test_token_per_credentials() {
+        final OAuthTokenCache cache = cache(key -> "token-" + fetches.incrementAndGet());
+
+        assertEquals("token-1", cache.token(TOKEN_API_URL, "user", "password"));
+        assertEquals("token-2", cache.token(TOKEN_API_URL, "another-user", "password"));
+        assertEquals("token-1", cache.token(TOKEN_API_URL, "user", "password"));
+    }
+
+    @Test
+    @DisplayName("Callers without a usable token share the one fetch in flight")
+    void test_concurrent_callers_share_one_fetch() throws Exception {
+        final CountDownLatch fetchStarted = new CountDownLatch(1);
+        final CountDownLatch releaseFetch = new CountDownLatch(1);
+        final OAuthTokenCache cache = cache(key -> {
+            fetches.incrementAndGet();
+            fetchStarted.countDown();
+            releaseFetch.await(5, TimeUnit.SECONDS);
+            return "shared-token";
+        });
+
+        final CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> token(cache));
+        fetchStarted.await(5, TimeUnit.SECONDS);
+        final CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> token(cache));
+        Thread.sleep(100);
+        releaseFetch.countDown();
+
+        assertEquals("shared-token", first.get(5, TimeUnit.SECONDS));
+        assertEquals("shared-token", second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, fetches.get());
+    }
+
+    @Test
+    @DisplayName("A failed fetch is thrown to the caller and the next caller fetches again")
+    void test_failed_fetch_is_not_cached() {
+        final IllegalStateException endpointDown = new IllegalStateException("token endpoint down");
+        final OAuthTokenCache cache = cache(key -> {
+            if (fetches.incrementAndGet() == 1) {
+                throw endpointDown;
+            }
+            return "token-after-failure";
+        });
+
+        assertSame(endpointDown, assertThrows(IllegalStateException.class, () -> token(cache)));
+        assertEquals("token-after-failure", token(cache));
+        assertEquals(2, fetches.get());
+    }
+
+    @Test
+    @DisplayName("A checked exception of the fetch is thrown as the cause of an IllegalStateException")
+    void test_checked_fetch_failure_wrapped() {
+        final Exception checked = new Exception("bad credentials");
+        final OAuthTokenCache cache = cache(key -> {
+            throw checked;
+        });
+
+        assertSame(checked, assertThrows(IllegalStateException.class, () -> token(cache)).getCause());
+    }
+
+    @Test
+    @DisplayName("A token is refreshed in the background 5 minutes ahead of its expiry and replaced by the refresh")
+    void test_background_refresh_ahead_of_expiry() {
+        final OAuthTokenCache cache = cache(key -> jwt(fetches.incrementAndGet(), NOW.plus(Duration.ofMinutes(60))));
+
+        final String first = token(cache);
+        assertEquals(List.of(Duration.ofMinutes(55)), refreshDelays);
+        refreshes.get(0).run();
+
+        assertEquals(2, fetches.get());
+        assertNotEquals(first, token(cache));
+        assertEquals(List.of(Duration.ofMinutes(55), Duration.ofMinutes(55)), refreshDelays);
+    }
+
+    @Test
+    @DisplayName("A short lived token is refreshed half way through its lifetime, never sooner than 30 seconds")
+    void test_background_refresh_of_short_lived_token() {
+        final OAuthTokenCache fourMinutes = cache(key -> jwt(fetches.incrementAndGet(),
+                NOW.plus(Duration.ofMinutes(4))));
+        token(fourMinutes);
+        final OAuthTokenCache fortySeconds = cache(key -> jwt(fetches.incrementAndGet(),
+                NOW.plus(Duration.ofSeconds(40))));
+        token(fortySeconds);
+
+        assertEquals(List.of(Duration.ofMinutes(2), Duration.ofSeconds(30)), refreshDelays);
+    }
+
+    @Test
+    @DisplayName("A token expired when fetched is not refreshed in the background nor fetched again for 30 seconds")
+    void test_token_expired_on_arrival_not_refetched_in_a_loop() {
+        final OAuthTokenCache cache = cache(key -> jwt(fetches.incrementAndGet(), NOW.minusSeconds(5)));
+
+        final String first = token(cache);
+        assertEquals(first, token(cache));
+        clock.set(NOW.plusSeconds(29));
+        assertEquals(first, token(cache));
+        assertEquals(1, fetches.get());
+        assertTrue(refreshDelays.isEmpty());
+
+        clock.set(NOW.plusSeconds(30));
+        assertNotEquals(first, token(cache));
+        assertEquals(2, fetches.get());
+        assertTrue(refreshDelays.isEmpty());
+    }
+
+    private OAuthTokenCache cache(final OAuthTokenCache.TokenFetcher tokenFetcher) {
+        return new OAuthTokenCache(tokenFetcher, clock, (refresh, delay) -> {
+            refreshDelays.add(delay);
+            refreshes.add(refresh);
+        });
+    }
+
+    private static String token(final OAuthTokenCache cache) {
+        return cache.token(TOKEN_API_URL, "user", "password");
+    }
+
+    private static String jwt(final int sequence, final Instant expiry) {
+        final Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString("{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8)) + "."
+                + encoder.encodeToString(("{\"sub\":\"" + sequence + "\",\"exp\":" + expiry.getEpochSecond() + "}")
+                        .getBytes(StandardCharsets.UTF_8)) + ".signature";
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant instant;
+
+        private MutableClock(final Instant instant) {
+            this.instant = instant;
+        }
+
+        private void set(final Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
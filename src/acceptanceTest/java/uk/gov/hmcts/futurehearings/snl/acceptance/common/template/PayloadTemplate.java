@@ -0,0 +1,150 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.common.template;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.MissingFormatArgumentException;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+//A template compiled into literal segments with a slot between each pair, a slot being either a %s argument
+//(in order, as String.format) or a token replaced throughout the template. Rendering only appends the segments
+//and the argument values into a per thread buffer, nothing is parsed or searched again.
+public final class PayloadTemplate {
+
+    private static final int TOKEN_SLOT = -1;
+    private static final int INITIAL_BUFFER_CAPACITY = 8 * 1024;
+    //A buffer grown past this by an unusually large payload is not kept for the thread.
+    private static final int MAXIMUM_RETAINED_CAPACITY = 256 * 1024;
+
+    private static final ThreadLocal<StringBuilder> BUFFER =
+            ThreadLocal.withInitial(() -> new StringBuilder(INITIAL_BUFFER_CAPACITY));
+
+    private final String path;
+    private final String text;
+    private final Map<String, Segments> tokenVariants = new ConcurrentHashMap<>();
+    //Compiled on first render, files that are only ever read as they are (schemas, expected responses) never are.
+    private volatile Segments segments;
+
+    PayloadTemplate(final String path, final String text) {
+        this.path = path;
+        this.text = text;
+    }
+
+    public String text() {
+        return text;
+    }
+
+    public String render(final Object... arguments) {
+        return render(segments(), arguments, null);
+    }
+
+    //Same result as TestingUtils.replaceCharacterSequence(token, value, String.format(template, arguments)),
+    //the token being matched in the template and in each argument (not across the two).
+    public String renderReplacing(final String token, final String value, final Object... arguments) {
+        return render(tokenVariants.computeIfAbsent(token, this::compileToken), arguments, value);
+    }
+
+    private String render(final Segments compiled, final Object[] arguments, final String tokenValue) {
+        final StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        compiled.appendTo(buffer, arguments, tokenValue);
+        final String rendered = buffer.toString();
+        if (buffer.capacity() > MAXIMUM_RETAINED_CAPACITY) {
+            BUFFER.remove();
+        }
+        return rendered;
+    }
+
+    private Segments segments() {
+        Segments compiled = segments;
+        if (Objects.isNull(compiled)) {
+            compiled = compile();
+            segments = compiled;
+        }
+        return compiled;
+    }
+
+    private Segments compile() {
+        final List<String> literals = new ArrayList<>();
+        final List<Integer> slots = new ArrayList<>();
+        final StringBuilder literal = new StringBuilder();
+        int argumentIndex = 0;
+        for (int i = 0; i < text.length(); i++) {
+            final char current = text.charAt(i);
+            if (current != '%') {
+                literal.append(current);
+                continue;
+            }
+            final char specifier = i + 1 < text.length() ? text.charAt(i + 1) : ' ';
+            if (specifier == '%') {
+                literal.append('%');
+            } else if (specifier == 's') {
+                literals.add(literal.toString());
+                literal.setLength(0);
+                slots.add(argumentIndex++);
+            } else {
+                throw new IllegalArgumentException("Only %s placeholders are supported, found %" + specifier + " in " + path);
+            }
+            i++;
+        }
+        literals.add(literal.toString());
+        return new Segments(literals, slots, null);
+    }
+
+    private Segments compileToken(final String token) {
+        if (token.isEmpty()) {
+            throw new IllegalArgumentException("The token to replace can not be empty");
+        }
+        final Segments compiled = segments();
+        final List<String> literals = new ArrayList<>();
+        final List<Integer> slots = new ArrayList<>();
+        for (int i = 0; i < compiled.literals.length; i++) {
+            final String literal = compiled.literals[i];
+            int from = 0;
+            for (int at = literal.indexOf(token); at >= 0; at = literal.indexOf(token, from)) {
+                literals.add(literal.substring(from, at));
+                slots.add(TOKEN_SLOT);
+                from = at + token.length();
+            }
+            literals.add(literal.substring(from));
+            if (i < compiled.slots.length) {
+                slots.add(compiled.slots[i]);
+            }
+        }
+        return new Segments(literals, slots, token);
+    }
+
+    private static final class Segments {
+
+        private final String[] literals;
+        private final int[] slots;
+        private final int argumentCount;
+        private final String token;
+
+        private Segments(final List<String> literals, final List<Integer> slots, final String token) {
+            this.token = token;
+            this.literals = literals.toArray(new String[0]);
+            this.slots = slots.stream().mapToInt(Integer::intValue).toArray();
+            this.argumentCount = (int) slots.stream().filter(slot -> slot != TOKEN_SLOT).count();
+        }
+
+        private void appendTo(final StringBuilder target, final Object[] arguments, final String tokenValue) {
+            //Surplus arguments are ignored, as String.format does.
+            if (argumentCount > 0 && (Objects.isNull(arguments) || arguments.length < argumentCount)) {
+                throw new MissingFormatArgumentException("%s");
+            }
+            for (int i = 0; i < slots.length; i++) {
+                target.append(literals[i]);
+                if (slots[i] == TOKEN_SLOT) {
+                    target.append(tokenValue);
+                } else if (Objects.isNull(token)) {
+                    target.append(arguments[slots[i]]);
+                } else {
+                    target.append(String.valueOf(arguments[slots[i]]).replace(token, tokenValue));
+                }
+            }
+            target.append(literals[literals.length - 1]);
+        }
+    }
+}
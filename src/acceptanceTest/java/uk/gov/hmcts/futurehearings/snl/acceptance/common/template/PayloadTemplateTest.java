@@ -0,0 +1,113 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.common.template;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.IllegalFormatException;
+import java.util.List;
+import java.util.MissingFormatArgumentException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@DisplayName("Compiled payload templates rendered as String.format and replaceCharacterSequence would")
+class PayloadTemplateTest {
+
+    private static final String TEMPLATE = "{\"caseIdHMCTS\":\"%s\",\"listingDuration\":\"100%%\","
+            + "\"listingVenueId\":\"%s\",\"listingComments\":\"%%s is not a placeholder\"}";
+
+    @Test
+    @DisplayName("%s and %% render as String.format renders them")
+    void test_render_same_as_string_format() {
+        final PayloadTemplate payloadTemplate = new PayloadTemplate("test.json", TEMPLATE);
+
+        assertEquals(String.format(TEMPLATE, "CASE-1", "venue"), payloadTemplate.render("CASE-1", "venue"));
+        assertEquals(String.format(TEMPLATE, null, 42), payloadTemplate.render(null, 42));
+        assertEquals(String.format(TEMPLATE, "CASE-1", "venue", "surplus"),
+                payloadTemplate.render("CASE-1", "venue", "surplus"));
+        assertEquals(String.format("no placeholders"), new PayloadTemplate("plain.json", "no placeholders").render());
+    }
+
+    @Test
+    @DisplayName("Every JSON file of the class path renders as String.format renders it")
+    void test_every_template_same_as_string_format() throws Exception {
+        final Path root = Paths.get(getClass().getClassLoader().getResource("uk").toURI()).getParent();
+        final Object[] arguments = IntStream.range(0, 32).mapToObj(argument -> "argument-" + argument).toArray();
+        final List<Path> files;
+        try (Stream<Path> walk = Files.walk(root)) {
+            files = walk.filter(path -> path.toString().endsWith(".json")).collect(Collectors.toList());
+        }
+        assertFalse(files.isEmpty());
+        for (Path file : files) {
+            final String path = root.relativize(file).toString().replace('\\', '/');
+            final String text = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+            final PayloadTemplate payloadTemplate = new PayloadTemplate(path, text);
+            String formatted;
+            try {
+                formatted = String.format(text, arguments);
+            } catch (IllegalFormatException formatException) {
+                assertThrows(IllegalArgumentException.class, () -> payloadTemplate.render(arguments), path);
+                continue;
+            }
+            assertEquals(formatted, payloadTemplate.render(arguments), path);
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @DisplayName("A format specifier other than %s or %%, or a trailing %, is refused")
+    @ValueSource(strings = {"{\"a\":%d}", "{\"a\":\"%1$s\"}", "{\"a\":\"%-5s\"}", "{\"a\":\"%n\"}", "{\"a\":1}%"})
+    void test_other_specifiers_refused(final String template) {
+        assertThrows(IllegalArgumentException.class, () -> new PayloadTemplate("test.json", template).render(1));
+    }
+
+    @Test
+    @DisplayName("Fewer arguments than %s placeholders fail as String.format fails")
+    void test_missing_argument() {
+        final PayloadTemplate payloadTemplate = new PayloadTemplate("test.json", TEMPLATE);
+
+        assertThrows(MissingFormatArgumentException.class, () -> String.format(TEMPLATE, "CASE-1"));
+        assertThrows(MissingFormatArgumentException.class, () -> payloadTemplate.render("CASE-1"));
+        assertThrows(MissingFormatArgumentException.class, () -> payloadTemplate.render());
+        assertThrows(MissingFormatArgumentException.class,
+                () -> payloadTemplate.renderReplacing("venue", "court", "CASE-1"));
+    }
+
+    @Test
+    @DisplayName("A token in the template or in an argument is replaced as replaceCharacterSequence replaces it")
+    void test_render_replacing_same_as_replace_character_sequence() {
+        final String template = "{\"id\":\"%s\",\"location\":\"TOKEN\",\"rooms\":[\"TOKEN-1\",\"%s\"]}";
+        final PayloadTemplate payloadTemplate = new PayloadTemplate("test.json", template);
+
+        assertEquals(String.format(template, "A", "TOKEN-2").replace("TOKEN", "301"),
+                payloadTemplate.renderReplacing("TOKEN", "301", "A", "TOKEN-2"));
+        assertEquals(String.format(template, "B", "C").replace("TOKEN", "302"),
+                payloadTemplate.renderReplacing("TOKEN", "302", "B", "C"));
+    }
+
+    @Test
+    @DisplayName("Unlike replaceCharacterSequence, a token spanning a literal and an argument is not replaced")
+    void test_token_across_literal_and_argument_not_replaced() {
+        final String template = "{\"id\":\"TO%s\"}";
+        final PayloadTemplate payloadTemplate = new PayloadTemplate("test.json", template);
+
+        assertEquals("{\"id\":\"301\"}", String.format(template, "KEN").replace("TOKEN", "301"));
+        assertEquals("{\"id\":\"TOKEN\"}", payloadTemplate.renderReplacing("TOKEN", "301", "KEN"));
+    }
+
+    @Test
+    @DisplayName("An empty token is refused")
+    void test_empty_token_refused() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new PayloadTemplate("test.json", TEMPLATE).renderReplacing("", "x", "A", "B"));
+    }
+}
@@ -0,0 +1,49 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.common.template;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+//Class path templates and payload files, each one read once for the whole run.
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PayloadTemplates {
+
+    private static final Map<String, PayloadTemplate> TEMPLATES = new ConcurrentHashMap<>();
+
+    public static PayloadTemplate get(final String path) throws IOException {
+        final String resourcePath = normalise(path);
+        final PayloadTemplate cached = TEMPLATES.get(resourcePath);
+        if (Objects.nonNull(cached)) {
+            return cached;
+        }
+        final PayloadTemplate loaded = new PayloadTemplate(resourcePath, load(resourcePath));
+        final PayloadTemplate raced = TEMPLATES.putIfAbsent(resourcePath, loaded);
+        return Objects.nonNull(raced) ? raced : loaded;
+    }
+
+    //Same result as String.format(TestingUtils.readFileContents(path), arguments)
+    public static String render(final String path, final Object... arguments) throws IOException {
+        return get(path).render(arguments);
+    }
+
+    private static String load(final String resourcePath) throws IOException {
+        try (InputStream inputStream = PayloadTemplates.class.getClassLoader().getResourceAsStream(resourcePath)) {
+            if (Objects.isNull(inputStream)) {
+                throw new FileNotFoundException("class path resource [" + resourcePath + "] cannot be resolved");
+            }
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static String normalise(final String path) {
+        final String collapsed = path.replaceAll("/{2,}", "/");
+        return collapsed.startsWith("/") ? collapsed.substring(1) : collapsed;
+    }
+}
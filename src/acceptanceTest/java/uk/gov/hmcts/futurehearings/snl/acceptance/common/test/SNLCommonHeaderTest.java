@@ -1,6 +1,5 @@
 package uk.gov.hmcts.futurehearings.snl.acceptance.common.test;
 
-import static io.restassured.config.EncoderConfig.encoderConfig;
 import static uk.gov.hmcts.futurehearings.snl.acceptance.common.TestingUtils.replaceCharacterSequence;
 import static uk.gov.hmcts.futurehearings.snl.acceptance.common.helper.CommonHeaderHelper.createCompletePayloadHeader;
 import static uk.gov.hmcts.futurehearings.snl.acceptance.common.helper.CommonHeaderHelper.createHeaderWithAcceptTypeAtSystemValue;
@@ -18,18 +17,26 @@ import static uk.gov.hmcts.futurehearings.snl.acceptance.common.helper.CommonHea
 
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.TestingUtils;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.delegate.dto.DelegateDTO;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.header.mutation.HeaderMutation;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.header.mutation.HeaderMutationMatrix;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.header.mutation.SNLHeaderSpecification;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.identifier.HMCTSIdentifier;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.template.PayloadTemplates;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.verify.dto.SNLVerificationDTO;
 
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
-import io.restassured.RestAssured;
+import io.restassured.response.Response;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -69,15 +76,12 @@ public abstract class SNLCommonHeaderTest extends SNLCommonTest {
     @Test
     @DisplayName("Successfully validated response with a valid payload but a ,charset appended to the Content-Type")
     public void test_successful_response_for_content_type_with_charset_not_appended() throws Exception {
-        RestAssured.config = RestAssured.config()
-                .encoderConfig(encoderConfig().appendDefaultContentCharsetToContentTypeIfUndefined(false));
         DelegateDTO delegateDTO = buildDelegateDTO(getRelativeURL(),
-                createStandardPayloadHeader(), getHttpMethod(), HttpStatus.BAD_REQUEST);
+                createStandardPayloadHeader(), getHttpMethod(), HttpStatus.BAD_REQUEST)
+                .toBuilder().clientContext(getClientContext().withoutDefaultContentCharsetAppended()).build();
         commonDelegate.test_expected_response_for_supplied_header(delegateDTO,
                 getSnlSuccessVerifier(),
                 new SNLVerificationDTO(HttpStatus.BAD_REQUEST, "9999", "Expected header 'Content-Type=application/json; charset=utf-8'", null));
-        RestAssured.config = RestAssured.config()
-                .encoderConfig(encoderConfig().appendDefaultContentCharsetToContentTypeIfUndefined(true));
     }
 
 
@@ -132,6 +136,37 @@ public abstract class SNLCommonHeaderTest extends SNLCommonTest {
                 new SNLVerificationDTO(HttpStatus.NOT_ACCEPTABLE, "9999", "Expected header 'Accept=application/json'", null));*/
     }
 
+    //Every fault of the S&L header specification on its own, the answers the header tests below establish one by one.
+    @Test
+    @DisplayName("Every single header fault of the S&L header specification, run concurrently")
+    void test_header_single_faults() throws Exception {
+        runHeaderMutations(HeaderMutationMatrix.of(SNLHeaderSpecification.HEADERS, 1).cases());
+    }
+
+    //The cases of more than one fault rest on the order S&L validates the headers in, which it has not confirmed,
+    //so they only run with -DheaderMutation.maximumFaults=2 or more.
+    @Test
+    @EnabledIfSystemProperty(named = "headerMutation.maximumFaults", matches = "[2-9]|[1-9][0-9]+")
+    @DisplayName("Every combination of more than one header fault of the S&L header specification, run concurrently")
+    void test_header_masked_faults() throws Exception {
+        runHeaderMutations(HeaderMutationMatrix.of(SNLHeaderSpecification.HEADERS,
+                Integer.getInteger("headerMutation.maximumFaults")).cases().stream()
+                .filter(headerMutation -> headerMutation.faults().size() > 1)
+                .collect(Collectors.toList()));
+    }
+
+    private void runHeaderMutations(final List<HeaderMutation> headerMutations) throws IOException {
+        final Map<HeaderMutation, CompletableFuture<Response>> verifiedResponses = new LinkedHashMap<>();
+        for (HeaderMutation headerMutation : headerMutations) {
+            DelegateDTO delegateDTO = buildDelegateDTO(getRelativeURL(),
+                    headerMutation.headers(createStandardPayloadHeader()), getHttpMethod(),
+                    headerMutation.expected().httpStatus());
+            verifiedResponses.put(headerMutation, commonDelegate.test_expected_response_for_supplied_header_async(
+                    delegateDTO, getSnlErrorVerifier(), headerMutation.expected()));
+        }
+        HeaderMutationMatrix.awaitAll(verifiedResponses);
+    }
+
     @ParameterizedTest(name = "Source System Header invalid values - Param : {0} --> {1}")
     @CsvSource(value = {"Null_Value, NIL", "Invalid Value,S&amp;L"}, nullValues = "NIL")
     //MCGIRR have told us that they only do AlphaNumeric Validation So Limited List of Values.....
@@ -164,7 +199,7 @@ public abstract class SNLCommonHeaderTest extends SNLCommonTest {
             "Valid_Date,2099-10-02T15:00:00Z"})
     public void test_request_created_at_with_valid_values(String requestCreatedAtKey, String requestCreatedAtVal) throws Exception {
         this.setInputPayloadFileName("hearing-request-standard.json");
-        generateResourcesByUserPayloadWithRandomCaseIdHMCTSAndField(UUID.randomUUID().toString().substring(0, 9));
+        generateResourcesByUserPayloadWithRandomCaseIdHMCTSAndField(HMCTSIdentifier.CASE_LISTING_REQUEST_ID.next());
         DelegateDTO delegateDTO = buildDelegateDTO(getRelativeURL(),
                 createHeaderWithRequestCreatedAtSystemValue(requestCreatedAtVal),
                 getHttpMethod(),
@@ -326,7 +361,7 @@ public abstract class SNLCommonHeaderTest extends SNLCommonTest {
     //TODO - The placement of a futuristic Date be it positive or negative is to be decided upoun the outcome of MCGIRRSD-1776
     public void test_request_processed_at_with_valid_values(String requestProcessedAtKey, String requestProcessedAtVal) throws Exception {
         this.setInputPayloadFileName("hearing-request-standard.json");
-        generateResourcesByUserPayloadWithRandomCaseIdHMCTSAndField(UUID.randomUUID().toString().substring(0, 9));
+        generateResourcesByUserPayloadWithRandomCaseIdHMCTSAndField(HMCTSIdentifier.CASE_LISTING_REQUEST_ID.next());
         DelegateDTO delegateDTO = buildDelegateDTO(getRelativeURL(),
                 createHeaderWithRequestProcessedAtSystemValue(requestProcessedAtVal),
                 getHttpMethod(),
@@ -403,10 +438,9 @@ public abstract class SNLCommonHeaderTest extends SNLCommonTest {
     }
 
     private void generateResourcesByUserPayloadWithRandomCaseIdHMCTSAndField(final String formatValue) throws IOException {
-        final String randomID = UUID.randomUUID().toString() + UUID.randomUUID().toString();
         final String INPUT_TEMPLATE_FILE_PATH = "uk/gov/hmcts/futurehearings/snl/acceptance/%s/input";
-        this.setInputBodyPayload(String.format(TestingUtils.readFileContents(String.format(INPUT_TEMPLATE_FILE_PATH,
-                getInputFileDirectory()) + "/" + getInputPayloadFileName()), randomID.substring(0, 29), formatValue));
+        this.setInputBodyPayload(PayloadTemplates.render(String.format(INPUT_TEMPLATE_FILE_PATH,
+                getInputFileDirectory()) + "/" + getInputPayloadFileName(), HMCTSIdentifier.CASE_ID_HMCTS.next(), formatValue));
     }
 
 }
@@ -1,13 +1,19 @@
 package uk.gov.hmcts.futurehearings.snl.acceptance.common.test;
 
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.capture.ExchangeCaptureExtension;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.context.ClientContext;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.delegate.CommonDelegate;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.delegate.dto.DelegateDTO;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.failfast.FailFastExtension;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.failfast.FailFastMethodOrderer;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.verify.dto.SNLVerificationDTO;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.verify.error.SNLErrorVerifier;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.verify.success.SNLSuccessVerifier;
 
 import java.io.IOException;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
 
 import io.restassured.http.Headers;
 import lombok.Getter;
@@ -18,6 +24,8 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
@@ -25,10 +33,12 @@ import org.springframework.http.HttpStatus;
 @Slf4j
 @Setter
 @Getter
+@ExtendWith({ExchangeCaptureExtension.class, FailFastExtension.class})
+@TestMethodOrder(FailFastMethodOrderer.class)
 public abstract class SNLCommonTest {
 
     private String apiSubscriptionKey;
-    private String authorizationToken;
+    private ClientContext clientContext;
     private String relativeURL;
     private String relativeURLForNotFound;
     private HttpMethod httpMethod;
@@ -50,6 +60,18 @@ public abstract class SNLCommonTest {
 
     public SNLErrorVerifier snlErrorVerifier;
 
+    //The token is fetched once here, so that a failing token endpoint fails the class in its @BeforeAll,
+    //then resolved again from the supplier for every request.
+    protected void initialiseClientContext(final String baseURI, final Supplier<String> authorizationToken) {
+        authorizationToken.get();
+        this.setClientContext(ClientContext.of(baseURI, authorizationToken));
+    }
+
+    //The current token of the class context, never one frozen when the class started.
+    public String getAuthorizationToken() {
+        return Objects.isNull(clientContext) ? null : clientContext.authorizationToken();
+    }
+
     @BeforeAll
     public void beforeAll(TestInfo info) {
         log.debug("Test execution Class Initiated: " + info.getTestClass().get().getName());
@@ -76,6 +98,7 @@ public abstract class SNLCommonTest {
                                         final HttpStatus httpSuccessStatus) throws IOException {
         return DelegateDTO.builder()
                 .targetSubscriptionKey(getApiSubscriptionKey()).authorizationToken(getAuthorizationToken())
+                .clientContext(getClientContext())
                 .targetURL(relativeURL)
                 .inputPayload(getInputBodyPayload())
                 .standardHeaderMap(payloadHeader)
@@ -92,6 +115,7 @@ public abstract class SNLCommonTest {
                                         final HttpStatus httpSuccessStatus) throws IOException {
         return DelegateDTO.builder()
                 .targetSubscriptionKey(getApiSubscriptionKey()).authorizationToken(getAuthorizationToken())
+                .clientContext(getClientContext())
                 .targetURL(relativeURL)
                 .inputPayload(getInputBodyPayload())
                 .standardHeaderMap(null)
@@ -0,0 +1,41 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.common.timing;
+
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.http.HttpMethod;
+
+//One high resolution histogram (microseconds, 3 significant digits) per endpoint, method and response status.
+public class LatencyHistograms {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Map<LatencyKey, Histogram> histograms = new ConcurrentHashMap<>();
+
+    public void record(final String path, final HttpMethod httpMethod, final int status, final long durationNanos) {
+        final LatencyKey key = new LatencyKey(LatencyKey.normaliseEndpoint(path), httpMethod.name(), status);
+        final long durationMicros = Math.min(TimeUnit.NANOSECONDS.toMicros(durationNanos), HIGHEST_TRACKABLE_MICROS);
+        histograms.computeIfAbsent(key, ignored -> newHistogram()).recordValue(durationMicros);
+    }
+
+    //A sorted copy, safe to read while the suite is still recording.
+    public SortedMap<LatencyKey, Histogram> snapshot() {
+        final SortedMap<LatencyKey, Histogram> snapshot = new TreeMap<>();
+        histograms.forEach((key, histogram) -> snapshot.put(key, histogram.copy()));
+        return snapshot;
+    }
+
+    public boolean isEmpty() {
+        return histograms.isEmpty();
+    }
+
+    static Histogram newHistogram() {
+        return new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    }
+}
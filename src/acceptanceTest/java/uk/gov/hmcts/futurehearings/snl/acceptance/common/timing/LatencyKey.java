@@ -0,0 +1,40 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.common.timing;
+
+import java.util.Comparator;
+import java.util.regex.Pattern;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.Accessors;
+
+@Getter(AccessLevel.PUBLIC)
+@Accessors(fluent = true)
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor
+public class LatencyKey implements Comparable<LatencyKey> {
+
+    //Path segments carrying an identifier (anything with a digit in it) are folded together, so that
+    //every call to /hearings/{id} lands in the same histogram whatever the generated id was.
+    private static final Pattern IDENTIFIER_SEGMENT = Pattern.compile("/[^/]*\\d[^/]*");
+
+    private static final Comparator<LatencyKey> ORDER = Comparator.comparing(LatencyKey::endpoint)
+            .thenComparing(LatencyKey::httpMethod)
+            .thenComparingInt(LatencyKey::status);
+
+    private final String endpoint;
+    private final String httpMethod;
+    private final int status;
+
+    public static String normaliseEndpoint(final String path) {
+        return IDENTIFIER_SEGMENT.matcher(path).replaceAll("/{id}");
+    }
+
+    @Override
+    public int compareTo(final LatencyKey other) {
+        return ORDER.compare(this, other);
+    }
+}
@@ -0,0 +1,48 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.common.timing;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+//The JSON form of a run's latencies, kept stable so that reports from different releases can be compared.
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LatencyReport {
+
+    private String generatedAt;
+    private String targetInstance;
+    private String releaseLabel;
+    @Builder.Default
+    private List<Entry> entries = new ArrayList<>();
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Entry {
+        private String endpoint;
+        private String httpMethod;
+        private int status;
+        private long count;
+        private double meanMillis;
+        private double p50Millis;
+        private double p90Millis;
+        private double p99Millis;
+        private double maxMillis;
+        //Base64 of the compressed HdrHistogram, so that reports can be merged or re-analysed later.
+        private String histogram;
+
+        public LatencyKey key() {
+            return new LatencyKey(endpoint, httpMethod, status);
+        }
+    }
+}
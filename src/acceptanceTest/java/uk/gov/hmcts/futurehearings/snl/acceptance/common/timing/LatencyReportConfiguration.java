@@ -0,0 +1,61 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.common.timing;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+//The report is written when the Spring test context is closed, i.e. as the acceptance test JVM finishes.
+@Slf4j
+@Configuration
+public class LatencyReportConfiguration {
+
+    @Value("${latencyReport.directory:build/reports/acceptance-latency}")
+    private String directory;
+
+    @Value("${latencyReport.releaseLabel:}")
+    private String releaseLabel;
+
+    @Value("${latencyReport.baseline:}")
+    private String baseline;
+
+    @Value("${targetInstance:}")
+    private String targetInstance;
+
+    private final LatencyHistograms latencyHistograms = new LatencyHistograms();
+
+    @Bean
+    public LatencyHistograms latencyHistograms() {
+        return latencyHistograms;
+    }
+
+    @PreDestroy
+    public void writeReports() {
+        if (latencyHistograms.isEmpty()) {
+            return;
+        }
+        final LatencyReportWriter writer = new LatencyReportWriter();
+        try {
+            LatencyReport baselineReport = null;
+            if (!baseline.isEmpty()) {
+                final Path baselinePath = Paths.get(baseline);
+                if (baselinePath.toFile().isFile()) {
+                    baselineReport = writer.read(baselinePath);
+                } else {
+                    log.warn("Latency baseline not found : " + baselinePath);
+                }
+            }
+            final Path reportDirectory = Paths.get(directory);
+            writer.write(writer.toReport(latencyHistograms.snapshot(), targetInstance, releaseLabel),
+                    reportDirectory, baselineReport);
+            log.info("Latency reports written to : " + reportDirectory.toAbsolutePath());
+        } catch (IOException ioException) {
+            log.error("Latency reports could not be written", ioException);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.common.timing;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.zip.DataFormatException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+import org.springframework.web.util.HtmlUtils;
+
+public class LatencyReportWriter {
+
+    public static final String JSON_REPORT = "latency-report.json";
+    public static final String HTML_REPORT = "latency-report.html";
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    public LatencyReport toReport(final SortedMap<LatencyKey, Histogram> histograms,
+                                  final String targetInstance,
+                                  final String releaseLabel) {
+        final LatencyReport report = LatencyReport.builder()
+                .generatedAt(Instant.now().toString())
+                .targetInstance(targetInstance)
+                .releaseLabel(releaseLabel)
+                .build();
+        histograms.forEach((key, histogram) -> report.getEntries().add(toEntry(key, histogram)));
+        return report;
+    }
+
+    public static LatencyReport.Entry toEntry(final LatencyKey key, final Histogram histogram) {
+        return LatencyReport.Entry.builder()
+                .endpoint(key.endpoint())
+                .httpMethod(key.httpMethod())
+                .status(key.status())
+                .count(histogram.getTotalCount())
+                .meanMillis(histogram.getMean() / MICROS_PER_MILLI)
+                .p50Millis(histogram.getValueAtPercentile(50.0) / MICROS_PER_MILLI)
+                .p90Millis(histogram.getValueAtPercentile(90.0) / MICROS_PER_MILLI)
+                .p99Millis(histogram.getValueAtPercentile(99.0) / MICROS_PER_MILLI)
+                .maxMillis(histogram.getMaxValue() / MICROS_PER_MILLI)
+                .histogram(encode(histogram))
+                .build();
+    }
+
+    public static String encode(final Histogram histogram) {
+        final ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        final int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        return Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length));
+    }
+
+    public static Histogram decode(final String encodedHistogram) throws DataFormatException {
+        return Histogram.decodeFromCompressedByteBuffer(ByteBuffer.wrap(Base64.getDecoder().decode(encodedHistogram)), 0);
+    }
+
+    public LatencyReport read(final Path jsonReport) throws IOException {
+        return objectMapper.readValue(jsonReport.toFile(), LatencyReport.class);
+    }
+
+    public void write(final LatencyReport report, final Path directory, final LatencyReport baseline) throws IOException {
+        Files.createDirectories(directory);
+        objectMapper.writeValue(directory.resolve(JSON_REPORT).toFile(), report);
+        Files.write(directory.resolve(HTML_REPORT), toHtml(report, baseline).getBytes(StandardCharsets.UTF_8));
+    }
+
+    String toHtml(final LatencyReport report, final LatencyReport baseline) {
+        final Map<LatencyKey, LatencyReport.Entry> baselineEntries = Objects.isNull(baseline)
+                ? Collections.emptyMap()
+                : baseline.getEntries().stream().collect(Collectors.toMap(LatencyReport.Entry::key, Function.identity()));
+        final StringBuilder html = new StringBuilder()
+                .append("<!DOCTYPE html>\n<html>\n<head>\n<meta charset=\"UTF-8\">\n")
+                .append("<title>S&amp;L API Acceptance Latency</title>\n")
+                .append("<style>body{font-family:sans-serif}table{border-collapse:collapse}")
+                .append("th,td{border:1px solid #ccc;padding:4px 8px;text-align:right}th:nth-child(-n+3),td:nth-child(-n+3){text-align:left}")
+                .append(".slower{color:#b00}.faster{color:#070}</style>\n</head>\n<body>\n")
+                .append("<h1>S&amp;L API Acceptance Latency</h1>\n<p>Generated ").append(escape(report.getGeneratedAt()))
+                .append(" against ").append(escape(report.getTargetInstance()));
+        if (Objects.nonNull(report.getReleaseLabel()) && !report.getReleaseLabel().isEmpty()) {
+            html.append(", release ").append(escape(report.getReleaseLabel()));
+        }
+        if (Objects.nonNull(baseline)) {
+            html.append(". Compared with the run of ").append(escape(baseline.getGeneratedAt()));
+            if (Objects.nonNull(baseline.getReleaseLabel()) && !baseline.getReleaseLabel().isEmpty()) {
+                html.append(", release ").append(escape(baseline.getReleaseLabel()));
+            }
+        }
+        html.append(".</p>\n<table>\n<tr><th>Endpoint</th><th>Method</th><th>Status</th><th>Count</th>")
+                .append("<th>Mean (ms)</th><th>p50 (ms)</th><th>p90 (ms)</th><th>p99 (ms)</th><th>Max (ms)</th></tr>\n");
+        for (LatencyReport.Entry entry : report.getEntries()) {
+            final LatencyReport.Entry baselineEntry = baselineEntries.get(entry.key());
+            html.append("<tr><td>").append(escape(entry.getEndpoint()))
+                    .append("</td><td>").append(escape(entry.getHttpMethod()))
+                    .append("</td><td>").append(entry.getStatus())
+                    .append("</td><td>").append(entry.getCount())
+                    .append("</td>").append(cell(entry.getMeanMillis(), Objects.isNull(baselineEntry) ? null : baselineEntry.getMeanMillis()))
+                    .append(cell(entry.getP50Millis(), Objects.isNull(baselineEntry) ? null : baselineEntry.getP50Millis()))
+                    .append(cell(entry.getP90Millis(), Objects.isNull(baselineEntry) ? null : baselineEntry.getP90Millis()))
+                    .append(cell(entry.getP99Millis(), Objects.isNull(baselineEntry) ? null : baselineEntry.getP99Millis()))
+                    .append(cell(entry.getMaxMillis(), Objects.isNull(baselineEntry) ? null : baselineEntry.getMaxMillis()))
+                    .append("</tr>\n");
+        }
+        return html.append("</table>\n</body>\n</html>\n").toString();
+    }
+
+    private static String cell(final double millis, final Double baselineMillis) {
+        if (Objects.isNull(baselineMillis) || baselineMillis == 0.0) {
+            return String.format("<td>%.1f</td>", millis);
+        }
+        final double change = (millis - baselineMillis) / baselineMillis * 100.0;
+        final String changeClass = change > 0 ? "slower" : change < 0 ? "faster" : "unchanged";
+        return String.format("<td class=\"%s\">%.1f (%+.0f%%)</td>", changeClass, millis, change);
+    }
+
+    private static String escape(final String value) {
+        return Objects.isNull(value) ? "" : HtmlUtils.htmlEscape(value);
+    }
+}
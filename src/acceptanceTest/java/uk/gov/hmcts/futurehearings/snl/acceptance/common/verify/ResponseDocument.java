@@ -0,0 +1,95 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.common.verify;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.JsonPath;
+import io.restassured.response.Response;
+
+//The response handed to every SNLVerifier, the body is read and parsed at most once however many fields are checked.
+//Not thread safe, a document belongs to the call that produced it.
+public class ResponseDocument {
+
+    private static final Configuration JSON_CONFIGURATION = Configuration.defaultConfiguration();
+
+    private static final Map<String, JsonPath> COMPILED_PATHS = new ConcurrentHashMap<>();
+
+    private static final String SESSIONS_PATH = "$.sessionsResponse.sessions";
+
+    private final Response response;
+    private String body;
+    private Object document;
+    private List<Map<String, Object>> sessions;
+
+    private ResponseDocument(final Response response) {
+        this.response = response;
+    }
+
+    public static ResponseDocument of(final Response response) {
+        return new ResponseDocument(response);
+    }
+
+    public Response response() {
+        return response;
+    }
+
+    public int statusCode() {
+        return response.statusCode();
+    }
+
+    public String body() {
+        if (Objects.isNull(body)) {
+            body = response.getBody().asString();
+        }
+        return body;
+    }
+
+    public Object document() {
+        if (Objects.isNull(document)) {
+            document = JSON_CONFIGURATION.jsonProvider().parse(body());
+        }
+        return document;
+    }
+
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> root() {
+        final Object root = document();
+        if (!(root instanceof Map)) {
+            fail("The response body is not a JSON object : " + body());
+        }
+        return (Map<String, Object>) root;
+    }
+
+    public String errCode() {
+        return stringField("errCode");
+    }
+
+    public String errorDesc() {
+        return stringField("errorDesc");
+    }
+
+    public List<Map<String, Object>> sessions() {
+        if (Objects.isNull(sessions)) {
+            sessions = read(SESSIONS_PATH);
+        }
+        return sessions;
+    }
+
+    //Any other JsonPath expression, evaluated against the already parsed document.
+    public <T> T read(final String path) {
+        return COMPILED_PATHS.computeIfAbsent(path, JsonPath::compile).read(document(), JSON_CONFIGURATION);
+    }
+
+    private String stringField(final String fieldName) {
+        final Object value = root().get(fieldName);
+        if (Objects.nonNull(value) && !(value instanceof String)) {
+            fail("The response field " + fieldName + " is not a String : " + value);
+        }
+        return (String) value;
+    }
+}
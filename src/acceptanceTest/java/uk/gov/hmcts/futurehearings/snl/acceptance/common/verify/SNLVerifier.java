@@ -2,9 +2,12 @@ package uk.gov.hmcts.futurehearings.snl.acceptance.common.verify;
 
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.dto.SNLDto;
 
-import io.restassured.response.Response;
-
 public interface SNLVerifier {
 
-    void verify(SNLDto snlDto, Response response);
+    void verify(SNLDto snlDto, ResponseDocument responseDocument);
+
+    //A verifier that streams the body is handed it unread, so it has to go through response().asInputStream().
+    default boolean streamsBody() {
+        return false;
+    }
 }
@@ -0,0 +1,26 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.corpus;
+
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.payload.JsonPayload;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.Accessors;
+
+//One payload of the corpus. Invalid cases break exactly one constraint of an otherwise valid payload.
+@Getter(AccessLevel.PUBLIC)
+@Accessors(fluent = true)
+@Builder
+@ToString(exclude = "payload")
+public class BoundaryCase {
+
+    private final String schema;
+    //JSON Pointer of the member the case is about, "" for the whole document.
+    private final String pointer;
+    //The JSON Schema keyword exercised, e.g. maxLength, pattern, required or type.
+    private final String constraint;
+    private final boolean valid;
+    private final String description;
+    private final JsonPayload payload;
+}
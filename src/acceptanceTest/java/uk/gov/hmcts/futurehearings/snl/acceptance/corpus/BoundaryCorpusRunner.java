@@ -0,0 +1,90 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.corpus;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+
+//Entry point of ./gradlew schemaCorpus, writes one JSON line per boundary case of every request schema.
+//The cases are generated and serialised on all cores and written in a stable order, so two corpora of the same
+//schemas can be diffed.
+@Slf4j
+public class BoundaryCorpusRunner {
+
+    private static final String DEFAULT_SCHEMA_DIRECTORY = "uk/gov/hmcts/futurehearings/snl/thirdparty/schema/S&L/V1.5.1";
+    private static final String DEFAULT_SCHEMAS = "createHearingMessage.json,updateHearingMessage.json,"
+            + "deleteHearingMessage.json,updateListingMessage.json,createLocationMessage.json,"
+            + "updateLocationMessage.json,createUserMessage.json,updateUserMessage.json";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    public static void main(final String[] args) throws IOException {
+        final BoundaryValueGenerator generator = new BoundaryValueGenerator(
+                System.getProperty("corpus.schemaDirectory", DEFAULT_SCHEMA_DIRECTORY));
+        final List<String> schemas = Arrays.stream(System.getProperty("corpus.schemas", DEFAULT_SCHEMAS).split(","))
+                .map(String::trim)
+                .filter(schema -> !schema.isEmpty())
+                .collect(Collectors.toList());
+        final Path output = Paths.get(System.getProperty("corpus.output", "build/reports/schema-corpus/boundary-cases.jsonl"));
+        Files.createDirectories(output.toAbsolutePath().getParent());
+
+        final Map<String, LongAdder[]> counts = new TreeMap<>();
+        schemas.forEach(schema -> counts.put(schema, new LongAdder[] {new LongAdder(), new LongAdder()}));
+        final long startNanos = System.nanoTime();
+        //The walk is cheap, the cases are collected first so that the serialisation is split across every core
+        //rather than one core per schema.
+        final List<BoundaryCase> cases = schemas.parallelStream()
+                .flatMap(schema -> generator.generate(schema).stream())
+                .collect(Collectors.toList());
+        try (BufferedWriter writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            cases.parallelStream()
+                    .map(boundaryCase -> {
+                        counts.get(boundaryCase.schema())[boundaryCase.valid() ? 0 : 1].increment();
+                        return toJsonLine(boundaryCase);
+                    })
+                    .forEachOrdered(line -> write(writer, line));
+        }
+
+        counts.forEach((schema, count) -> log.info(String.format("%-32s %6d valid %6d invalid",
+                schema, count[0].sum(), count[1].sum())));
+        log.info(String.format("Boundary corpus written to %s in %d ms", output.toAbsolutePath(),
+                (System.nanoTime() - startNanos) / 1_000_000));
+    }
+
+    private static String toJsonLine(final BoundaryCase boundaryCase) {
+        final ObjectNode line = OBJECT_MAPPER.createObjectNode()
+                .put("schema", boundaryCase.schema())
+                .put("pointer", boundaryCase.pointer())
+                .put("constraint", boundaryCase.constraint())
+                .put("valid", boundaryCase.valid())
+                .put("description", boundaryCase.description());
+        line.set("payload", boundaryCase.payload().toJsonNode());
+        try {
+            return OBJECT_MAPPER.writeValueAsString(line);
+        } catch (JsonProcessingException processingException) {
+            throw new IllegalStateException("The case " + boundaryCase + " could not be serialised", processingException);
+        }
+    }
+
+    private static void write(final BufferedWriter writer, final String line) {
+        try {
+            writer.write(line);
+            writer.newLine();
+        } catch (IOException ioException) {
+            throw new UncheckedIOException(ioException);
+        }
+    }
+}
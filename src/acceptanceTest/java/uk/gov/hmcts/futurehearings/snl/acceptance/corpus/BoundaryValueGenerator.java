@@ -0,0 +1,221 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.corpus;
+
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.payload.JsonPayload;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+//Walks a resolved schema and, for every member, derives the payloads just inside and just outside each of its
+//maxLength, minLength, pattern, format, enum, minimum, exclusiveMinimum, multipleOf, required and type constraints.
+//Every case is a set of JSON Pointer mutations over one shared valid payload, nothing is copied until it is written.
+public class BoundaryValueGenerator {
+
+    private static final String UNEXPECTED_PROPERTY = "unexpectedProperty";
+    private static final String OUTSIDE_ENUM_SUFFIX = "X";
+    private static final List<String> PATTERN_BREAKERS = List.of(" %s", "%s ", "%s %s", "%s\t", "%sé");
+
+    private final SchemaResolver schemaResolver;
+
+    public BoundaryValueGenerator(final String schemaDirectory) {
+        this.schemaResolver = new SchemaResolver(schemaDirectory);
+    }
+
+    public List<BoundaryCase> generate(final String schemaFileName) {
+        final JsonNode schema = schemaResolver.resolve(schemaFileName);
+        final List<BoundaryCase> cases = new ArrayList<>();
+        final JsonPayload complete = JsonPayload.of(SampleValues.valid(schema, false));
+        cases.add(boundaryCase(schemaFileName, "", "complete", true, "every property populated", complete));
+        cases.add(boundaryCase(schemaFileName, "", "required", true, "required properties only",
+                JsonPayload.of(SampleValues.valid(schema, true))));
+        walk(schemaFileName, schema, "", complete, false, cases);
+        return cases;
+    }
+
+    //The type of a oneOf branch is only broken once, through its first branch.
+    private void walk(final String schemaFileName, final JsonNode schema, final String pointer,
+                      final JsonPayload payload, final boolean typeBroken, final List<BoundaryCase> cases) {
+        if (schema.has("oneOf")) {
+            final JsonNode branches = schema.get("oneOf");
+            for (int branch = 0; branch < branches.size(); branch++) {
+                JsonPayload branchPayload = payload;
+                if (branch > 0) {
+                    branchPayload = payload.set(pointer, SampleValues.valid(branches.get(branch), false));
+                    cases.add(boundaryCase(schemaFileName, pointer, "oneOf", true, "branch " + branch, branchPayload));
+                }
+                walk(schemaFileName, branches.get(branch), pointer, branchPayload, typeBroken || branch > 0, cases);
+            }
+            return;
+        }
+        final String type = SampleValues.type(schema);
+        if (!pointer.isEmpty() && !typeBroken) {
+            final Object wrongType = "string".equals(type) ? (Object) 1 : "x";
+            cases.add(boundaryCase(schemaFileName, pointer, "type", false,
+                    type + " given " + wrongType, payload.set(pointer, wrongType)));
+        }
+        if (schema.has("enum")) {
+            enumCases(schemaFileName, schema, pointer, payload, cases);
+            return;
+        }
+        switch (type) {
+            case "object":
+                objectCases(schemaFileName, schema, pointer, payload, cases);
+                break;
+            case "array":
+                if (schema.has("items")) {
+                    walk(schemaFileName, schema.get("items"), pointer + "/0", payload, false, cases);
+                }
+                break;
+            case "string":
+                stringCases(schemaFileName, schema, pointer, payload, cases);
+                break;
+            case "integer":
+            case "number":
+                numberCases(schemaFileName, schema, pointer, payload, cases);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void objectCases(final String schemaFileName, final JsonNode schema, final String pointer,
+                             final JsonPayload payload, final List<BoundaryCase> cases) {
+        final JsonNode required = schema.path("required");
+        final Iterator<Map.Entry<String, JsonNode>> properties = schema.path("properties").fields();
+        while (properties.hasNext()) {
+            final Map.Entry<String, JsonNode> property = properties.next();
+            final String propertyPointer = pointer + "/" + escape(property.getKey());
+            final boolean mandatory = SampleValues.contains(required, property.getKey());
+            cases.add(boundaryCase(schemaFileName, propertyPointer, "required", !mandatory,
+                    mandatory ? "required member missing" : "optional member missing", payload.remove(propertyPointer)));
+            walk(schemaFileName, property.getValue(), propertyPointer, payload, false, cases);
+        }
+        if (!schema.path("additionalProperties").asBoolean(true)) {
+            cases.add(boundaryCase(schemaFileName, pointer, "additionalProperties", false,
+                    UNEXPECTED_PROPERTY + " added", payload.set(pointer + "/" + UNEXPECTED_PROPERTY, "x")));
+        }
+    }
+
+    private void enumCases(final String schemaFileName, final JsonNode schema, final String pointer,
+                           final JsonPayload payload, final List<BoundaryCase> cases) {
+        final Set<String> allowed = new HashSet<>();
+        for (JsonNode value : schema.get("enum")) {
+            cases.add(boundaryCase(schemaFileName, pointer, "enum", true, "enum value " + value,
+                    payload.set(pointer, value)));
+            allowed.add(value.asText());
+        }
+        //The first value with a suffix, extended until it is none of the values, e.g. of a single value enum.
+        String outside = schema.get("enum").path(0).asText();
+        do {
+            outside = outside + OUTSIDE_ENUM_SUFFIX;
+        } while (allowed.contains(outside));
+        cases.add(boundaryCase(schemaFileName, pointer, "enum", false, "enum value " + outside,
+                payload.set(pointer, outside)));
+    }
+
+    private void stringCases(final String schemaFileName, final JsonNode schema, final String pointer,
+                             final JsonPayload payload, final List<BoundaryCase> cases) {
+        final int minLength = schema.path("minLength").asInt(0);
+        final int maxLength = schema.path("maxLength").asInt(-1);
+        if (maxLength >= 0) {
+            lengthCase(schemaFileName, schema, pointer, payload, "maxLength", maxLength, cases);
+            //A formatted value stays well formed, only its length is out of bounds.
+            final String over = schema.has("format")
+                    ? SampleValues.validString(schema, maxLength + 1) : SampleValues.fill(schema, maxLength + 1);
+            if (Objects.nonNull(over) && SampleValues.matches(schema, over)) {
+                cases.add(boundaryCase(schemaFileName, pointer, "maxLength", false,
+                        "maxLength " + maxLength + " given " + over.length(), payload.set(pointer, over)));
+            }
+        }
+        if (minLength > 0) {
+            lengthCase(schemaFileName, schema, pointer, payload, "minLength", minLength, cases);
+            cases.add(boundaryCase(schemaFileName, pointer, "minLength", false,
+                    "minLength " + minLength + " given " + (minLength - 1),
+                    payload.set(pointer, SampleValues.fill(schema, minLength - 1))));
+        }
+        if (schema.has("pattern")) {
+            final String inside = SampleValues.validString(schema);
+            for (String breaker : PATTERN_BREAKERS) {
+                final String character = inside.substring(0, Math.min(inside.length(), 1));
+                final String candidate = String.format(breaker, character, character);
+                if (!SampleValues.matches(schema, candidate) && candidate.length() >= minLength
+                        && (maxLength < 0 || candidate.length() <= maxLength)) {
+                    cases.add(boundaryCase(schemaFileName, pointer, "pattern", false,
+                            schema.get("pattern").asText() + " given '" + candidate + "'", payload.set(pointer, candidate)));
+                }
+            }
+        }
+        if (schema.has("format")) {
+            final String invalid = SampleValues.invalidFormat(schema.get("format").asText());
+            if (Objects.nonNull(invalid)) {
+                cases.add(boundaryCase(schemaFileName, pointer, "format", false,
+                        schema.get("format").asText() + " given " + invalid, payload.set(pointer, invalid)));
+            }
+        }
+    }
+
+    private void lengthCase(final String schemaFileName, final JsonNode schema, final String pointer,
+                            final JsonPayload payload, final String constraint, final int length,
+                            final List<BoundaryCase> cases) {
+        final String value = SampleValues.validString(schema, length);
+        if (Objects.nonNull(value)) {
+            cases.add(boundaryCase(schemaFileName, pointer, constraint, true,
+                    constraint + " " + length + " given " + length, payload.set(pointer, value)));
+        }
+    }
+
+    private void numberCases(final String schemaFileName, final JsonNode schema, final String pointer,
+                             final JsonPayload payload, final List<BoundaryCase> cases) {
+        final long lowest = SampleValues.lowestInteger(schema);
+        final long multipleOf = schema.path("multipleOf").asLong(1);
+        if (schema.has("minimum")) {
+            final long minimum = schema.get("minimum").asLong();
+            cases.add(boundaryCase(schemaFileName, pointer, "minimum", true,
+                    "minimum " + minimum + " given " + lowest, payload.set(pointer, lowest)));
+            if (Math.floorMod(minimum, multipleOf) == 0) {
+                cases.add(boundaryCase(schemaFileName, pointer, "minimum", false,
+                        "minimum " + minimum + " given " + (minimum - multipleOf), payload.set(pointer, minimum - multipleOf)));
+            }
+        }
+        if (schema.has("exclusiveMinimum")) {
+            final long exclusiveMinimum = schema.get("exclusiveMinimum").asLong();
+            cases.add(boundaryCase(schemaFileName, pointer, "exclusiveMinimum", true,
+                    "exclusiveMinimum " + exclusiveMinimum + " given " + lowest, payload.set(pointer, lowest)));
+            if (Math.floorMod(exclusiveMinimum, multipleOf) == 0) {
+                cases.add(boundaryCase(schemaFileName, pointer, "exclusiveMinimum", false,
+                        "exclusiveMinimum " + exclusiveMinimum + " given " + exclusiveMinimum,
+                        payload.set(pointer, exclusiveMinimum)));
+            }
+        }
+        if (multipleOf > 1) {
+            cases.add(boundaryCase(schemaFileName, pointer, "multipleOf", false,
+                    "multipleOf " + multipleOf + " given " + (lowest + 1), payload.set(pointer, lowest + 1)));
+        }
+        if ("integer".equals(SampleValues.type(schema))) {
+            cases.add(boundaryCase(schemaFileName, pointer, "type", false,
+                    "integer given " + (lowest + 0.5), payload.set(pointer, lowest + 0.5)));
+        }
+    }
+
+    private static String escape(final String name) {
+        return name.replace("~", "~0").replace("/", "~1");
+    }
+
+    private static BoundaryCase boundaryCase(final String schemaFileName, final String pointer, final String constraint,
+                                             final boolean valid, final String description, final JsonPayload payload) {
+        return BoundaryCase.builder()
+                .schema(schemaFileName)
+                .pointer(pointer)
+                .constraint(constraint)
+                .valid(valid)
+                .description(description)
+                .payload(payload)
+                .build();
+    }
+}
@@ -0,0 +1,197 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.corpus;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+//Values that satisfy a resolved schema, and the strings and numbers either side of its limits.
+//Strings are checked against their pattern rather than derived from it, a pattern that none of the alphabets
+//satisfies is reported instead of silently producing an invalid "valid" case.
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class SampleValues {
+
+    private static final JsonNodeFactory NODES = JsonNodeFactory.instance;
+    //Tried in order, the first alphabet that satisfies the pattern of a member fills its strings.
+    private static final List<String> ALPHABETS = List.of("SNLQA0123456789", "0123456789");
+    private static final int DEFAULT_LENGTH = 8;
+    private static final Map<String, Pattern> PATTERNS = new ConcurrentHashMap<>();
+
+    //Every property is present, the first branch is taken for a oneOf and an array holds one item.
+    static JsonNode valid(final JsonNode schema, final boolean requiredOnly) {
+        if (schema.has("oneOf")) {
+            return valid(schema.get("oneOf").get(0), requiredOnly);
+        }
+        if (schema.has("enum")) {
+            return schema.get("enum").get(0);
+        }
+        switch (type(schema)) {
+            case "object":
+                final ObjectNode object = NODES.objectNode();
+                final JsonNode required = schema.path("required");
+                schema.path("properties").fields().forEachRemaining(property -> {
+                    if (!requiredOnly || contains(required, property.getKey())) {
+                        object.set(property.getKey(), valid(property.getValue(), requiredOnly));
+                    }
+                });
+                return object;
+            case "array":
+                final ArrayNode array = NODES.arrayNode();
+                if (!requiredOnly || schema.path("minItems").asInt(0) > 0) {
+                    array.add(valid(schema.path("items"), requiredOnly));
+                }
+                return array;
+            case "string":
+                return NODES.textNode(validString(schema));
+            case "integer":
+            case "number":
+                return NODES.numberNode(lowestInteger(schema));
+            case "boolean":
+                return NODES.booleanNode(true);
+            default:
+                throw new IllegalStateException("No sample value for the schema type " + type(schema));
+        }
+    }
+
+    static String type(final JsonNode schema) {
+        if (schema.has("type")) {
+            return schema.get("type").asText();
+        }
+        return schema.has("properties") ? "object" : "any";
+    }
+
+    static boolean contains(final JsonNode names, final String name) {
+        for (JsonNode candidate : names) {
+            if (candidate.asText().equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static String validString(final JsonNode schema) {
+        if (schema.has("format")) {
+            return formatted(schema.get("format").asText(), -1);
+        }
+        final int length = Math.min(schema.path("maxLength").asInt(Integer.MAX_VALUE),
+                Math.max(schema.path("minLength").asInt(0), DEFAULT_LENGTH));
+        return checked(schema, fill(schema, length));
+    }
+
+    //A valid string of exactly the given length, null when the format has no representation of that length.
+    static String validString(final JsonNode schema, final int length) {
+        if (schema.has("format")) {
+            return formatted(schema.get("format").asText(), length);
+        }
+        return checked(schema, fill(schema, length));
+    }
+
+    static String fill(final JsonNode schema, final int length) {
+        String filled = null;
+        for (String alphabet : ALPHABETS) {
+            filled = fill(alphabet, length);
+            if (matches(schema, filled)) {
+                return filled;
+            }
+        }
+        return filled;
+    }
+
+    static boolean matches(final JsonNode schema, final String value) {
+        return !schema.has("pattern") || pattern(schema.get("pattern").asText()).matcher(value).find();
+    }
+
+    //The integer closest to the lower bound that is also a multiple of multipleOf.
+    static long lowestInteger(final JsonNode schema) {
+        long lowest = 1;
+        if (schema.has("minimum")) {
+            lowest = schema.get("minimum").asLong();
+        }
+        if (schema.has("exclusiveMinimum")) {
+            lowest = schema.get("exclusiveMinimum").asLong() + 1;
+        }
+        final long multipleOf = schema.path("multipleOf").asLong(1);
+        return Math.floorDiv(lowest + multipleOf - 1, multipleOf) * multipleOf;
+    }
+
+    static String invalidFormat(final String format) {
+        switch (format) {
+            case "date":
+                return "15-12-2020";
+            case "date-time":
+                return "2020-12-15 10:00:00";
+            case "time":
+                return "10:00";
+            case "email":
+                return "snl.qa.hmcts.net";
+            default:
+                return null;
+        }
+    }
+
+    private static String formatted(final String format, final int length) {
+        final String sample;
+        switch (format) {
+            case "date":
+                sample = "2020-12-15";
+                break;
+            case "date-time":
+                sample = "2020-12-15T10:00:00Z";
+                break;
+            case "time":
+                sample = "10:00:00Z";
+                break;
+            case "email":
+                return length < 0 ? "snl.qa@hmcts.net" : email(length);
+            default:
+                throw new IllegalStateException("No sample value for the format " + format);
+        }
+        return length < 0 || length == sample.length() ? sample : null;
+    }
+
+    //snl.qa@<labels>.net with the labels kept under the 63 characters a DNS label allows.
+    private static String email(final int length) {
+        final String local = "snl.qa@";
+        final String topLevel = ".net";
+        final int domainLength = length - local.length() - topLevel.length();
+        if (domainLength < 1) {
+            return null;
+        }
+        final StringBuilder domain = new StringBuilder(fill(ALPHABETS.get(0), domainLength).toLowerCase());
+        for (int index = 60; index < domainLength - 1; index += 61) {
+            domain.setCharAt(index, '.');
+        }
+        return local + domain + topLevel;
+    }
+
+    private static String fill(final String alphabet, final int length) {
+        final StringBuilder builder = new StringBuilder(length);
+        for (int index = 0; index < length; index++) {
+            builder.append(alphabet.charAt(index % alphabet.length()));
+        }
+        return builder.toString();
+    }
+
+    private static String checked(final JsonNode schema, final String value) {
+        if (!matches(schema, value)) {
+            throw new IllegalStateException("No sample value for the pattern " + schema.get("pattern").asText());
+        }
+        return value;
+    }
+
+    private static Pattern pattern(final String pattern) {
+        final Pattern cached = PATTERNS.get(pattern);
+        if (Objects.nonNull(cached)) {
+            return cached;
+        }
+        return PATTERNS.computeIfAbsent(pattern, Pattern::compile);
+    }
+}
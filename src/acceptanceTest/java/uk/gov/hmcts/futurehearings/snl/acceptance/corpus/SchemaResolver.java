@@ -0,0 +1,136 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.corpus;
+
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.template.PayloadTemplates;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+//Inlines every $ref (to the same or a sibling schema file) and folds every allOf into a single schema, so that the
+//generator only ever sees plain type, properties, items and oneOf nodes.
+//As in draft-07, which the S&L files declare, keywords next to a $ref are ignored. The files do add required members
+//that way, the validators ignore them too, so the corpus expects those members to be optional.
+class SchemaResolver {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final int MAXIMUM_DEPTH = 32;
+
+    private final String schemaDirectory;
+    private final Map<String, JsonNode> documents = new ConcurrentHashMap<>();
+
+    SchemaResolver(final String schemaDirectory) {
+        this.schemaDirectory = schemaDirectory;
+    }
+
+    JsonNode resolve(final String schemaFileName) {
+        return resolve(document(schemaFileName), schemaFileName, 0);
+    }
+
+    private JsonNode resolve(final JsonNode node, final String fileName, final int depth) {
+        if (depth > MAXIMUM_DEPTH) {
+            throw new IllegalStateException("The $ref chain of " + fileName + " is deeper than " + MAXIMUM_DEPTH
+                    + ", recursive schemas are not supported");
+        }
+        if (node.isArray()) {
+            final ArrayNode resolved = JsonNodeFactory.instance.arrayNode(node.size());
+            node.forEach(element -> resolved.add(resolve(element, fileName, depth)));
+            return resolved;
+        }
+        if (!node.isObject()) {
+            return node;
+        }
+        if (node.has("$ref")) {
+            return reference(node.get("$ref").asText(), fileName, depth);
+        }
+        ObjectNode resolved = JsonNodeFactory.instance.objectNode();
+        final ObjectNode siblings = JsonNodeFactory.instance.objectNode();
+        final Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+            final Map.Entry<String, JsonNode> field = fields.next();
+            switch (field.getKey()) {
+                case "definitions":
+                    break;
+                case "allOf":
+                    for (JsonNode subSchema : field.getValue()) {
+                        resolved = merge(resolved, resolve(subSchema, fileName, depth + 1));
+                    }
+                    break;
+                default:
+                    siblings.set(field.getKey(), resolve(field.getValue(), fileName, depth));
+            }
+        }
+        return merge(resolved, siblings);
+    }
+
+    private JsonNode reference(final String reference, final String fileName, final int depth) {
+        final int fragment = reference.indexOf('#');
+        final String referencedFile = fragment <= 0 ? fileName : reference.substring(0, fragment);
+        final String pointer = fragment < 0 ? "" : reference.substring(fragment + 1);
+        final JsonNode target = document(referencedFile).at(pointer);
+        if (target.isMissingNode()) {
+            throw new IllegalStateException("The $ref " + reference + " of " + fileName + " cannot be resolved");
+        }
+        return resolve(target, referencedFile, depth + 1);
+    }
+
+    //The right hand schema wins on every keyword except properties and required, which are combined, and
+    //additionalProperties, which stays false once either side forbids them.
+    private static ObjectNode merge(final ObjectNode left, final JsonNode right) {
+        final ObjectNode merged = left.deepCopy();
+        final Iterator<Map.Entry<String, JsonNode>> fields = right.fields();
+        while (fields.hasNext()) {
+            final Map.Entry<String, JsonNode> field = fields.next();
+            final JsonNode existing = merged.get(field.getKey());
+            if (Objects.isNull(existing)) {
+                merged.set(field.getKey(), field.getValue());
+                continue;
+            }
+            switch (field.getKey()) {
+                case "properties":
+                    final ObjectNode properties = ((ObjectNode) existing).deepCopy();
+                    field.getValue().fields().forEachRemaining(property -> properties.set(property.getKey(),
+                            properties.has(property.getKey())
+                                    ? merge((ObjectNode) properties.get(property.getKey()), property.getValue())
+                                    : property.getValue()));
+                    merged.set("properties", properties);
+                    break;
+                case "required":
+                    final Set<String> required = new LinkedHashSet<>();
+                    existing.forEach(name -> required.add(name.asText()));
+                    field.getValue().forEach(name -> required.add(name.asText()));
+                    final ArrayNode requiredNames = JsonNodeFactory.instance.arrayNode();
+                    required.forEach(requiredNames::add);
+                    merged.set("required", requiredNames);
+                    break;
+                case "additionalProperties":
+                    merged.put("additionalProperties",
+                            existing.asBoolean(true) && field.getValue().asBoolean(true));
+                    break;
+                default:
+                    merged.set(field.getKey(), field.getValue());
+            }
+        }
+        return merged;
+    }
+
+    private JsonNode document(final String fileName) {
+        return documents.computeIfAbsent(fileName, name -> {
+            try {
+                return OBJECT_MAPPER.readTree(PayloadTemplates.get(schemaDirectory + "/" + name).text());
+            } catch (IOException ioException) {
+                throw new UncheckedIOException(ioException);
+            }
+        });
+    }
+}
@@ -1,7 +1,7 @@
 package uk.gov.hmcts.futurehearings.snl.acceptance.hearings;
 
-import uk.gov.hmcts.futurehearings.snl.Application;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.TestingUtils;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.context.AcceptanceTest;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.delegate.CommonDelegate;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.verify.dto.SNLVerificationDTO;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.verify.error.SNLCommonErrorVerifier;
@@ -17,15 +17,12 @@ import org.junit.platform.suite.api.SelectClasses;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.test.context.ActiveProfiles;
 
 
 @Slf4j
-@SpringBootTest(classes = {Application.class})
-@ActiveProfiles("acceptance")
+@AcceptanceTest
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 @SelectClasses(POSTHearingsHeaderValidationTest.class)
 @IncludeTags("Post")
@@ -2,14 +2,15 @@ package uk.gov.hmcts.futurehearings.snl.acceptance.hearings;
 
 import static uk.gov.hmcts.futurehearings.snl.acceptance.common.TestingUtils.generateStringForGivenLength;
 import static uk.gov.hmcts.futurehearings.snl.acceptance.common.helper.CommonHeaderHelper.createStandardPayloadHeader;
-import static uk.gov.hmcts.futurehearings.snl.acceptance.common.TestingUtils.replaceCharacterSequence;
 
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.params.provider.CsvFileSource;
-import uk.gov.hmcts.futurehearings.snl.Application;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.TestingUtils;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.context.AcceptanceTest;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.delegate.CommonDelegate;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.delegate.dto.DelegateDTO;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.identifier.HMCTSIdentifier;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.template.PayloadTemplates;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.verify.dto.SNLVerificationDTO;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.verify.error.SNLCommonErrorVerifier;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.verify.success.SNLCommonSuccessVerifier;
@@ -17,8 +18,6 @@ import uk.gov.hmcts.futurehearings.snl.acceptance.common.verify.success.SNLCommo
 import java.io.IOException;
 import java.text.MessageFormat;
 import java.util.Arrays;
-import java.util.Random;
-import java.util.UUID;
 
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -28,14 +27,11 @@ import org.junit.platform.suite.api.SelectClasses;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.test.context.ActiveProfiles;
 
 @Slf4j
-@SpringBootTest(classes = {Application.class})
-@ActiveProfiles("acceptance")
+@AcceptanceTest
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 @SelectClasses(POSTHearingsPayloadValidationTest.class)
 @IncludeTags("Post")
@@ -96,7 +92,7 @@ public class POSTHearingsPayloadValidationTest extends HearingsPayloadValidation
     @DisplayName("Successfully validated response for case listing request id tests")
     public void test_successful_response_with_case_listing_request_id_mandatory_elements_payload() throws Exception {
         this.setInputPayloadFileName("hearing-request-mandatory-case-listing-request-id.json");
-        generateResourcesByUserPayloadWithRandomCaseIdHMCTSAndField(UUID.randomUUID().toString().substring(0, 9));
+        generateResourcesByUserPayloadWithRandomCaseIdHMCTSAndField(HMCTSIdentifier.CASE_LISTING_REQUEST_ID.next());
         DelegateDTO delegateDTO = buildDelegateDTO(getRelativeURL(),
                 createStandardPayloadHeader(), getHttpMethod(), getHttpSuccessStatus());
         log.debug("The value of the Delegate Payload : " + delegateDTO.inputPayload());
@@ -1034,38 +1030,30 @@ public class POSTHearingsPayloadValidationTest extends HearingsPayloadValidation
 
 
     private void generateResourcesByUserPayloadWithRandomCaseIdHMCTS() throws IOException {
-        final String randomID = UUID.randomUUID().toString() + UUID.randomUUID().toString();
-        final String caseListingRequestID = UUID.randomUUID().toString() + UUID.randomUUID().toString();
-        this.setInputBodyPayload(String.format(TestingUtils.readFileContents(String.format(INPUT_TEMPLATE_FILE_PATH,
-                getInputFileDirectory()) + "/post/" + getInputPayloadFileName()), randomID.substring(0, 29), caseListingRequestID.substring(0, 9)));
+        this.setInputBodyPayload(PayloadTemplates.render(String.format(INPUT_TEMPLATE_FILE_PATH,
+                getInputFileDirectory()) + "/post/" + getInputPayloadFileName(), HMCTSIdentifier.CASE_ID_HMCTS.next(), HMCTSIdentifier.CASE_LISTING_REQUEST_ID.next()));
     }
 
     private void generateResourcesByUserPayloadWithRandomCaseIdHMCTS(final String randomID) throws IOException {
-        final String caseListingRequestID = UUID.randomUUID().toString() + UUID.randomUUID().toString();
-        this.setInputBodyPayload(String.format(TestingUtils.readFileContents(String.format(INPUT_TEMPLATE_FILE_PATH,
-                getInputFileDirectory()) + "/post/" + getInputPayloadFileName()), randomID, caseListingRequestID.substring(0, 9)));
+        this.setInputBodyPayload(PayloadTemplates.render(String.format(INPUT_TEMPLATE_FILE_PATH,
+                getInputFileDirectory()) + "/post/" + getInputPayloadFileName(), randomID, HMCTSIdentifier.CASE_LISTING_REQUEST_ID.next()));
     }
 
     private void generateResourcesByUserPayloadWithRandomCaseIdHMCTSAndField(final String formatValue) throws IOException {
-        final String randomID = UUID.randomUUID().toString() + UUID.randomUUID().toString();
-        this.setInputBodyPayload(String.format(TestingUtils.readFileContents(String.format(INPUT_TEMPLATE_FILE_PATH,
-                getInputFileDirectory()) + "/post/" + getInputPayloadFileName()), randomID.substring(0, 29), formatValue));
+        this.setInputBodyPayload(PayloadTemplates.render(String.format(INPUT_TEMPLATE_FILE_PATH,
+                getInputFileDirectory()) + "/post/" + getInputPayloadFileName(), HMCTSIdentifier.CASE_ID_HMCTS.next(), formatValue));
     }
 
 
     private void generateResourcesByUserPayloadWithRandomCaseIdHMCTSAndCaseListingRequestIDAndField(final String formatValue) throws IOException {
-        final String randomID = UUID.randomUUID().toString() + UUID.randomUUID().toString();
-        final String caseListingRequestID = UUID.randomUUID().toString() + UUID.randomUUID().toString();
-        this.setInputBodyPayload(String.format(TestingUtils.readFileContents(String.format(INPUT_TEMPLATE_FILE_PATH,
-                getInputFileDirectory()) + "/post/" + getInputPayloadFileName()), randomID.substring(0, 29), caseListingRequestID.substring(0, 9), formatValue));
+        this.setInputBodyPayload(PayloadTemplates.render(String.format(INPUT_TEMPLATE_FILE_PATH,
+                getInputFileDirectory()) + "/post/" + getInputPayloadFileName(), HMCTSIdentifier.CASE_ID_HMCTS.next(), HMCTSIdentifier.CASE_LISTING_REQUEST_ID.next(), formatValue));
     }
 
 
     private void generateResourcesByUserPayloadWithRandomCaseIdHMCTSAndTwoField(final String formatValue1, final String formatValue2) throws IOException {
-        final String randomID = UUID.randomUUID().toString() + UUID.randomUUID().toString();
-        final String caseListingRequestID = UUID.randomUUID().toString() + UUID.randomUUID().toString();
-        this.setInputBodyPayload(String.format(TestingUtils.readFileContents(String.format(INPUT_TEMPLATE_FILE_PATH,
-                getInputFileDirectory()) + "/post/" + getInputPayloadFileName()), randomID.substring(0, 29), caseListingRequestID.substring(0, 9), formatValue1, formatValue2));
+        this.setInputBodyPayload(PayloadTemplates.render(String.format(INPUT_TEMPLATE_FILE_PATH,
+                getInputFileDirectory()) + "/post/" + getInputPayloadFileName(), HMCTSIdentifier.CASE_ID_HMCTS.next(), HMCTSIdentifier.CASE_LISTING_REQUEST_ID.next(), formatValue1, formatValue2));
     }
 
     public static String createString(int length, char value) {
@@ -1075,25 +1063,20 @@ public class POSTHearingsPayloadValidationTest extends HearingsPayloadValidation
     }
 
     private void generateLocationPayloadWithRandomHMCTSIDAndFieldTokenReplace(final String token, final String value) throws IOException {
-        final int randomId = new Random().nextInt(99999999);
-        final String caseListingRequestID = UUID.randomUUID().toString() + UUID.randomUUID().toString();
-        String formattedString = String.format(TestingUtils.readFileContents(String.format(INPUT_TEMPLATE_FILE_PATH,
-                getInputFileDirectory()) + "/post/" + getInputPayloadFileName()), randomId, caseListingRequestID.substring(0, 9), value);
-        this.setInputBodyPayload(replaceCharacterSequence(token, value, formattedString));
+        this.setInputBodyPayload(PayloadTemplates.get(String.format(INPUT_TEMPLATE_FILE_PATH,
+                getInputFileDirectory()) + "/post/" + getInputPayloadFileName())
+                .renderReplacing(token, value, HMCTSIdentifier.CASE_ID_HMCTS.next(), HMCTSIdentifier.CASE_LISTING_REQUEST_ID.next(), value));
     }
 
     private void generateLocationPayloadWithRandomHMCTSIDAndFieldTokenReplace(final String id, final String token, final String value) throws IOException {
-        final int randomId = new Random().nextInt(99999999);
-        final String caseListingRequestID = UUID.randomUUID().toString() + UUID.randomUUID().toString();
-        String formattedString = String.format(TestingUtils.readFileContents(String.format(INPUT_TEMPLATE_FILE_PATH,
-                getInputFileDirectory()) + "/post/" + getInputPayloadFileName()), randomId, id, caseListingRequestID.substring(0, 9), value);
-        this.setInputBodyPayload(replaceCharacterSequence(token, value, formattedString));
+        this.setInputBodyPayload(PayloadTemplates.get(String.format(INPUT_TEMPLATE_FILE_PATH,
+                getInputFileDirectory()) + "/post/" + getInputPayloadFileName())
+                .renderReplacing(token, value, HMCTSIdentifier.CASE_ID_HMCTS.next(), id, HMCTSIdentifier.CASE_LISTING_REQUEST_ID.next(), value));
     }
 
     private void generateLocationPayloadWithRandomHMCTSIDAndFieldValueFormat(final String formatValue) throws IOException {
-        final int randomId = new Random().nextInt(99999999);
-        this.setInputBodyPayload(String.format(TestingUtils.readFileContents(String.format(INPUT_TEMPLATE_FILE_PATH,
-                getInputFileDirectory()) + "/post/" + getInputPayloadFileName()), randomId, formatValue));
+        this.setInputBodyPayload(PayloadTemplates.render(String.format(INPUT_TEMPLATE_FILE_PATH,
+                getInputFileDirectory()) + "/post/" + getInputPayloadFileName(), HMCTSIdentifier.CASE_ID_HMCTS.next(), formatValue));
     }
 
 }
@@ -3,22 +3,18 @@ package uk.gov.hmcts.futurehearings.snl.acceptance.hearings;
 import static uk.gov.hmcts.futurehearings.snl.acceptance.common.helper.CommonHeaderHelper.createCompletePayloadHeader;
 
 import io.restassured.module.jsv.JsonSchemaValidator;
-import uk.gov.hmcts.futurehearings.snl.Application;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.RestClientTemplate;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.TestingUtils;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.context.AcceptanceTest;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.delegate.CommonDelegate;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.delegate.dto.DelegateDTO;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.identifier.HMCTSIdentifier;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.template.PayloadTemplates;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.verify.dto.SNLVerificationDTO;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.verify.error.SNLCommonErrorVerifier;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.verify.success.SNLCommonSuccessVerifier;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import java.util.Random;
-
 import io.restassured.http.Header;
-import io.restassured.http.Headers;
 import io.restassured.response.Response;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeAll;
@@ -30,14 +26,11 @@ import org.junit.platform.suite.api.SelectClasses;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.test.context.ActiveProfiles;
 
 @Slf4j
-@SpringBootTest(classes = {Application.class})
-@ActiveProfiles("acceptance")
+@AcceptanceTest
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 @SelectClasses(PUTHearingsHeaderValidationTest.class)
 @IncludeTags("Post")
@@ -55,7 +48,7 @@ class PUTHearingsHeaderValidationTest extends HearingsHeaderValidationTest {
     @Value("${hearingsApiRootContext}")
     private String hearingsApiRootContext;
 
-    private Integer hearingId;
+    private String hearingId;
 
     @BeforeAll
     public void initialiseValues() throws Exception {
@@ -70,8 +63,8 @@ class PUTHearingsHeaderValidationTest extends HearingsHeaderValidationTest {
         this.hearingsApi_idRootContext = String.format(hearingsApi_idRootContext, hearingId);
         this.setRelativeURL(hearingsApi_idRootContext);
         this.setRelativeURLForNotFound(this.getRelativeURL().replace("hearings", "hearing"));
-        this.setInputBodyPayload(String.format(TestingUtils.readFileContents(String.format(INPUT_FILE_PATH, getInputFileDirectory())
-                + "/" + getInputPayloadFileName()), hearingId));
+        this.setInputBodyPayload(PayloadTemplates.render(String.format(INPUT_FILE_PATH, getInputFileDirectory())
+                + "/" + getInputPayloadFileName(), hearingId));
     }
 
     @Test
@@ -83,22 +76,23 @@ class PUTHearingsHeaderValidationTest extends HearingsHeaderValidationTest {
         super.test_successful_response_for_empty_json_body();
     }
 
-    private Integer makePostHearingAndFetchHearingId() throws Exception {
-        int randomId = new Random().nextInt(99999999);
+    private String makePostHearingAndFetchHearingId() throws Exception {
+        final String randomId = HMCTSIdentifier.CASE_ID_HMCTS.next();
 
         DelegateDTO delegateDTO = DelegateDTO.builder()
                 .targetSubscriptionKey(getApiSubscriptionKey()).authorizationToken(getAuthorizationToken())
+                .clientContext(getClientContext())
                 .targetURL(hearingsApiRootContext)
-                .inputPayload(String.format(TestingUtils.readFileContents(String.format(INPUT_FILE_PATH, getInputFileDirectory()) +
-                        "/" + getInputPayloadFileName()), randomId))
+                .inputPayload(PayloadTemplates.render(String.format(INPUT_FILE_PATH, getInputFileDirectory()) +
+                        "/" + getInputPayloadFileName(), randomId))
                 .standardHeaderMap(createCompletePayloadHeader())
                 .headers(null)
                 .params(getUrlParams())
                 .httpMethod(HttpMethod.POST)
                 .status(HttpStatus.ACCEPTED)
                 .build();
-        Response response = RestClientTemplate.shouldExecute(convertHeaderMapToRestAssuredHeaders(delegateDTO.standardHeaderMap()),
-                delegateDTO.authorizationToken(),
+        Response response = RestClientTemplate.shouldExecute(delegateDTO.clientContext(),
+                TestingUtils.convertHeaderMapToRestAssuredHeaders(delegateDTO.standardHeaderMap()),
                 delegateDTO.inputPayload(), delegateDTO.targetURL(),
                 delegateDTO.params(), delegateDTO.status(), delegateDTO.httpMethod());
 
@@ -107,17 +101,6 @@ class PUTHearingsHeaderValidationTest extends HearingsHeaderValidationTest {
         return randomId;
     }
 
-    private static final Headers convertHeaderMapToRestAssuredHeaders(final Map<String, String> headerMap) {
-
-        List<Header> listOfHeaders = new ArrayList<>();
-        headerMap.forEach((key, value) -> {
-            Header header = new Header(key, value);
-            listOfHeaders.add(header);
-        });
-        Headers headers = new Headers(listOfHeaders);
-        return headers;
-    }
-
     //This test is for a Standard Header but a Payload for Non JSON Type is to be tested.
     //Confirmed by Product Owner that this should be a Success Scenario.
     /*@Test
@@ -1,7 +1,5 @@
 package uk.gov.hmcts.futurehearings.snl.acceptance.hearings;
 
-import io.restassured.http.Header;
-import io.restassured.http.Headers;
 import io.restassured.response.Response;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.*;
@@ -13,15 +11,15 @@ import org.junit.platform.suite.api.SelectClasses;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.test.context.ActiveProfiles;
-import uk.gov.hmcts.futurehearings.snl.Application;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.RestClientTemplate;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.TestingUtils;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.context.AcceptanceTest;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.delegate.CommonDelegate;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.delegate.dto.DelegateDTO;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.identifier.HMCTSIdentifier;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.template.PayloadTemplates;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.verify.dto.SNLVerificationDTO;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.verify.error.SNLCommonErrorVerifier;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.verify.success.SNLCommonSuccessVerifier;
@@ -31,13 +29,11 @@ import java.text.MessageFormat;
 import java.util.*;
 
 import static uk.gov.hmcts.futurehearings.snl.acceptance.common.TestingUtils.generateStringForGivenLength;
-import static uk.gov.hmcts.futurehearings.snl.acceptance.common.TestingUtils.replaceCharacterSequence;
 import static uk.gov.hmcts.futurehearings.snl.acceptance.common.helper.CommonHeaderHelper.createCompletePayloadHeader;
 import static uk.gov.hmcts.futurehearings.snl.acceptance.common.helper.CommonHeaderHelper.createStandardPayloadHeader;
 
 @Slf4j
-@SpringBootTest(classes = {Application.class})
-@ActiveProfiles("acceptance")
+@AcceptanceTest
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 @SelectClasses(PUTHearingsPayloadValidationTest.class)
 @IncludeTags("Put")
@@ -67,8 +63,8 @@ class PUTHearingsPayloadValidationTest extends HearingsHeaderValidationTest {
         this.setHttpMethod(HttpMethod.PUT);
         this.setHttpSuccessStatus(HttpStatus.ACCEPTED);
         this.setRelativeURLForNotFound(this.getRelativeURL().replace("hearings", "hearing"));
-        this.setInputBodyPayload(String.format(TestingUtils.readFileContents(String.format(INPUT_FILE_PATH, getInputFileDirectory())
-                + "/" + getInputPayloadFileName()), caseListingRequestId));
+        this.setInputBodyPayload(PayloadTemplates.render(String.format(INPUT_FILE_PATH, getInputFileDirectory())
+                + "/" + getInputPayloadFileName(), caseListingRequestId));
         this.setSnlSuccessVerifier(new SNLCommonSuccessVerifier());
         this.setSnlErrorVerifier(new SNLCommonErrorVerifier());
     }
@@ -662,7 +658,6 @@ class PUTHearingsPayloadValidationTest extends HearingsHeaderValidationTest {
                 new SNLVerificationDTO(HttpStatus.BAD_REQUEST, "1000", errorDesc, null));
     }
 
-
     @ParameterizedTest(name = "update listingDuration non mandatory positive tests")
     @CsvSource(value = {"listingDuration, 5", "listingDuration, 25", "listingDuration, 5000"}, nullValues = "NIL")
     @DisplayName("Update successfully response for a payload with the listingDuration")
@@ -955,103 +950,91 @@ class PUTHearingsPayloadValidationTest extends HearingsHeaderValidationTest {
     }
 
 
-    private int[] makePostHearingAndFetchRandomIdAndCaseListingId() throws Exception {
-        int randomId = new Random().nextInt(99999999);
-        int caseListingRequestId = new Random().nextInt(8888);
+    private String[] makePostHearingAndFetchRandomIdAndCaseListingId() throws Exception {
+        final String randomId = HMCTSIdentifier.CASE_ID_HMCTS.next();
+        final String caseListingRequestId = HMCTSIdentifier.CASE_LISTING_REQUEST_ID.next();
         DelegateDTO delegateDTO = DelegateDTO.builder()
                 .targetSubscriptionKey(getApiSubscriptionKey()).authorizationToken(getAuthorizationToken())
+                .clientContext(getClientContext())
                 .targetURL(hearingsApiRootContext)
-                .inputPayload(String.format(TestingUtils.readFileContents(String.format(INPUT_FILE_PATH, getInputFileDirectory()) +
-                        "/template/put/" + getInputPayloadFileName()), randomId, caseListingRequestId))
+                .inputPayload(PayloadTemplates.render(String.format(INPUT_FILE_PATH, getInputFileDirectory()) +
+                        "/template/put/" + getInputPayloadFileName(), randomId, caseListingRequestId))
                 .standardHeaderMap(createCompletePayloadHeader())
                 .headers(null)
                 .params(getUrlParams())
                 .httpMethod(HttpMethod.POST)
                 .status(HttpStatus.ACCEPTED)
                 .build();
-        Response response = RestClientTemplate.shouldExecute(convertHeaderMapToRestAssuredHeaders(delegateDTO.standardHeaderMap()),
-                delegateDTO.authorizationToken(),
+        Response response = RestClientTemplate.shouldExecute(delegateDTO.clientContext(),
+                TestingUtils.convertHeaderMapToRestAssuredHeaders(delegateDTO.standardHeaderMap()),
                 delegateDTO.inputPayload(), delegateDTO.targetURL(),
                 delegateDTO.params(), delegateDTO.status(), delegateDTO.httpMethod());
         log.debug("POST Response : " + response.getBody().asString());
-        return new int[]{randomId, caseListingRequestId};
+        return new String[]{randomId, caseListingRequestId};
     }
 
-    private static final Headers convertHeaderMapToRestAssuredHeaders(final Map<String, String> headerMap) {
-        List<Header> listOfHeaders = new ArrayList<>();
-        headerMap.forEach((key, value) -> {
-            Header header = new Header(key, value);
-            listOfHeaders.add(header);
-        });
-        Headers headers = new Headers(listOfHeaders);
-        return headers;
-    }
 
     private void generateLocationPayloadWithRandomHMCTSIDAndFieldValueFormat(final String templatePath, final String formatValue) throws IOException {
-        final int randomId = new Random().nextInt(99999999);
-        this.setInputBodyPayload(String.format(TestingUtils.readFileContents(String.format(INPUT_TEMPLATE_FILE_PATH,
-                getInputFileDirectory()) + templatePath + getInputPayloadFileName()), randomId, formatValue));
+        this.setInputBodyPayload(PayloadTemplates.render(String.format(INPUT_TEMPLATE_FILE_PATH,
+                getInputFileDirectory()) + templatePath + getInputPayloadFileName(), HMCTSIdentifier.CASE_ID_HMCTS.next(), formatValue));
     }
 
     private void generatePayloadWithRandomHMCTSID(final String templatePath, final String formatValue) throws IOException {
-        this.setInputBodyPayload(String.format(TestingUtils.readFileContents(String.format(INPUT_TEMPLATE_FILE_PATH,
-                getInputFileDirectory()) + templatePath + getInputPayloadFileName()), formatValue));
+        this.setInputBodyPayload(PayloadTemplates.render(String.format(INPUT_TEMPLATE_FILE_PATH,
+                getInputFileDirectory()) + templatePath + getInputPayloadFileName(), formatValue));
     }
 
     private void generatePayloadWithValue(final String templatePath) throws IOException {
-        this.setInputBodyPayload(String.format(TestingUtils.readFileContents(String.format(INPUT_TEMPLATE_FILE_PATH,
-                getInputFileDirectory()) + templatePath + getInputPayloadFileName())));
+        this.setInputBodyPayload(PayloadTemplates.render(String.format(INPUT_TEMPLATE_FILE_PATH,
+                getInputFileDirectory()) + templatePath + getInputPayloadFileName()));
     }
 
     final void generatePayloadWithUpdatedField(final String formatKey, final String formatValue, final String templatePath) throws IOException {
-        this.setInputBodyPayload(String.format(TestingUtils.readFileContents(String.format(INPUT_TEMPLATE_FILE_PATH,
-                getInputFileDirectory()) + templatePath + getInputPayloadFileName()), formatKey, formatValue));
+        this.setInputBodyPayload(PayloadTemplates.render(String.format(INPUT_TEMPLATE_FILE_PATH,
+                getInputFileDirectory()) + templatePath + getInputPayloadFileName(), formatKey, formatValue));
     }
 
     private void generatePayloadUpdateWithThreeField(final String templatePath, final String formatValue1, final String formatValue2, final String formatValue3) throws IOException {
-        this.setInputBodyPayload(String.format(TestingUtils.readFileContents(String.format(INPUT_TEMPLATE_FILE_PATH,
-                getInputFileDirectory()) + templatePath + getInputPayloadFileName()), formatValue1, formatValue2, formatValue3));
+        this.setInputBodyPayload(PayloadTemplates.render(String.format(INPUT_TEMPLATE_FILE_PATH,
+                getInputFileDirectory()) + templatePath + getInputPayloadFileName(), formatValue1, formatValue2, formatValue3));
     }
 
     private void generatePayloadWithFieldValueFormat(final String templatePath, final String formatValue) throws IOException {
-        this.setInputBodyPayload(String.format(TestingUtils.readFileContents(String.format(INPUT_TEMPLATE_FILE_PATH,
-                getInputFileDirectory()) + templatePath + getInputPayloadFileName()), formatValue));
+        this.setInputBodyPayload(PayloadTemplates.render(String.format(INPUT_TEMPLATE_FILE_PATH,
+                getInputFileDirectory()) + templatePath + getInputPayloadFileName(), formatValue));
     }
 
     private void generateHearingsPayloadWithRandomCaseIdHMCTS() throws IOException {
-        final String randomID = UUID.randomUUID().toString() + UUID.randomUUID().toString();
-        System.out.println("this is the random id" + randomID);
-        this.setInputBodyPayload(String.format(TestingUtils.readFileContents(String.format(INPUT_TEMPLATE_FILE_PATH,
-                getInputFileDirectory()) + "/put/" + getInputPayloadFileName()), randomID.substring(0, 29)));
+        this.setInputBodyPayload(PayloadTemplates.render(String.format(INPUT_TEMPLATE_FILE_PATH,
+                getInputFileDirectory()) + "/put/" + getInputPayloadFileName(), HMCTSIdentifier.CASE_ID_HMCTS.next()));
     }
 
     private void generatePayloadWithRandomCaseIdHMCTS(final String templatePath, final String formatValue1, final String formatValue2) throws IOException {
-        this.setInputBodyPayload(String.format(TestingUtils.readFileContents(String.format(INPUT_TEMPLATE_FILE_PATH,
-                getInputFileDirectory()) + templatePath + getInputPayloadFileName()), formatValue1, formatValue2));
+        this.setInputBodyPayload(PayloadTemplates.render(String.format(INPUT_TEMPLATE_FILE_PATH,
+                getInputFileDirectory()) + templatePath + getInputPayloadFileName(), formatValue1, formatValue2));
     }
 
     private void generatePayloadWithRandomCaseIdHMCTS(final String templatePath, final String formatValue1) throws IOException {
-        this.setInputBodyPayload(String.format(TestingUtils.readFileContents(String.format(INPUT_TEMPLATE_FILE_PATH,
-                getInputFileDirectory()) + templatePath + getInputPayloadFileName()), formatValue1));
+        this.setInputBodyPayload(PayloadTemplates.render(String.format(INPUT_TEMPLATE_FILE_PATH,
+                getInputFileDirectory()) + templatePath + getInputPayloadFileName(), formatValue1));
     }
 
     private void generateLocationPayloadWithRandomHMCTSIDAndFieldTokenReplace(final String token, final String value) throws IOException {
-        final int randomId = new Random().nextInt(99999999);
-        String formattedString = String.format(TestingUtils.readFileContents(String.format(INPUT_TEMPLATE_FILE_PATH,
-                getInputFileDirectory()) + "/" + getInputPayloadFileName()), randomId, value);
-        this.setInputBodyPayload(replaceCharacterSequence(token, value, formattedString));
+        this.setInputBodyPayload(PayloadTemplates.get(String.format(INPUT_TEMPLATE_FILE_PATH,
+                getInputFileDirectory()) + "/" + getInputPayloadFileName())
+                .renderReplacing(token, value, HMCTSIdentifier.CASE_ID_HMCTS.next(), value));
     }
 
     private void generatePayloadWithFieldTokenReplace(final String formatValue1, final String token, final String value, final String templatePath, final String formatValue2) throws IOException {
-        String formattedString = String.format(TestingUtils.readFileContents(String.format(INPUT_TEMPLATE_FILE_PATH,
-                getInputFileDirectory()) + templatePath + getInputPayloadFileName()), formatValue1, token, value, formatValue2);
-        this.setInputBodyPayload(replaceCharacterSequence(token, value, formattedString));
+        this.setInputBodyPayload(PayloadTemplates.get(String.format(INPUT_TEMPLATE_FILE_PATH,
+                getInputFileDirectory()) + templatePath + getInputPayloadFileName())
+                .renderReplacing(token, value, formatValue1, token, value, formatValue2));
     }
 
     private void generatePayloadWithFieldTokenReplace(final String token, final String value, final String templatePath, final String formatValue1) throws IOException {
-        String formattedString = String.format(TestingUtils.readFileContents(String.format(INPUT_TEMPLATE_FILE_PATH,
-                getInputFileDirectory()) + templatePath + getInputPayloadFileName()), token, value, formatValue1);
-        this.setInputBodyPayload(replaceCharacterSequence(token, value, formattedString));
+        this.setInputBodyPayload(PayloadTemplates.get(String.format(INPUT_TEMPLATE_FILE_PATH,
+                getInputFileDirectory()) + templatePath + getInputPayloadFileName())
+                .renderReplacing(token, value, token, value, formatValue1));
     }
 
 }
@@ -0,0 +1,103 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.load;
+
+import static uk.gov.hmcts.futurehearings.snl.acceptance.common.security.OAuthTokenGenerator.cachedOAuthToken;
+
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.RestClientTemplate;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.context.ClientContext;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.engine.ExecutionEngineProperties;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.engine.PooledExecutionEngine;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.timing.LatencyReportWriter;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.YamlPropertiesFactoryBean;
+import org.springframework.core.env.PropertiesPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.ClassPathResource;
+
+//Entry point of ./gradlew load. Reads the acceptance configuration without starting a Spring context, so the
+//target and token settings are only needed with load.target=remote, the default being a local stand-in.
+@Slf4j
+public class LoadGenerationRunner {
+
+    private static final String ACCEPTANCE_CONFIGURATION = "application-acceptance.yaml";
+    private static final String LOCAL_STAND_IN_TOKEN = "local-stand-in";
+
+    public static void main(final String[] args) throws Exception {
+        final StandardEnvironment environment = acceptanceEnvironment();
+        final LoadProfile profile = LoadProfile.builder()
+                .model(LoadModel.of(environment.getProperty("load.model", "closed")))
+                .mix(LoadMix.parse(environment.getRequiredProperty("load.mix")))
+                .duration(Duration.ofSeconds(environment.getProperty("load.durationSeconds", Long.class, 60L)))
+                .rampUp(Duration.ofSeconds(environment.getProperty("load.rampUpSeconds", Long.class, 10L)))
+                .concurrency(environment.getProperty("load.concurrency", Integer.class, 10))
+                .arrivalRate(environment.getProperty("load.arrivalRate", Double.class, 20.0))
+                .maxInFlight(environment.getProperty("load.maxInFlight", Integer.class, 200))
+                .build();
+        final int workers = profile.model() == LoadModel.OPEN ? profile.maxInFlight() : profile.concurrency();
+
+        final Map<LoadScenario, String> endpoints = new EnumMap<>(LoadScenario.class);
+        profile.mix().weights().keySet().forEach(scenario ->
+                endpoints.put(scenario, environment.getRequiredProperty(scenario.endpointProperty())));
+
+        final PooledExecutionEngine executionEngine = new PooledExecutionEngine(ExecutionEngineProperties.builder()
+                .maxConnectionsTotal(Math.max(workers, environment.getProperty("httpClient.maxConnectionsTotal", Integer.class, 50)))
+                .maxConnectionsPerRoute(Math.max(workers, environment.getProperty("httpClient.maxConnectionsPerRoute", Integer.class, 20)))
+                .connectionTimeToLiveSeconds(environment.getProperty("httpClient.connectionTimeToLiveSeconds", Long.class, 60L))
+                .connectionRequestTimeoutMillis(environment.getProperty("httpClient.connectionRequestTimeoutMillis", Long.class, 30000L))
+                .tlsSessionCacheSize(environment.getProperty("httpClient.tlsSessionCacheSize", Integer.class, 100))
+                .tlsSessionTimeoutSeconds(environment.getProperty("httpClient.tlsSessionTimeoutSeconds", Integer.class, 3600))
+                .relaxedHttpsValidation(environment.getProperty("httpClient.relaxedHttpsValidation", Boolean.class, true))
+                .build());
+        RestClientTemplate.setExecutionEngine(executionEngine);
+
+        LocalStandInServer standIn = null;
+        try {
+            final ClientContext clientContext;
+            if ("remote".equalsIgnoreCase(environment.getProperty("load.target", "local"))) {
+                final String token_apiURL = environment.getRequiredProperty("token_apiURL");
+                final String token_username = environment.getRequiredProperty("token_username");
+                final String token_password = environment.getRequiredProperty("token_password");
+                clientContext = ClientContext.of(environment.getRequiredProperty("targetInstance"),
+                        () -> cachedOAuthToken(token_apiURL, token_username, token_password));
+            } else {
+                standIn = new LocalStandInServer(endpoints, workers + 10,
+                        environment.getProperty("load.standInDelayMillis", Integer.class, 20));
+                clientContext = ClientContext.of(standIn.start(), () -> LOCAL_STAND_IN_TOKEN);
+            }
+
+            final LoadResult result = new LoadGenerator(profile,
+                    new LoadRequestFactory(clientContext, endpoints)).run();
+            log.info(result.summary());
+
+            final Path reportDirectory = Paths.get(environment.getProperty("load.reportDirectory", "build/reports/load"));
+            final LatencyReportWriter writer = new LatencyReportWriter();
+            writer.write(writer.toReport(result.latencyHistograms().snapshot(), clientContext.baseURI(),
+                    profile.model() + " " + profile.mix()), reportDirectory, null);
+            Files.writeString(reportDirectory.resolve("load-summary.txt"), profile + System.lineSeparator()
+                    + result.summary() + System.lineSeparator());
+            log.info("Load reports written to : " + reportDirectory.toAbsolutePath());
+        } finally {
+            executionEngine.shutdown();
+            if (Objects.nonNull(standIn)) {
+                standIn.close();
+            }
+        }
+    }
+
+    //The same precedence as the acceptance suite, system properties then environment variables then the yaml file.
+    private static StandardEnvironment acceptanceEnvironment() {
+        final YamlPropertiesFactoryBean yaml = new YamlPropertiesFactoryBean();
+        yaml.setResources(new ClassPathResource(ACCEPTANCE_CONFIGURATION));
+        final StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addLast(new PropertiesPropertySource(ACCEPTANCE_CONFIGURATION, yaml.getObject()));
+        return environment;
+    }
+}
@@ -0,0 +1,132 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.load;
+
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.RestClientTemplate;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.TestingUtils;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.delegate.dto.DelegateDTO;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class LoadGenerator {
+
+    private static final long DRAIN_TIMEOUT_SECONDS = 60;
+
+    private final LoadProfile profile;
+    private final LoadRequestFactory requestFactory;
+
+    LoadGenerator(final LoadProfile profile, final LoadRequestFactory requestFactory) {
+        this.profile = profile;
+        this.requestFactory = requestFactory;
+    }
+
+    public LoadResult run() throws InterruptedException {
+        log.info("Load profile : " + profile);
+        final LoadResult result = new LoadResult();
+        final long startNanos = System.nanoTime();
+        final ExecutorService executor = profile.model() == LoadModel.OPEN
+                ? runOpen(result, startNanos)
+                : runClosed(result, startNanos);
+        executor.shutdown();
+        if (!executor.awaitTermination(DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            log.warn("Outstanding requests abandoned after " + DRAIN_TIMEOUT_SECONDS + " s");
+            executor.shutdownNow();
+        }
+        result.elapsedNanos(System.nanoTime() - startNanos);
+        return result;
+    }
+
+    //Every worker loops until the end of the run, the workers are started evenly across the ramp up.
+    private ExecutorService runClosed(final LoadResult result, final long startNanos) {
+        final int concurrency = profile.concurrency();
+        final long endNanos = startNanos + profile.duration().toNanos();
+        final ExecutorService workers = Executors.newFixedThreadPool(concurrency, daemonThreads("snl-load-worker-"));
+        for (int worker = 0; worker < concurrency; worker++) {
+            final long workerStartNanos = startNanos + profile.rampUp().toNanos() * worker / concurrency;
+            workers.execute(() -> {
+                parkUntil(workerStartNanos);
+                while (System.nanoTime() < endNanos) {
+                    send(profile.mix().pick(ThreadLocalRandom.current()), System.nanoTime(), result);
+                }
+            });
+        }
+        return workers;
+    }
+
+    //Arrivals are scheduled up front and their latency is measured from the intended start, so a slow target
+    //is charged for the requests it delayed (no coordinated omission). Arrivals with maxInFlight requests
+    //outstanding are dropped rather than queued.
+    private ExecutorService runOpen(final LoadResult result, final long startNanos) {
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(profile.maxInFlight(), profile.maxInFlight(),
+                DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS, new SynchronousQueue<>(), daemonThreads("snl-load-arrival-"));
+        final long durationNanos = profile.duration().toNanos();
+        for (long arrival = 0; ; arrival++) {
+            final long offsetNanos = arrivalOffsetNanos(arrival);
+            if (offsetNanos >= durationNanos) {
+                break;
+            }
+            final long intendedStartNanos = startNanos + offsetNanos;
+            parkUntil(intendedStartNanos);
+            final LoadScenario scenario = profile.mix().pick(ThreadLocalRandom.current());
+            try {
+                executor.execute(() -> send(scenario, intendedStartNanos, result));
+            } catch (RejectedExecutionException rejectedExecutionException) {
+                result.dropped(scenario);
+            }
+        }
+        return executor;
+    }
+
+    //The rate grows linearly over the ramp up, so the n-th arrival is at sqrt(2 n rampUp / rate) until the ramp up
+    //is over and then at rampUp / 2 + n / rate.
+    long arrivalOffsetNanos(final long arrival) {
+        final double rate = profile.arrivalRate();
+        final double rampUpSeconds = profile.rampUp().toNanos() / (double) TimeUnit.SECONDS.toNanos(1);
+        final double offsetSeconds = arrival < rate * rampUpSeconds / 2
+                ? Math.sqrt(2 * arrival * rampUpSeconds / rate)
+                : rampUpSeconds / 2 + arrival / rate;
+        return (long) (offsetSeconds * TimeUnit.SECONDS.toNanos(1));
+    }
+
+    private void send(final LoadScenario scenario, final long startNanos, final LoadResult result) {
+        final DelegateDTO delegateDTO = requestFactory.create(scenario);
+        try {
+            final Response response = RestClientTemplate.shouldExecute(delegateDTO.clientContext(),
+                    TestingUtils.convertHeaderMapToRestAssuredHeaders(delegateDTO.standardHeaderMap()),
+                    delegateDTO.inputPayload(), delegateDTO.targetURL(), delegateDTO.params(),
+                    delegateDTO.status(), delegateDTO.httpMethod());
+            result.completed(scenario, delegateDTO.targetURL(), delegateDTO.httpMethod(),
+                    response.statusCode(), System.nanoTime() - startNanos);
+        } catch (RuntimeException exception) {
+            log.debug("Load request failed : " + scenario, exception);
+            result.failed(scenario);
+        }
+    }
+
+    private static void parkUntil(final long deadlineNanos) {
+        for (long remaining = deadlineNanos - System.nanoTime(); remaining > 0;
+             remaining = deadlineNanos - System.nanoTime()) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private static ThreadFactory daemonThreads(final String prefix) {
+        final AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            final Thread thread = new Thread(runnable, prefix + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
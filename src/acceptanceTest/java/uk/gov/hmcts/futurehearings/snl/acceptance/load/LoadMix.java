@@ -0,0 +1,68 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.load;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+//The relative weight of every scenario, e.g. hearings=4,resourcesByLocation=2,resourcesByUser=2,sessions=2
+public class LoadMix {
+
+    private final Map<LoadScenario, Integer> weights;
+    private final LoadScenario[] scenarios;
+    private final int[] cumulativeWeights;
+
+    private LoadMix(final Map<LoadScenario, Integer> weights) {
+        this.weights = Collections.unmodifiableMap(weights);
+        this.scenarios = weights.keySet().toArray(new LoadScenario[0]);
+        this.cumulativeWeights = new int[scenarios.length];
+        int total = 0;
+        for (int i = 0; i < scenarios.length; i++) {
+            total += weights.get(scenarios[i]);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    public static LoadMix parse(final String mix) {
+        final Map<LoadScenario, Integer> weights = new EnumMap<>(LoadScenario.class);
+        for (String entry : mix.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            final String[] keyAndWeight = entry.split("=");
+            if (keyAndWeight.length != 2) {
+                throw new IllegalArgumentException("Load mix entry not identified : " + entry);
+            }
+            final int weight = Integer.parseInt(keyAndWeight[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Load mix weight must not be negative : " + entry);
+            }
+            if (weight > 0) {
+                weights.merge(LoadScenario.fromMixKey(keyAndWeight[0]), weight, Integer::sum);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Load mix has no scenario : " + mix);
+        }
+        return new LoadMix(weights);
+    }
+
+    public LoadScenario pick(final ThreadLocalRandom random) {
+        final int target = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (target < cumulativeWeights[i]) {
+                return scenarios[i];
+            }
+        }
+        return scenarios[scenarios.length - 1];
+    }
+
+    public Map<LoadScenario, Integer> weights() {
+        return weights;
+    }
+
+    @Override
+    public String toString() {
+        return weights.toString();
+    }
+}
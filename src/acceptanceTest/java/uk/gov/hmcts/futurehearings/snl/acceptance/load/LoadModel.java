@@ -0,0 +1,17 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.load;
+
+public enum LoadModel {
+
+    //A new request is started at the arrival rate whether or not earlier ones have completed.
+    OPEN,
+    //A fixed number of workers, each one sends its next request as soon as the previous one completes.
+    CLOSED;
+
+    public static LoadModel of(final String model) {
+        try {
+            return valueOf(model.trim().toUpperCase());
+        } catch (IllegalArgumentException illegalArgumentException) {
+            throw new IllegalArgumentException("Load model not identified : " + model);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.load;
+
+import java.time.Duration;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.Accessors;
+
+@Getter(AccessLevel.PUBLIC)
+@Accessors(fluent = true)
+@Builder
+@ToString
+public class LoadProfile {
+
+    private final LoadModel model;
+    private final LoadMix mix;
+    private final Duration duration;
+    //Open model: the arrival rate grows linearly to its target. Closed model: the workers are started evenly across it.
+    private final Duration rampUp;
+    //Closed model only.
+    private final int concurrency;
+    //Open model only, requests per second once ramped up.
+    private final double arrivalRate;
+    //Open model only, arrivals beyond this many outstanding requests are dropped and counted.
+    private final int maxInFlight;
+}
@@ -0,0 +1,47 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.load;
+
+import static uk.gov.hmcts.futurehearings.snl.acceptance.common.helper.CommonHeaderHelper.createCompletePayloadHeader;
+
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.context.ClientContext;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.delegate.dto.DelegateDTO;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.template.PayloadTemplate;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.template.PayloadTemplates;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+//Templates are compiled once up front, every request only renders fresh ids into them.
+//The token is resolved from the ClientContext on every request so that a run outlasting it picks up the refreshed one.
+class LoadRequestFactory {
+
+    private final ClientContext clientContext;
+    private final Map<LoadScenario, String> endpoints;
+    private final Map<LoadScenario, PayloadTemplate> templates = new EnumMap<>(LoadScenario.class);
+
+    LoadRequestFactory(final ClientContext clientContext,
+                       final Map<LoadScenario, String> endpoints) throws IOException {
+        this.clientContext = clientContext;
+        this.endpoints = new EnumMap<>(endpoints);
+        for (LoadScenario scenario : endpoints.keySet()) {
+            if (Objects.nonNull(scenario.templatePath())) {
+                templates.put(scenario, PayloadTemplates.get(scenario.templatePath()));
+            }
+        }
+    }
+
+    DelegateDTO create(final LoadScenario scenario) {
+        final PayloadTemplate template = templates.get(scenario);
+        return DelegateDTO.builder()
+                .authorizationToken(clientContext.authorizationToken())
+                .clientContext(clientContext)
+                .targetURL(endpoints.get(scenario))
+                .inputPayload(Objects.isNull(template) ? null : template.render(scenario.templateArguments()))
+                .standardHeaderMap(createCompletePayloadHeader())
+                .params(scenario.params())
+                .httpMethod(scenario.httpMethod())
+                .status(scenario.expectedStatus())
+                .build();
+    }
+}
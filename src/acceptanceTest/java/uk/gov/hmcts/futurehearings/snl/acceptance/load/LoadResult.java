@@ -0,0 +1,92 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.load;
+
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.timing.LatencyHistograms;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.http.HttpMethod;
+
+//Counters per scenario, updated concurrently by the load workers.
+public class LoadResult {
+
+    private final LatencyHistograms latencyHistograms = new LatencyHistograms();
+    private final Map<LoadScenario, Counters> counters = new EnumMap<>(LoadScenario.class);
+    private volatile long elapsedNanos;
+
+    LoadResult() {
+        for (LoadScenario scenario : LoadScenario.values()) {
+            counters.put(scenario, new Counters());
+        }
+    }
+
+    void completed(final LoadScenario scenario, final String path, final HttpMethod httpMethod,
+                   final int status, final long latencyNanos) {
+        latencyHistograms.record(path, httpMethod, status, latencyNanos);
+        final Counters scenarioCounters = counters.get(scenario);
+        scenarioCounters.completed.increment();
+        if (status != scenario.expectedStatus().value()) {
+            scenarioCounters.unexpectedStatus.increment();
+        }
+    }
+
+    void failed(final LoadScenario scenario) {
+        counters.get(scenario).failed.increment();
+    }
+
+    void dropped(final LoadScenario scenario) {
+        counters.get(scenario).dropped.increment();
+    }
+
+    void elapsedNanos(final long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public LatencyHistograms latencyHistograms() {
+        return latencyHistograms;
+    }
+
+    public long completed() {
+        return counters.values().stream().mapToLong(scenarioCounters -> scenarioCounters.completed.sum()).sum();
+    }
+
+    public long unexpectedStatus() {
+        return counters.values().stream().mapToLong(scenarioCounters -> scenarioCounters.unexpectedStatus.sum()).sum();
+    }
+
+    public long failed() {
+        return counters.values().stream().mapToLong(scenarioCounters -> scenarioCounters.failed.sum()).sum();
+    }
+
+    public long dropped() {
+        return counters.values().stream().mapToLong(scenarioCounters -> scenarioCounters.dropped.sum()).sum();
+    }
+
+    public double throughput() {
+        return elapsedNanos == 0 ? 0 : completed() / (elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    public String summary() {
+        final StringBuilder summary = new StringBuilder(String.format(
+                "Completed %d requests in %.1f s, %.1f requests/s, %d unexpected status, %d failed, %d dropped",
+                completed(), elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1), throughput(),
+                unexpectedStatus(), failed(), dropped()));
+        counters.forEach((scenario, scenarioCounters) -> {
+            if (scenarioCounters.completed.sum() + scenarioCounters.failed.sum() + scenarioCounters.dropped.sum() > 0) {
+                summary.append(String.format("%n  %-22s completed %d, unexpected status %d, failed %d, dropped %d",
+                        scenario.mixKey(), scenarioCounters.completed.sum(), scenarioCounters.unexpectedStatus.sum(),
+                        scenarioCounters.failed.sum(), scenarioCounters.dropped.sum()));
+            }
+        });
+        return summary.toString();
+    }
+
+    private static class Counters {
+        private final LongAdder completed = new LongAdder();
+        private final LongAdder unexpectedStatus = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+    }
+}
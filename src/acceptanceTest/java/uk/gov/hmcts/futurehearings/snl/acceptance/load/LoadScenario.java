@@ -0,0 +1,90 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.load;
+
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.identifier.HMCTSIdentifier;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+
+//The successful requests of the acceptance suite, each one built from the same template and ids as its acceptance test.
+public enum LoadScenario {
+
+    HEARINGS("hearings", "hearingsApiRootContext", HttpMethod.POST, HttpStatus.ACCEPTED,
+            "uk/gov/hmcts/futurehearings/snl/acceptance/hearings/input/template/put/create-hearing-request-complete.json",
+            null,
+            () -> new Object[]{HMCTSIdentifier.CASE_ID_HMCTS.next(), HMCTSIdentifier.CASE_LISTING_REQUEST_ID.next()}),
+    RESOURCES_BY_LOCATION("resourcesByLocation", "resourcesByLocationRootContext", HttpMethod.POST, HttpStatus.CREATED,
+            "uk/gov/hmcts/futurehearings/snl/acceptance/resources/input/template/location/post/resource-by-location-complete.json",
+            null,
+            () -> new Object[]{HMCTSIdentifier.LOCATION_ID_HMCTS.next()}),
+    RESOURCES_BY_USER("resourcesByUser", "resourcesByUserRootContext", HttpMethod.POST, HttpStatus.CREATED,
+            "uk/gov/hmcts/futurehearings/snl/acceptance/resources/input/template/user/post/resources-by-username-complete.json",
+            null,
+            () -> new Object[]{HMCTSIdentifier.PERSON_ID_HMCTS.next()}),
+    SESSIONS("sessions", "sessionsApiRootContext", HttpMethod.GET, HttpStatus.OK,
+            null,
+            Map.of("requestSessionType", "ADHOC"),
+            () -> new Object[0]);
+
+    private final String mixKey;
+    private final String endpointProperty;
+    private final HttpMethod httpMethod;
+    private final HttpStatus expectedStatus;
+    private final String templatePath;
+    private final Map<String, String> params;
+    private final Supplier<Object[]> templateArguments;
+
+    LoadScenario(final String mixKey,
+                 final String endpointProperty,
+                 final HttpMethod httpMethod,
+                 final HttpStatus expectedStatus,
+                 final String templatePath,
+                 final Map<String, String> params,
+                 final Supplier<Object[]> templateArguments) {
+        this.mixKey = mixKey;
+        this.endpointProperty = endpointProperty;
+        this.httpMethod = httpMethod;
+        this.expectedStatus = expectedStatus;
+        this.templatePath = templatePath;
+        this.params = params;
+        this.templateArguments = templateArguments;
+    }
+
+    public static LoadScenario fromMixKey(final String mixKey) {
+        return Arrays.stream(values())
+                .filter(scenario -> scenario.mixKey.equalsIgnoreCase(mixKey.trim()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Load scenario not identified : " + mixKey));
+    }
+
+    public String mixKey() {
+        return mixKey;
+    }
+
+    public String endpointProperty() {
+        return endpointProperty;
+    }
+
+    public HttpMethod httpMethod() {
+        return httpMethod;
+    }
+
+    public HttpStatus expectedStatus() {
+        return expectedStatus;
+    }
+
+    public String templatePath() {
+        return templatePath;
+    }
+
+    public Map<String, String> params() {
+        return params;
+    }
+
+    Object[] templateArguments() {
+        return templateArguments.get();
+    }
+}
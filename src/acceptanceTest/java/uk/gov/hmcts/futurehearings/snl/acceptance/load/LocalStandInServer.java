@@ -0,0 +1,47 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.load;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.request;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+import java.util.Map;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.common.Slf4jNotifier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+
+//Answers every scenario with its expected status after a fixed delay, so that the load module can be run offline.
+@Slf4j
+class LocalStandInServer implements AutoCloseable {
+
+    private static final String SESSIONS_BODY = "{\"sessionsResponse\":{\"sessions\":[]}}";
+
+    private final WireMockServer server;
+
+    LocalStandInServer(final Map<LoadScenario, String> endpoints, final int containerThreads, final int delayMillis) {
+        server = new WireMockServer(options()
+                .dynamicPort()
+                .containerThreads(containerThreads)
+                .notifier(new Slf4jNotifier(false)));
+        endpoints.forEach((scenario, endpoint) -> server.stubFor(
+                request(scenario.httpMethod().name(), urlPathEqualTo(endpoint))
+                        .willReturn(aResponse()
+                                .withStatus(scenario.expectedStatus().value())
+                                .withHeader("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                                .withBody(scenario == LoadScenario.SESSIONS ? SESSIONS_BODY : "{}")
+                                .withFixedDelay(delayMillis))));
+    }
+
+    String start() {
+        server.start();
+        log.info("Local stand-in listening on port " + server.port());
+        return "http://localhost:" + server.port();
+    }
+
+    @Override
+    public void close() {
+        server.stop();
+    }
+}
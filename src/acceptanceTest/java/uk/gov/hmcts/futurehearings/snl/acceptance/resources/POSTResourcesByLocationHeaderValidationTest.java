@@ -1,15 +1,15 @@
 package uk.gov.hmcts.futurehearings.snl.acceptance.resources;
 
-import uk.gov.hmcts.futurehearings.snl.Application;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.TestingUtils;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.context.AcceptanceTest;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.delegate.CommonDelegate;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.identifier.HMCTSIdentifier;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.template.PayloadTemplates;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.verify.dto.SNLVerificationDTO;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.verify.error.SNLCommonErrorVerifier;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.verify.success.SNLCommonSuccessVerifier;
 
 import java.io.IOException;
-import java.util.Random;
-import java.util.UUID;
 
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeAll;
@@ -24,15 +24,12 @@ import org.junit.platform.suite.api.SelectClasses;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.test.context.ActiveProfiles;
 
 
 @Slf4j
-@SpringBootTest(classes = {Application.class})
-@ActiveProfiles("acceptance")
+@AcceptanceTest
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 @SelectClasses(POSTResourcesByLocationHeaderValidationTest.class)
 @IncludeTags("Post")
@@ -113,9 +110,8 @@ class POSTResourcesByLocationHeaderValidationTest extends ResourcesHeaderValidat
     }
 
     private void generateResourcesByLocationPayloadWithRandomHMCTSId() throws IOException {
-        final int randomId = new Random().nextInt(99999);
-        this.setInputBodyPayload(String.format(TestingUtils.readFileContents(String.format(INPUT_TEMPLATE_FILE_PATH,
-                getInputFileDirectory()) + "/location/post/" + getInputPayloadFileName()), randomId));
+        this.setInputBodyPayload(PayloadTemplates.render(String.format(INPUT_TEMPLATE_FILE_PATH,
+                getInputFileDirectory()) + "/location/post/" + getInputPayloadFileName(), HMCTSIdentifier.LOCATION_ID_HMCTS.next()));
     }
     //This test is for a Standard Header but a Payload for Non JSON Type is to be tested.
     //Confirmed by Product Owner that this should be a Success Scenario.
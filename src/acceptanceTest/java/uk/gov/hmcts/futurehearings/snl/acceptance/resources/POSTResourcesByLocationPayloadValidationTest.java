@@ -5,17 +5,18 @@ import static uk.gov.hmcts.futurehearings.snl.acceptance.common.TestingUtils.rep
 import static uk.gov.hmcts.futurehearings.snl.acceptance.common.helper.CommonHeaderHelper.createStandardPayloadHeader;
 
 import org.junit.jupiter.params.provider.CsvFileSource;
-import uk.gov.hmcts.futurehearings.snl.Application;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.TestingUtils;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.context.AcceptanceTest;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.delegate.CommonDelegate;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.delegate.dto.DelegateDTO;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.identifier.HMCTSIdentifier;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.verify.dto.SNLVerificationDTO;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.verify.error.SNLCommonErrorVerifier;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.verify.success.SNLCommonSuccessVerifier;
 
 import java.io.IOException;
 import java.text.MessageFormat;
-import java.util.Random;
+import java.util.UUID;
 
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeAll;
@@ -30,21 +31,27 @@ import org.junit.platform.suite.api.SelectClasses;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.test.context.ActiveProfiles;
 
 
 @Slf4j
-@SpringBootTest(classes = {Application.class})
-@ActiveProfiles("acceptance")
+@AcceptanceTest
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 @SelectClasses(POSTResourcesByLocationPayloadValidationTest.class)
 @IncludeTags("Post")
 //@Disabled("This test is disabled till the till we have an agreement with S&L over the UAT")
 class POSTResourcesByLocationPayloadValidationTest extends ResourcesPayloadValidationTest {
 
+    private static final String LOCATION_MANDATORY_BASE = "resource-by-location-all-mandatory-location-id-hmcts.json";
+    private static final String LOCATION = "/locationRequest/location";
+    private static final String LOCATION_ID_HMCTS = LOCATION + "/locationIdHMCTS";
+    private static final String LOCATION_DESCRIPTION = LOCATION + "/locationDescription";
+    private static final String LOCATION_CLUSTER = LOCATION + "/locationCluster";
+    private static final String LOCATION_PRIMARY_FLAG = LOCATION + "/locationPrimaryFlag";
+    private static final String LOCATION_ACTIVE_FROM = LOCATION + "/locationActiveFrom";
+    private static final String LOCATION_ACTIVE_TO = LOCATION + "/locationActiveTo";
+
     @Qualifier("CommonDelegate")
     @Autowired(required = true)
     private CommonDelegate commonDelegate;
@@ -126,8 +133,7 @@ class POSTResourcesByLocationPayloadValidationTest extends ResourcesPayloadValid
     @CsvSource(value = {"Location Cluster,'TV'", "Location Cluster,'KNT'"})
     public void test_positive_response_for_location_cluster_with_mandatory_elements_payload(final String locationClusterKey,
                                                                                             final String locationClusterValue) throws Exception {
-        this.setInputPayloadFileName("resource-by-location-mandatory-cluster.json");
-        generatePayloadWithRandomHMCTSIDAndField(8, locationClusterValue, "/location/post/");
+        generateLocationClusterPayload(locationClusterValue);
         DelegateDTO delegateDTO = buildDelegateDTO(getRelativeURL(),
                 createStandardPayloadHeader(), getHttpMethod(), getHttpSuccessStatus());
         log.debug("The value of the Delegate Payload : " + delegateDTO.inputPayload());
@@ -146,8 +152,7 @@ class POSTResourcesByLocationPayloadValidationTest extends ResourcesPayloadValid
             "Invalid_Cluster_Max_Value, C_FE"}, nullValues = "NIL")
     public void test_negative_response_with_mandatory_location_cluster_payload(final String locationClusterKey,
                                                                                final String locationClusterValue) throws Exception {
-        this.setInputPayloadFileName("resource-by-location-mandatory-cluster.json");
-        generatePayloadWithRandomHMCTSIDAndField(8, locationClusterValue, "/location/post/");
+        generateLocationClusterPayload(locationClusterValue);
         DelegateDTO delegateDTO = buildDelegateDTO(getRelativeURL(),
                 createStandardPayloadHeader(), getHttpMethod(), getHttpSuccessStatus());
         log.debug("The value of the Delegate Payload : " + delegateDTO.inputPayload());
@@ -171,8 +176,7 @@ class POSTResourcesByLocationPayloadValidationTest extends ResourcesPayloadValid
     @CsvSource(value = {"Location Description,'x HMI Test This is location description'"})
     public void test_positive_response_for_location_description_with_mandatory_elements_payload(final String locationDescriptionKey,
                                                                                                 final String locationDescriptionValue) throws Exception {
-        this.setInputPayloadFileName("resource-by-location-mandatory-description.json");
-        generatePayloadWithRandomHMCTSIDAndField(8, locationDescriptionValue, "/location/post/");
+        generateLocationDescriptionPayload(HMCTSIdentifier.LOCATION_ID_HMCTS.next(), locationDescriptionValue);
         DelegateDTO delegateDTO = buildDelegateDTO(getRelativeURL(),
                 createStandardPayloadHeader(), getHttpMethod(), getHttpSuccessStatus());
         log.debug("The value of the Delegate Payload : " + delegateDTO.inputPayload());
@@ -188,12 +192,11 @@ class POSTResourcesByLocationPayloadValidationTest extends ResourcesPayloadValid
     //TODO:  Accepts empty space and single space even though it is a mandatory field. Defect MCGIRRSD-2194
     public void test_negative_response_with_mandatory_location_description_payload(final String locationDescriptionKey,
                                                                                    final String locationDescriptionValue) throws Exception {
-        this.setInputPayloadFileName("resource-by-location-mandatory-description.json");
+        final String randomID = UUID.randomUUID().toString() + UUID.randomUUID().toString();
         if (locationDescriptionKey.trim().equals("Invalid Data : Description Length 81")) {
-            generatePayloadWithRandomHMCTSIDAndField(
-                    generateStringForGivenLength(81, locationDescriptionValue), "/location/post/");
+            generateLocationDescriptionPayload(randomID, generateStringForGivenLength(81, locationDescriptionValue));
         } else {
-            generatePayloadWithRandomHMCTSIDAndField(locationDescriptionValue, "/location/post/");
+            generateLocationDescriptionPayload(randomID, locationDescriptionValue);
         }
         DelegateDTO delegateDTO = buildDelegateDTO(getRelativeURL(),
                 createStandardPayloadHeader(), getHttpMethod(), getHttpSuccessStatus());
@@ -209,12 +212,7 @@ class POSTResourcesByLocationPayloadValidationTest extends ResourcesPayloadValid
     @CsvSource(value = {"Location Primary Flag, true", "Location Primary Flag, false"})
     public void test_positive_response_for_location_primary_flag_with_mandatory_elements_payload(final String locationPrimaryFlagKey,
                                                                                                  final String locationPrimaryFlagValue) throws Exception {
-        this.setInputPayloadFileName("resource-by-location-mandatory-primary-flag.json");
-        if (locationPrimaryFlagValue.trim().equals("true")) {
-            generateLocationPayloadWithRandomHMCTSIDAndFieldTokenReplace("\"locationPrimaryFlag\": 0", "\"locationPrimaryFlag\":" + true, "/location/post/");
-        } else {
-            generateLocationPayloadWithRandomHMCTSIDAndFieldTokenReplace("\"locationPrimaryFlag\": 0", "\"locationPrimaryFlag\":" + false, "/location/post/");
-        }
+        generateLocationPrimaryFlagPayload(Boolean.parseBoolean(locationPrimaryFlagValue.trim()));
         DelegateDTO delegateDTO = buildDelegateDTO(getRelativeURL(),
                 createStandardPayloadHeader(), getHttpMethod(), getHttpSuccessStatus());
         log.debug("The value of the Delegate Payload : " + delegateDTO.inputPayload());
@@ -228,18 +226,17 @@ class POSTResourcesByLocationPayloadValidationTest extends ResourcesPayloadValid
     @CsvSource(value = {"Invalid Value Int,0", "Invalid Value Float,1.0", "Invalid Value Negative Int,-1", "Invalid Value Negative Float,-1.4"})
     public void test_negative_response_for_location_primary_flag_with_mandatory_elements_payload(final String locationPrimaryFlagKey,
                                                                                                  final String locationPrimaryFlagValue) throws Exception {
-        this.setInputPayloadFileName("resource-by-location-mandatory-primary-flag.json");
         SNLVerificationDTO snlVerificationDTO = null;
         switch (locationPrimaryFlagKey) {
             case "Invalid Value Int":
             case "Invalid Value Negative Int":
                 snlVerificationDTO = new SNLVerificationDTO(HttpStatus.BAD_REQUEST, "1004", "[$.locationRequest.location.locationPrimaryFlag: integer found, boolean expected]", null);
-                generateLocationPayloadWithRandomHMCTSIDAndFieldTokenReplace("\"locationPrimaryFlag\": 0", "\"locationPrimaryFlag\":" + Integer.parseInt(locationPrimaryFlagValue), "/location/post/");
+                generateLocationPrimaryFlagPayload(Integer.parseInt(locationPrimaryFlagValue));
                 break;
             case "Invalid Value Float":
             case "Invalid Value Negative Float":
                 snlVerificationDTO = new SNLVerificationDTO(HttpStatus.BAD_REQUEST, "1004", "[$.locationRequest.location.locationPrimaryFlag: number found, boolean expected]", null);
-                generateLocationPayloadWithRandomHMCTSIDAndFieldTokenReplace("\"locationPrimaryFlag\": 0", "\"locationPrimaryFlag\":" + Float.parseFloat(locationPrimaryFlagValue), "/location/post/");
+                generateLocationPrimaryFlagPayload(Float.parseFloat(locationPrimaryFlagValue));
                 break;
         }
         DelegateDTO delegateDTO = buildDelegateDTO(getRelativeURL(),
@@ -255,8 +252,7 @@ class POSTResourcesByLocationPayloadValidationTest extends ResourcesPayloadValid
     @CsvSource({"Valid_Date_Format,2020-12-15"})
     public void test_positive_response_with_mandatory_location_activeFrom_payload(final String locationActiveFromKey,
                                                                                   final String locationActiveFromValue) throws Exception {
-        this.setInputPayloadFileName("resource-by-location-mandatory-activeFrom.json");
-        generatePayloadWithRandomHMCTSIDAndField(8, locationActiveFromValue, "/location/post/");
+        generateLocationActiveFromPayload(locationActiveFromValue);
         DelegateDTO delegateDTO = buildDelegateDTO(getRelativeURL(),
                 createStandardPayloadHeader(), getHttpMethod(), getHttpSuccessStatus());
         log.debug("The value of the Delegate Payload : " + delegateDTO.inputPayload());
@@ -273,8 +269,7 @@ class POSTResourcesByLocationPayloadValidationTest extends ResourcesPayloadValid
     //TODO Defect has to be raised for the data of 2015-12-11T09:28:30.45 and 2015-12-11T09:28:30
     public void test_negative_response_with_mandatory_location_activeFrom_payload(final String locationActiveFromKey,
                                                                                   final String locationActiveFromValue) throws Exception {
-        this.setInputPayloadFileName("resource-by-location-mandatory-activeFrom.json");
-        generatePayloadWithRandomHMCTSIDAndField(8, locationActiveFromValue, "/location/post/");
+        generateLocationActiveFromPayload(locationActiveFromValue);
         DelegateDTO delegateDTO = buildDelegateDTO(getRelativeURL(),
                 createStandardPayloadHeader(), getHttpMethod(), getHttpSuccessStatus());
         log.debug("The value of the Delegate Payload : " + delegateDTO.inputPayload());
@@ -778,4 +773,40 @@ class POSTResourcesByLocationPayloadValidationTest extends ResourcesPayloadValid
                 getSnlErrorVerifier(),
                 new SNLVerificationDTO(HttpStatus.BAD_REQUEST, "1004", "[$.locationRequest.location." + userSchemaElement + ": is missing but it is required]", null));
     }
+
+    private void generateLocationClusterPayload(final String locationCluster) throws IOException {
+        this.setInputPayloadFileName(LOCATION_MANDATORY_BASE);
+        this.setInputBodyPayload(basePayload("/location/post/")
+                .set(LOCATION_ID_HMCTS, HMCTSIdentifier.LOCATION_ID_HMCTS.next())
+                .set(LOCATION_DESCRIPTION, "x HMI Test SNL QA")
+                .set(LOCATION_CLUSTER, locationCluster)
+                .toString());
+    }
+
+    private void generateLocationDescriptionPayload(final String locationIdHMCTS, final String locationDescription) throws IOException {
+        this.setInputPayloadFileName(LOCATION_MANDATORY_BASE);
+        this.setInputBodyPayload(basePayload("/location/post/")
+                .set(LOCATION_ID_HMCTS, locationIdHMCTS)
+                .set(LOCATION_DESCRIPTION, locationDescription)
+                .toString());
+    }
+
+    private void generateLocationPrimaryFlagPayload(final Object locationPrimaryFlag) throws IOException {
+        this.setInputPayloadFileName(LOCATION_MANDATORY_BASE);
+        this.setInputBodyPayload(basePayload("/location/post/")
+                .set(LOCATION_ID_HMCTS, HMCTSIdentifier.LOCATION_ID_HMCTS.next())
+                .set(LOCATION_DESCRIPTION, "xHMI Test SNL QA")
+                .set(LOCATION_PRIMARY_FLAG, locationPrimaryFlag)
+                .toString());
+    }
+
+    private void generateLocationActiveFromPayload(final String locationActiveFrom) throws IOException {
+        this.setInputPayloadFileName(LOCATION_MANDATORY_BASE);
+        this.setInputBodyPayload(basePayload("/location/post/")
+                .set(LOCATION_ID_HMCTS, HMCTSIdentifier.LOCATION_ID_HMCTS.next())
+                .set(LOCATION_DESCRIPTION, "x HMI Test SNL-QA")
+                .set(LOCATION_ACTIVE_FROM, locationActiveFrom)
+                .set(LOCATION_ACTIVE_TO, "2020-01-31T20:20:39Z")
+                .toString());
+    }
 }
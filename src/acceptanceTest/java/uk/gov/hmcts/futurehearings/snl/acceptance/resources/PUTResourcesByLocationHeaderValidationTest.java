@@ -2,17 +2,18 @@ package uk.gov.hmcts.futurehearings.snl.acceptance.resources;
 
 import static uk.gov.hmcts.futurehearings.snl.acceptance.common.helper.CommonHeaderHelper.createCompletePayloadHeader;
 
-import uk.gov.hmcts.futurehearings.snl.Application;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.RestClientTemplate;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.TestingUtils;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.context.AcceptanceTest;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.delegate.CommonDelegate;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.delegate.dto.DelegateDTO;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.identifier.HMCTSIdentifier;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.template.PayloadTemplates;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.verify.dto.SNLVerificationDTO;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.verify.error.SNLCommonErrorVerifier;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.verify.success.SNLCommonSuccessVerifier;
 
 import java.io.IOException;
-import java.util.Random;
 
 import io.restassured.response.Response;
 import lombok.extern.slf4j.Slf4j;
@@ -28,15 +29,12 @@ import org.junit.platform.suite.api.SelectClasses;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.test.context.ActiveProfiles;
 
 
 @Slf4j
-@SpringBootTest(classes = {Application.class})
-@ActiveProfiles("acceptance")
+@AcceptanceTest
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 @SelectClasses(PUTResourcesByLocationHeaderValidationTest.class)
 @IncludeTags("Put")
@@ -52,7 +50,7 @@ class PUTResourcesByLocationHeaderValidationTest extends ResourcesHeaderValidati
     @Value("${resourcesByLocation_idRootContext}")
     private String resourcesByLocation_idRootContext;
 
-    private Integer resourcesLocationId;
+    private String resourcesLocationId;
 
     @BeforeAll
     public void initialiseValues() throws Exception {
@@ -67,8 +65,8 @@ class PUTResourcesByLocationHeaderValidationTest extends ResourcesHeaderValidati
         this.resourcesByLocation_idRootContext = String.format(resourcesByLocation_idRootContext, resourcesLocationId);
         this.setRelativeURL(resourcesByLocation_idRootContext);
         this.setRelativeURLForNotFound(this.getRelativeURL().replace("resources", "resource"));
-        this.setInputBodyPayload(String.format(TestingUtils.readFileContents(String.format(INPUT_TEMPLATE_FILE_PATH, getInputFileDirectory())
-                + "/" + getInputPayloadFileName()), resourcesLocationId));
+        this.setInputBodyPayload(PayloadTemplates.render(String.format(INPUT_TEMPLATE_FILE_PATH, getInputFileDirectory())
+                + "/" + getInputPayloadFileName(), resourcesLocationId));
     }
 
     @Test
@@ -81,21 +79,22 @@ class PUTResourcesByLocationHeaderValidationTest extends ResourcesHeaderValidati
     }
 
 
-    private Integer makePostResourcesByLocationAndFetchLocationId() throws Exception {
-        int randomId = new Random().nextInt(99999999);
+    private String makePostResourcesByLocationAndFetchLocationId() throws Exception {
+        final String randomId = HMCTSIdentifier.LOCATION_ID_HMCTS.next();
         DelegateDTO delegateDTO = DelegateDTO.builder()
                 .targetSubscriptionKey(getApiSubscriptionKey()).authorizationToken(getAuthorizationToken())
+                .clientContext(getClientContext())
                 .targetURL(resourcesByLocationRootContext)
-                .inputPayload(String.format(TestingUtils.readFileContents(String.format(INPUT_TEMPLATE_FILE_PATH, getInputFileDirectory()) +
-                        "/" + getInputPayloadFileName()), randomId))
+                .inputPayload(PayloadTemplates.render(String.format(INPUT_TEMPLATE_FILE_PATH, getInputFileDirectory()) +
+                        "/" + getInputPayloadFileName(), randomId))
                 .standardHeaderMap(createCompletePayloadHeader())
                 .headers(null)
                 .params(getUrlParams())
                 .httpMethod(HttpMethod.POST)
                 .status(HttpStatus.CREATED)
                 .build();
-        Response response = RestClientTemplate.shouldExecute(TestingUtils.convertHeaderMapToRestAssuredHeaders(delegateDTO.standardHeaderMap()),
-                delegateDTO.authorizationToken(),
+        Response response = RestClientTemplate.shouldExecute(delegateDTO.clientContext(),
+                TestingUtils.convertHeaderMapToRestAssuredHeaders(delegateDTO.standardHeaderMap()),
                 delegateDTO.inputPayload(), delegateDTO.targetURL(),
                 delegateDTO.params(), delegateDTO.status(), delegateDTO.httpMethod());
         log.debug("POST Response : " + response.getBody().asString());
@@ -3,18 +3,18 @@ package uk.gov.hmcts.futurehearings.snl.acceptance.resources;
 import static uk.gov.hmcts.futurehearings.snl.acceptance.common.helper.CommonHeaderHelper.createCompletePayloadHeader;
 import static uk.gov.hmcts.futurehearings.snl.acceptance.common.helper.CommonHeaderHelper.createStandardPayloadHeader;
 
-import uk.gov.hmcts.futurehearings.snl.Application;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.RestClientTemplate;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.TestingUtils;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.context.AcceptanceTest;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.delegate.CommonDelegate;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.delegate.dto.DelegateDTO;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.identifier.HMCTSIdentifier;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.template.PayloadTemplates;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.verify.dto.SNLVerificationDTO;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.verify.error.SNLCommonErrorVerifier;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.verify.success.SNLCommonSuccessVerifier;
 
 import java.io.IOException;
-import java.util.Random;
-import java.util.UUID;
 
 import io.restassured.response.Response;
 import lombok.extern.slf4j.Slf4j;
@@ -30,15 +30,12 @@ import org.junit.platform.suite.api.SelectClasses;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.test.context.ActiveProfiles;
 
 
 @Slf4j
-@SpringBootTest(classes = {Application.class})
-@ActiveProfiles("acceptance")
+@AcceptanceTest
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 @SelectClasses(PUTResourcesByLocationPayloadValidationTest.class)
 @IncludeTags("Put")
@@ -61,7 +58,7 @@ class PUTResourcesByLocationPayloadValidationTest extends ResourcesPayloadValida
     public void initialiseValues() throws Exception {
         super.initialiseValues();
         this.setInputPayloadFileName("resource-by-location-all-mandatory-location-id-hmcts.json");
-        locationIdHMCTS = String.valueOf(makePostResourcesByLocationAndFetchLocationId());
+        locationIdHMCTS = makePostResourcesByLocationAndFetchLocationId();
         this.setRelativeURL(String.format(resourcesByLocation_idRootContext, locationIdHMCTS));
         this.setHttpMethod(HttpMethod.PUT);
         this.setHttpSuccessStatus(HttpStatus.NO_CONTENT);
@@ -206,21 +203,22 @@ class PUTResourcesByLocationPayloadValidationTest extends ResourcesPayloadValida
     }
 
     //TODO - The negative tests for the locationPrimaryFlag is to be tested manually as this can't be worked to get invalid date to
-    private Integer makePostResourcesByLocationAndFetchLocationId() throws Exception {
-        int randomId = new Random().nextInt(99999999);
+    private String makePostResourcesByLocationAndFetchLocationId() throws Exception {
+        final String randomId = HMCTSIdentifier.LOCATION_ID_HMCTS.next();
         DelegateDTO delegateDTO = DelegateDTO.builder()
                 .targetSubscriptionKey(getApiSubscriptionKey()).authorizationToken(getAuthorizationToken())
+                .clientContext(getClientContext())
                 .targetURL(resourcesByLocationRootContext)
-                .inputPayload(String.format(TestingUtils.readFileContents(String.format(INPUT_TEMPLATE_FILE_PATH, getInputFileDirectory()) +
-                        "/location/post/" + getInputPayloadFileName()), randomId))
+                .inputPayload(PayloadTemplates.render(String.format(INPUT_TEMPLATE_FILE_PATH, getInputFileDirectory()) +
+                        "/location/post/" + getInputPayloadFileName(), randomId))
                 .standardHeaderMap(createCompletePayloadHeader())
                 .headers(null)
                 .params(getUrlParams())
                 .httpMethod(HttpMethod.POST)
                 .status(HttpStatus.CREATED)
                 .build();
-        Response response = RestClientTemplate.shouldExecute(TestingUtils.convertHeaderMapToRestAssuredHeaders(delegateDTO.standardHeaderMap()),
-                delegateDTO.authorizationToken(),
+        Response response = RestClientTemplate.shouldExecute(delegateDTO.clientContext(),
+                TestingUtils.convertHeaderMapToRestAssuredHeaders(delegateDTO.standardHeaderMap()),
                 delegateDTO.inputPayload(), delegateDTO.targetURL(),
                 delegateDTO.params(), delegateDTO.status(), delegateDTO.httpMethod());
         log.debug("POST Response : " + response.getBody().asString());
@@ -2,11 +2,13 @@ package uk.gov.hmcts.futurehearings.snl.acceptance.resources;
 
 import static uk.gov.hmcts.futurehearings.snl.acceptance.common.helper.CommonHeaderHelper.createCompletePayloadHeader;
 
-import uk.gov.hmcts.futurehearings.snl.Application;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.RestClientTemplate;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.TestingUtils;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.context.AcceptanceTest;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.delegate.CommonDelegate;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.delegate.dto.DelegateDTO;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.identifier.HMCTSIdentifier;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.template.PayloadTemplates;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.verify.dto.SNLVerificationDTO;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.verify.error.SNLCommonErrorVerifier;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.verify.success.SNLCommonSuccessVerifier;
@@ -15,7 +17,6 @@ import uk.gov.hmcts.futurehearings.snl.acceptance.hearings.HearingsHeaderValidat
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
 
 import io.restassured.http.Header;
 import io.restassured.http.Headers;
@@ -30,14 +31,11 @@ import org.junit.platform.suite.api.SelectClasses;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.test.context.ActiveProfiles;
 
 @Slf4j
-@SpringBootTest(classes = {Application.class})
-@ActiveProfiles("acceptance")
+@AcceptanceTest
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 @SelectClasses(PUTResourcesByUserHeaderValidationTest.class)
 @IncludeTags("Put")
@@ -53,7 +51,7 @@ class PUTResourcesByUserHeaderValidationTest extends ResourcesHeaderValidationTe
     @Value("${resourcesByUserRootContext}")
     private String resourcesByUserRootContext;
 
-    private Integer resourcesUserId;
+    private String resourcesUserId;
 
     @BeforeAll
     public void initialiseValues() throws Exception {
@@ -69,26 +67,27 @@ class PUTResourcesByUserHeaderValidationTest extends ResourcesHeaderValidationTe
         this.resourcesByUser_idRootContext = String.format(resourcesByUser_idRootContext, resourcesUserId);
         this.setRelativeURL(resourcesByUser_idRootContext);
         this.setRelativeURLForNotFound(this.getRelativeURL().replace("resources", "resource"));
-        this.setInputBodyPayload(String.format(TestingUtils.readFileContents(String.format(INPUT_TEMPLATE_FILE_PATH, getInputFileDirectory())
-                + "/user/put/" + getInputPayloadFileName()), resourcesUserId));
+        this.setInputBodyPayload(PayloadTemplates.render(String.format(INPUT_TEMPLATE_FILE_PATH, getInputFileDirectory())
+                + "/user/put/" + getInputPayloadFileName(), resourcesUserId));
     }
 
-    private Integer makePostResourcesByUserAndFetchUserId() throws Exception {
-        int randomId = new Random().nextInt(99999);
+    private String makePostResourcesByUserAndFetchUserId() throws Exception {
+        final String randomId = HMCTSIdentifier.PERSON_ID_HMCTS.next();
 
         DelegateDTO delegateDTO = DelegateDTO.builder()
                 .targetSubscriptionKey(getApiSubscriptionKey()).authorizationToken(getAuthorizationToken())
+                .clientContext(getClientContext())
                 .targetURL(resourcesByUserRootContext)
-                .inputPayload(String.format(TestingUtils.readFileContents(String.format(INPUT_TEMPLATE_FILE_PATH, getInputFileDirectory()) +
-                        "/user/post/" + getInputPayloadFileName()), randomId))
+                .inputPayload(PayloadTemplates.render(String.format(INPUT_TEMPLATE_FILE_PATH, getInputFileDirectory()) +
+                        "/user/post/" + getInputPayloadFileName(), randomId))
                 .standardHeaderMap(createCompletePayloadHeader())
                 .headers(null)
                 .params(getUrlParams())
                 .httpMethod(HttpMethod.POST)
                 .status(HttpStatus.CREATED)
                 .build();
-        Response response = RestClientTemplate.shouldExecute(TestingUtils.convertHeaderMapToRestAssuredHeaders(delegateDTO.standardHeaderMap()),
-                delegateDTO.authorizationToken(),
+        Response response = RestClientTemplate.shouldExecute(delegateDTO.clientContext(),
+                TestingUtils.convertHeaderMapToRestAssuredHeaders(delegateDTO.standardHeaderMap()),
                 delegateDTO.inputPayload(), delegateDTO.targetURL(),
                 delegateDTO.params(), delegateDTO.status(), delegateDTO.httpMethod());
         log.debug("POST Response : " + response.getBody().asString());
@@ -1,66 +1,41 @@
 package uk.gov.hmcts.futurehearings.snl.acceptance.resources;
 
-import static io.restassured.config.EncoderConfig.encoderConfig;
-import static uk.gov.hmcts.futurehearings.snl.acceptance.common.security.OAuthTokenGenerator.generateOAuthToken;
+import static uk.gov.hmcts.futurehearings.snl.acceptance.common.security.OAuthTokenGenerator.cachedOAuthToken;
 
-import uk.gov.hmcts.futurehearings.snl.Application;
-import uk.gov.hmcts.futurehearings.snl.acceptance.common.TestingUtils;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.context.AcceptanceProperties;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.context.AcceptanceTest;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.template.PayloadTemplates;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.test.SNLCommonHeaderTest;
 
 import java.io.IOException;
 import java.util.UUID;
 
-import io.restassured.RestAssured;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeAll;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.http.HttpStatus;
-import org.springframework.test.context.ActiveProfiles;
+import org.springframework.beans.factory.annotation.Autowired;
 
 
 @Slf4j
-@SpringBootTest(classes = {Application.class})
-@ActiveProfiles("acceptance")
+@AcceptanceTest
 public abstract class ResourcesHeaderValidationTest extends SNLCommonHeaderTest {
 
-    @Value("${targetInstance}")
-    private String targetInstance;
-
-    @Value("${targetSubscriptionKey}")
-    private String targetSubscriptionKey;
-
-    @Value("${token_apiURL}")
-    private String token_apiURL;
-
-    @Value("${token_username}")
-    private String token_username;
-
-    @Value("${token_password}")
-    private String token_password;
-
-    @Value("${expired_access_token}")
-    private String expired_access_token;
+    @Autowired
+    private AcceptanceProperties acceptanceProperties;
 
 
     @BeforeAll
     public void initialiseValues() throws Exception {
-        RestAssured.baseURI = targetInstance;
-        RestAssured.useRelaxedHTTPSValidation();
         this.setApiSubscriptionKey("pointless");
-        RestAssured.config = RestAssured.config()
-                .encoderConfig(encoderConfig().defaultContentCharset("UTF-8").appendDefaultContentCharsetToContentTypeIfUndefined(true));
         this.setInputFileDirectory("resources");
-        String authorizationToken = generateOAuthToken(token_apiURL,
-                token_username,
-                token_password,
-                HttpStatus.OK);
-        this.setAuthorizationToken(authorizationToken);
+        this.initialiseClientContext(acceptanceProperties.targetInstance(),
+                () -> cachedOAuthToken(acceptanceProperties.tokenApiURL(),
+                        acceptanceProperties.tokenUsername(),
+                        acceptanceProperties.tokenPassword()));
     }
 
     public void generateResourcesByUserPayloadWithRandomHMCTSId() throws IOException {
         final String randomID = UUID.randomUUID().toString() + UUID.randomUUID().toString();
-        this.setInputBodyPayload(String.format(TestingUtils.readFileContents(String.format(INPUT_TEMPLATE_FILE_PATH,
-                getInputFileDirectory()) + "/user/post/" + getInputPayloadFileName()), randomID));
+        this.setInputBodyPayload(PayloadTemplates.render(String.format(INPUT_TEMPLATE_FILE_PATH,
+                getInputFileDirectory()) + "/user/post/" + getInputPayloadFileName(), randomID));
     }
 }
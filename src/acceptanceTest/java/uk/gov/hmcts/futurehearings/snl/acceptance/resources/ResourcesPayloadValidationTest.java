@@ -1,111 +1,94 @@
 package uk.gov.hmcts.futurehearings.snl.acceptance.resources;
 
-import static io.restassured.config.EncoderConfig.encoderConfig;
-import static uk.gov.hmcts.futurehearings.snl.acceptance.common.TestingUtils.replaceCharacterSequence;
-import static uk.gov.hmcts.futurehearings.snl.acceptance.common.security.OAuthTokenGenerator.generateOAuthToken;
+import static uk.gov.hmcts.futurehearings.snl.acceptance.common.security.OAuthTokenGenerator.cachedOAuthToken;
 
-import uk.gov.hmcts.futurehearings.snl.Application;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.TestingUtils;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.context.AcceptanceProperties;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.context.AcceptanceTest;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.identifier.HMCTSIdentifier;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.identifier.UniqueIds;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.payload.JsonPayload;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.payload.JsonPayloads;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.template.PayloadTemplates;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.test.SNLCommonHeaderTest;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.test.SNLCommonPayloadTest;
 
 import java.io.IOException;
-import java.util.Random;
 import java.util.UUID;
 
-import io.restassured.RestAssured;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeAll;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.http.HttpStatus;
-import org.springframework.test.context.ActiveProfiles;
+import org.springframework.beans.factory.annotation.Autowired;
 
 @Slf4j
-@SpringBootTest(classes = {Application.class})
-@ActiveProfiles("acceptance")
+@AcceptanceTest
 public abstract class ResourcesPayloadValidationTest extends SNLCommonPayloadTest {
 
-    @Value("${targetInstance}")
-    private String targetInstance;
-
-    @Value("${targetSubscriptionKey}")
-    private String targetSubscriptionKey;
-
-    @Value("${token_apiURL}")
-    private String token_apiURL;
-
-    @Value("${token_username}")
-    private String token_username;
-
-    @Value("${token_password}")
-    private String token_password;
-
-    @Value("${expired_access_token}")
-    private String expired_access_token;
+    @Autowired
+    private AcceptanceProperties acceptanceProperties;
 
     @BeforeAll
     public void initialiseValues() throws Exception {
-        RestAssured.baseURI = targetInstance;
-        RestAssured.useRelaxedHTTPSValidation();
         this.setApiSubscriptionKey("pointless");
-        RestAssured.config = RestAssured.config()
-                .encoderConfig(encoderConfig().defaultContentCharset("UTF-8").appendDefaultContentCharsetToContentTypeIfUndefined(true));
         this.setInputFileDirectory("resources");
-        String authorizationToken = generateOAuthToken(token_apiURL,
-                token_username,
-                token_password,
-                HttpStatus.OK);
-        this.setAuthorizationToken(authorizationToken);
+        this.initialiseClientContext(acceptanceProperties.targetInstance(),
+                () -> cachedOAuthToken(acceptanceProperties.tokenApiURL(),
+                        acceptanceProperties.tokenUsername(),
+                        acceptanceProperties.tokenPassword()));
     }
 
     final void generatePayloadWithRandomHMCTSID(final String templatePath) throws IOException {
         final String randomID = UUID.randomUUID().toString() + UUID.randomUUID().toString();
-        this.setInputBodyPayload(String.format(TestingUtils.readFileContents(String.format(INPUT_TEMPLATE_FILE_PATH,
-                getInputFileDirectory()) + templatePath + getInputPayloadFileName()), randomID));
+        this.setInputBodyPayload(PayloadTemplates.render(String.format(INPUT_TEMPLATE_FILE_PATH,
+                getInputFileDirectory()) + templatePath + getInputPayloadFileName(), randomID));
     }
 
     final String generatePayloadWithRandomHMCTSID(int maxLength, final String templatePath) throws IOException {
-        final String randomID = UUID.randomUUID().toString().substring(0, maxLength);
-        this.setInputBodyPayload(String.format(TestingUtils.readFileContents(String.format(INPUT_TEMPLATE_FILE_PATH,
-                getInputFileDirectory()) + templatePath + getInputPayloadFileName()), randomID));
+        final String randomID = UniqueIds.next(maxLength);
+        this.setInputBodyPayload(PayloadTemplates.render(String.format(INPUT_TEMPLATE_FILE_PATH,
+                getInputFileDirectory()) + templatePath + getInputPayloadFileName(), randomID));
         return randomID;
     }
 
     final void generatePayloadWithHMCTSID(final String randomID, final String templatePath) throws IOException {
-        this.setInputBodyPayload(String.format(TestingUtils.readFileContents(String.format(INPUT_TEMPLATE_FILE_PATH,
-                getInputFileDirectory()) + templatePath + getInputPayloadFileName()), randomID));
+        this.setInputBodyPayload(PayloadTemplates.render(String.format(INPUT_TEMPLATE_FILE_PATH,
+                getInputFileDirectory()) + templatePath + getInputPayloadFileName(), randomID));
+    }
+
+    //The template file itself as the base document, mutated through JSON Pointers rather than %s slots.
+    final JsonPayload basePayload(final String templatePath) throws IOException {
+        return JsonPayloads.get(String.format(INPUT_TEMPLATE_FILE_PATH,
+                getInputFileDirectory()) + templatePath + getInputPayloadFileName());
     }
 
     final void generatePayloadWithHMCTSIDAndValue(final String randomID, final String value, final String templatePath) throws IOException {
-        this.setInputBodyPayload(String.format(TestingUtils.readFileContents(String.format(INPUT_TEMPLATE_FILE_PATH,
-                getInputFileDirectory()) + templatePath + getInputPayloadFileName()), randomID, value));
+        this.setInputBodyPayload(PayloadTemplates.render(String.format(INPUT_TEMPLATE_FILE_PATH,
+                getInputFileDirectory()) + templatePath + getInputPayloadFileName(), randomID, value));
     }
 
 
     final void generatePayloadWithHMCTSIDAndField(final String randomID, final String formatValue, final String templatePath) throws IOException {
-        this.setInputBodyPayload(String.format(TestingUtils.readFileContents(String.format(INPUT_TEMPLATE_FILE_PATH,
-                getInputFileDirectory()) + templatePath + getInputPayloadFileName()), randomID, formatValue));
+        this.setInputBodyPayload(PayloadTemplates.render(String.format(INPUT_TEMPLATE_FILE_PATH,
+                getInputFileDirectory()) + templatePath + getInputPayloadFileName(), randomID, formatValue));
     }
 
     final void generatePayloadWithRandomHMCTSIDAndField(final String formatValue, final String templatePath) throws IOException {
         final String randomID = UUID.randomUUID().toString() + UUID.randomUUID().toString();
-        this.setInputBodyPayload(String.format(TestingUtils.readFileContents(String.format(INPUT_TEMPLATE_FILE_PATH,
-                getInputFileDirectory()) + templatePath + getInputPayloadFileName()), randomID, formatValue));
+        this.setInputBodyPayload(PayloadTemplates.render(String.format(INPUT_TEMPLATE_FILE_PATH,
+                getInputFileDirectory()) + templatePath + getInputPayloadFileName(), randomID, formatValue));
     }
 
     final String generatePayloadWithRandomHMCTSIDAndField(int maxLength, final String formatValue, final String templatePath) throws IOException {
-        final String randomID = UUID.randomUUID().toString().substring(0, maxLength);
-        this.setInputBodyPayload(String.format(TestingUtils.readFileContents(String.format(INPUT_TEMPLATE_FILE_PATH,
-                getInputFileDirectory()) + templatePath + getInputPayloadFileName()), randomID, formatValue));
+        final String randomID = UniqueIds.next(maxLength);
+        this.setInputBodyPayload(PayloadTemplates.render(String.format(INPUT_TEMPLATE_FILE_PATH,
+                getInputFileDirectory()) + templatePath + getInputPayloadFileName(), randomID, formatValue));
         return randomID;
     }
 
     final void generateLocationPayloadWithRandomHMCTSIDAndFieldTokenReplace(final String token, final String value, final String templatePath) throws IOException {
-        final int randomId = new Random().nextInt(99999999);
-        String formattedString = String.format(TestingUtils.readFileContents(String.format(INPUT_TEMPLATE_FILE_PATH,
-                getInputFileDirectory()) + templatePath + getInputPayloadFileName()), randomId, value);
-        this.setInputBodyPayload(replaceCharacterSequence(token, value, formattedString));
+        this.setInputBodyPayload(PayloadTemplates.get(String.format(INPUT_TEMPLATE_FILE_PATH,
+                getInputFileDirectory()) + templatePath + getInputPayloadFileName())
+                .renderReplacing(token, value, HMCTSIdentifier.LOCATION_ID_HMCTS.next(), value));
     }
 
 //    final void generatePayloadWithRandomHMCTSIDAndField(final Object formatValue, final String templatePath) throws IOException {
@@ -119,8 +102,8 @@ public abstract class ResourcesPayloadValidationTest extends SNLCommonPayloadTes
                                                               final String templatePath,
                                                               final String replaceFrom) throws IOException {
         final String randomID = UUID.randomUUID().toString() + UUID.randomUUID().toString();
-        String payload = String.format(TestingUtils.readFileContents(String.format(INPUT_TEMPLATE_FILE_PATH,
-                getInputFileDirectory()) + templatePath + getInputPayloadFileName()), randomID);
+        String payload = PayloadTemplates.render(String.format(INPUT_TEMPLATE_FILE_PATH,
+                getInputFileDirectory()) + templatePath + getInputPayloadFileName(), randomID);
         payload = payload.replace(replaceFrom,formatValue.toString());
         this.setInputBodyPayload(payload);
     }
@@ -2,12 +2,13 @@ package uk.gov.hmcts.futurehearings.snl.acceptance.security;
 
 import static io.restassured.RestAssured.given;
 import static io.restassured.RestAssured.reset;
-import static io.restassured.config.EncoderConfig.encoderConfig;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static uk.gov.hmcts.futurehearings.snl.acceptance.common.security.OAuthTokenGenerator.TOKEN_REQUEST_CONFIG_WITHOUT_CHARSET;
 import static uk.gov.hmcts.futurehearings.snl.acceptance.common.security.OAuthTokenGenerator.generateOAuthToken;
 
-import uk.gov.hmcts.futurehearings.snl.Application;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.context.AcceptanceProperties;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.context.AcceptanceTest;
 
 import java.util.Map;
 import java.util.Objects;
@@ -15,7 +16,6 @@ import java.util.Objects;
 import io.restassured.RestAssured;
 import io.restassured.response.Response;
 import lombok.extern.slf4j.Slf4j;
-import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
@@ -23,51 +23,31 @@ import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpStatus;
-import org.springframework.test.context.ActiveProfiles;
 
 @Slf4j
-@SpringBootTest(classes = {Application.class})
-@ActiveProfiles("acceptance")
+@AcceptanceTest
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 @DisplayName("Test to Check the JWT Token Generator for OAuth, Note : In case of tests breaking - The client secret may change once a year")
 @SuppressWarnings({"java:S2187", "java:S5786", "java:S2699"})
 class OAuthTokenGeneratorTest {
 
-    @Value("${token_apiURL}")
-    private String token_apiURL;
-
-    @Value("${token_username}")
-    private String token_username;
-
-    @Value("${token_password}")
-    private String token_password;
-
-    @Value("${expired_access_token}")
-    private String expired_access_token;
-
-    @Value("${targetInstance}")
-    private String targetInstance;
+    @Autowired
+    private AcceptanceProperties acceptanceProperties;
 
     @Value("${sessionsApiRootContext}")
     private String sessionsApiRootContext;
 
-    @BeforeAll
-    public void initialiseValues() {
-        RestAssured.useRelaxedHTTPSValidation();
-        RestAssured.config = RestAssured.config()
-                .encoderConfig(encoderConfig().appendDefaultContentCharsetToContentTypeIfUndefined(false));
-    }
-
     @Test
     @DisplayName("Successfully validated response with the right response String")
     void test_get_token_successfully() throws Exception {
-        String token = generateOAuthToken(token_apiURL,
-                token_username,
-                token_password,
-                HttpStatus.OK);
+        String token = generateOAuthToken(acceptanceProperties.tokenApiURL(),
+                acceptanceProperties.tokenUsername(),
+                acceptanceProperties.tokenPassword(),
+                HttpStatus.OK,
+                TOKEN_REQUEST_CONFIG_WITHOUT_CHARSET);
         log.debug("The value of Token "+token);
         assertTrue(Objects.nonNull(token));
         assertTrue(token.length() > 1);
@@ -78,20 +58,22 @@ class OAuthTokenGeneratorTest {
     @NullAndEmptySource
     @ValueSource(strings = {" ", "api-sit-casehq@mcmshmcts.onmicrosoft.com"})
     void test_get_token_with_negative_username(final String username) throws Exception {
-        generateOAuthToken(token_apiURL,
+        generateOAuthToken(acceptanceProperties.tokenApiURL(),
                 username,
-                token_password,
-                HttpStatus.BAD_REQUEST);
+                acceptanceProperties.tokenPassword(),
+                HttpStatus.BAD_REQUEST,
+                TOKEN_REQUEST_CONFIG_WITHOUT_CHARSET);
     }
 
     @ParameterizedTest(name = "Invalid Password - Param : {0}")
     @NullAndEmptySource
     @ValueSource(strings = {" ", "JTuREp6m4W9KyjbzFpnUfanh"})
     void test_get_token_with_negative_password(final String password) throws Exception {
-        generateOAuthToken(token_apiURL,
-                token_username,
+        generateOAuthToken(acceptanceProperties.tokenApiURL(),
+                acceptanceProperties.tokenUsername(),
                 password,
-                HttpStatus.BAD_REQUEST);
+                HttpStatus.BAD_REQUEST,
+                TOKEN_REQUEST_CONFIG_WITHOUT_CHARSET);
     }
 
 
@@ -99,10 +81,11 @@ class OAuthTokenGeneratorTest {
     @NullAndEmptySource
     @ValueSource(strings = {" ", "https://hmcts-uat.casehq.net/hmi_oauth1/resources/hmi/token"})
     void test_get_token_with_negative_token_url(final String tokenURL) throws Exception {
-        generateOAuthToken(token_apiURL,
-                token_username,
+        generateOAuthToken(acceptanceProperties.tokenApiURL(),
+                acceptanceProperties.tokenUsername(),
                 tokenURL,
-                HttpStatus.BAD_REQUEST);
+                HttpStatus.BAD_REQUEST,
+                TOKEN_REQUEST_CONFIG_WITHOUT_CHARSET);
     }
 
     @Test
@@ -112,9 +95,10 @@ class OAuthTokenGeneratorTest {
         Response response = RestAssured
                 .expect().that().statusCode(HttpStatus.UNAUTHORIZED.value())
                 .given()
+                .relaxedHTTPSValidation()
                 .auth()
                 .oauth2("accessToken")
-                .baseUri(targetInstance)
+                .baseUri(acceptanceProperties.targetInstance())
                 .basePath(sessionsApiRootContext)
                 .queryParams(Map.of("requestSessionType", "ADHOC"))
                 .when()
@@ -129,9 +113,10 @@ class OAuthTokenGeneratorTest {
         Response response = RestAssured
                 .expect().that().statusCode(HttpStatus.UNAUTHORIZED.value())
                 .given()
+                .relaxedHTTPSValidation()
                 .auth()
-                .oauth2(expired_access_token)
-                .baseUri(targetInstance)
+                .oauth2(acceptanceProperties.expiredAccessToken())
+                .baseUri(acceptanceProperties.targetInstance())
                 .basePath(sessionsApiRootContext)
                 .queryParams(Map.of("requestSessionType", "ADHOC"))
                 .when()
@@ -3,14 +3,16 @@ package uk.gov.hmcts.futurehearings.snl.acceptance.sessions;
 import static uk.gov.hmcts.futurehearings.snl.acceptance.common.helper.CommonHeaderHelper.createCompletePayloadHeader;
 import static uk.gov.hmcts.futurehearings.snl.acceptance.common.helper.CommonHeaderHelper.createStandardPayloadHeader;
 
-import uk.gov.hmcts.futurehearings.snl.Application;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.TestingUtils;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.context.AcceptanceTest;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.delegate.dto.DelegateDTO;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.verify.dto.SNLVerificationDTO;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.verify.error.SNLCommonErrorVerifier;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.verify.success.SNLCommonSuccessVerifier;
 import uk.gov.hmcts.futurehearings.snl.acceptance.sessions.dto.SessionsVerificationDTO;
 import uk.gov.hmcts.futurehearings.snl.acceptance.sessions.verify.GETSessionsPayloadValidationVerifier;
+import uk.gov.hmcts.futurehearings.snl.acceptance.sessions.verify.GETSessionsSchemaVerifier;
+import uk.gov.hmcts.futurehearings.snl.acceptance.validation.factory.PayloadValidationFactory;
 
 import java.util.Map;
 
@@ -23,14 +25,11 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvFileSource;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.test.context.ActiveProfiles;
 
 @Slf4j
-@SpringBootTest(classes = {Application.class})
-@ActiveProfiles("acceptance")
+@AcceptanceTest
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 @SuppressWarnings("java:S2187")
 public class GETSessionsPayloadValidationTest extends SessionsPayloadValidationTest {
@@ -46,6 +45,9 @@ public class GETSessionsPayloadValidationTest extends SessionsPayloadValidationT
     @Value("${sessionsApiRootContext}")
     private String sessionsApiRootContext;
 
+    @Value("${schemaValidation.version:" + PayloadValidationFactory.PAYLOAD_SCHEMA_VERSION + "}")
+    private String schemaVersion;
+
     @BeforeAll
     public void initialiseValues() throws Exception {
         super.initialiseValues();
@@ -77,6 +79,20 @@ public class GETSessionsPayloadValidationTest extends SessionsPayloadValidationT
                 new GETSessionsPayloadValidationVerifier(), sessionsVerificationDTO);
     }
 
+    @Test
+    @DisplayName("Successfully validated response against its schema as it is streamed - Query Param : requestSessionType=ADHOC")
+    public void test_successful_response_streamed_against_schema() throws Exception {
+
+        Map<String, String> urlParams = Map.of("requestSessionType", "ADHOC");
+        this.setUrlParams(urlParams);
+        DelegateDTO delegateDTO = buildDelegateDTO(getRelativeURL(),
+                createCompletePayloadHeader(), getHttpMethod(), getHttpSuccessStatus());
+        SessionsVerificationDTO sessionsVerificationDTO = new SessionsVerificationDTO(getHttpSuccessStatus(), null, null, null);
+        commonDelegate.test_expected_response_for_supplied_header(
+                delegateDTO,
+                new GETSessionsSchemaVerifier(schemaVersion), sessionsVerificationDTO);
+    }
+
     @Test
     @DisplayName("Successfully validated response with mandatory header values - Query Param : requestSessionType=ADHOC")
     public void test_successful_response_with_a_mandatory_header() throws Exception {
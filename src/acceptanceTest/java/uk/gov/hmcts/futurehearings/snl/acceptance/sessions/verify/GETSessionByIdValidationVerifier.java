@@ -4,16 +4,13 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.verify.success.SNLSuccessVerifier;
 import uk.gov.hmcts.futurehearings.snl.acceptance.common.dto.SNLDto;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.verify.ResponseDocument;
 
-import io.restassured.response.Response;
-import lombok.extern.slf4j.Slf4j;
 
-@Slf4j
 public class GETSessionByIdValidationVerifier implements SNLSuccessVerifier {
 
     @Override
-    public void verify(SNLDto snlDto, Response response) {
-        log.debug(response.getBody().asString());
-        assertTrue(response.getBody().jsonPath().getMap("$").size() > 1);
+    public void verify(SNLDto snlDto, ResponseDocument responseDocument) {
+        assertTrue(responseDocument.root().size() > 1);
     }
 }
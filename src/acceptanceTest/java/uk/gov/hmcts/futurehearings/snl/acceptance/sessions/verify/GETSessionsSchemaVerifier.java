@@ -0,0 +1,59 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.sessions.verify;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.dto.SNLDto;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.verify.ResponseDocument;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.verify.dto.SNLVerificationDTO;
+import uk.gov.hmcts.futurehearings.snl.acceptance.common.verify.success.SNLSuccessVerifier;
+import uk.gov.hmcts.futurehearings.snl.acceptance.validation.streaming.StreamingSchemaValidator;
+import uk.gov.hmcts.futurehearings.snl.acceptance.validation.streaming.StreamingValidationResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.extern.slf4j.Slf4j;
+
+//Validates the sessions response against the getSessionsResponseMessage.json schema as it is read off the wire.
+//The body is streamed, neither the engine nor the exchange recorder buffer it, so only one session is held at a time.
+//Nothing else can read the body afterwards, checks on the session fields need a verifier of their own call.
+@Slf4j
+public class GETSessionsSchemaVerifier implements SNLSuccessVerifier {
+
+    private static final Map<String, StreamingSchemaValidator> VALIDATORS = new ConcurrentHashMap<>();
+
+    private final String schemaVersion;
+
+    public GETSessionsSchemaVerifier(final String schemaVersion) {
+        this.schemaVersion = schemaVersion;
+    }
+
+    @Override
+    public boolean streamsBody() {
+        return true;
+    }
+
+    @Override
+    public void verify(SNLDto snlDto, ResponseDocument responseDocument) {
+        final SNLVerificationDTO snlVerificationDTO = (SNLVerificationDTO) snlDto;
+        assertEquals(snlVerificationDTO.httpStatus().value(), responseDocument.statusCode());
+
+        final StreamingSchemaValidator validator =
+                VALIDATORS.computeIfAbsent(schemaVersion, StreamingSchemaValidator::sessions);
+        final StreamingValidationResult result;
+        try (InputStream body = responseDocument.response().asInputStream()) {
+            result = validator.validate(body);
+        } catch (IOException ioException) {
+            fail("The sessions response could not be read", ioException);
+            return;
+        }
+        log.debug(result.itemCount() + " sessions validated against " + schemaVersion + "/"
+                + StreamingSchemaValidator.SESSIONS_SCHEMA);
+        assertTrue(result.valid(), () -> result.violationCount() + " schema violations in the sessions response : "
+                + String.join(System.lineSeparator(), result.violations()));
+    }
+}
@@ -0,0 +1,125 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.sessions.verify;
+
+import uk.gov.hmcts.futurehearings.snl.acceptance.sessions.dto.SessionsVerificationDTO;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+//The GET /sessions query parameters of a SessionsVerificationDTO compiled into one criterion per parameter given.
+//A session matches when it meets every criterion, so any combination of parameters has a meaning:
+//requestSessionType - sessionType is equal, requestDuration - sessionDuration is equal,
+//requestJudgeType - one of the sessionJudges has that sessionJudgeType, requestLocationID - sessionRoomId is equal,
+//requestStartDate - sessionStartTime is on or after it, requestEndDate - sessionStartTime is on or before it.
+public final class SessionFilter {
+
+    private static final DateTimeFormatter SESSION_DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss'Z'");
+
+    private final List<Criterion> criteria;
+
+    private SessionFilter(final List<Criterion> criteria) {
+        this.criteria = Collections.unmodifiableList(criteria);
+    }
+
+    public static SessionFilter of(final SessionsVerificationDTO sessionsVerificationDTO) {
+        final List<Criterion> criteria = new ArrayList<>();
+        if (given(sessionsVerificationDTO.requestSessionType())) {
+            final String sessionType = sessionsVerificationDTO.requestSessionType().trim();
+            criteria.add(new Criterion("sessionType = " + sessionType,
+                session -> sessionType.equals(text(session.get("sessionType")))));
+        }
+        if (given(sessionsVerificationDTO.requestDuration())) {
+            final long duration = Long.parseLong(sessionsVerificationDTO.requestDuration().trim());
+            criteria.add(new Criterion("sessionDuration = " + duration,
+                session -> session.get("sessionDuration") instanceof Number
+                        && ((Number) session.get("sessionDuration")).longValue() == duration));
+        }
+        if (given(sessionsVerificationDTO.requestJudgeType())) {
+            final String judgeType = sessionsVerificationDTO.requestJudgeType().trim();
+            criteria.add(new Criterion("a sessionJudgeType = " + judgeType,
+                session -> session.get("sessionJudges") instanceof List
+                        && ((List<?>) session.get("sessionJudges")).stream()
+                        .anyMatch(judge -> judge instanceof Map
+                                && judgeType.equals(text(((Map<?, ?>) judge).get("sessionJudgeType"))))));
+        }
+        if (given(sessionsVerificationDTO.requestLocationID())) {
+            final String locationId = sessionsVerificationDTO.requestLocationID().trim();
+            criteria.add(new Criterion("sessionRoomId = " + locationId,
+                session -> locationId.equals(text(session.get("sessionRoomId")))));
+        }
+        if (given(sessionsVerificationDTO.requestStartDate())) {
+            final LocalDateTime startDate = LocalDateTime.parse(sessionsVerificationDTO.requestStartDate().trim(),
+                    SESSION_DATE_TIME);
+            criteria.add(new Criterion("sessionStartTime >= " + startDate, session -> {
+                final LocalDateTime sessionStart = startTime(session);
+                return Objects.nonNull(sessionStart) && !sessionStart.isBefore(startDate);
+            }));
+        }
+        if (given(sessionsVerificationDTO.requestEndDate())) {
+            final LocalDateTime endDate = LocalDateTime.parse(sessionsVerificationDTO.requestEndDate().trim(),
+                    SESSION_DATE_TIME);
+            criteria.add(new Criterion("sessionStartTime <= " + endDate, session -> {
+                final LocalDateTime sessionStart = startTime(session);
+                return Objects.nonNull(sessionStart) && !sessionStart.isAfter(endDate);
+            }));
+        }
+        return new SessionFilter(criteria);
+    }
+
+    //The criteria the session does not meet, empty when it matches.
+    public List<String> mismatches(final Map<String, Object> session) {
+        List<String> mismatches = Collections.emptyList();
+        for (Criterion criterion : criteria) {
+            if (!criterion.predicate.test(session)) {
+                if (mismatches.isEmpty()) {
+                    mismatches = new ArrayList<>();
+                }
+                mismatches.add(criterion.description);
+            }
+        }
+        return mismatches;
+    }
+
+    @Override
+    public String toString() {
+        return criteria.stream().map(criterion -> criterion.description).collect(Collectors.joining(" and "));
+    }
+
+    private static boolean given(final String value) {
+        return Objects.nonNull(value) && !value.trim().isEmpty();
+    }
+
+    private static String text(final Object value) {
+        return Objects.isNull(value) ? null : String.valueOf(value);
+    }
+
+    private static LocalDateTime startTime(final Map<String, Object> session) {
+        final String startTime = text(session.get("sessionStartTime"));
+        if (Objects.isNull(startTime)) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(startTime, SESSION_DATE_TIME);
+        } catch (DateTimeParseException parseException) {
+            return null;
+        }
+    }
+
+    private static final class Criterion {
+
+        private final String description;
+        private final Predicate<Map<String, Object>> predicate;
+
+        private Criterion(final String description, final Predicate<Map<String, Object>> predicate) {
+            this.description = description;
+            this.predicate = predicate;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.sessions.verify;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import uk.gov.hmcts.futurehearings.snl.acceptance.sessions.dto.SessionsVerificationDTO;
+
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpStatus;
+
+@DisplayName("Sessions matched against the GET /sessions query parameters")
+class SessionFilterTest {
+
+    @Test
+    @DisplayName("Without parameters every session matches")
+    void test_no_parameters_match_every_session() {
+        final SessionsVerificationDTO parameters = parameters();
+        parameters.requestSessionType(" ");
+
+        final SessionFilter sessionFilter = SessionFilter.of(parameters);
+
+        assertEquals("", sessionFilter.toString());
+        assertEquals(List.of(), sessionFilter.mismatches(Map.of()));
+        assertEquals(List.of(), sessionFilter.mismatches(session()));
+    }
+
+    @Test
+    @DisplayName("requestSessionType - sessionType is equal")
+    void test_session_type() {
+        final SessionsVerificationDTO parameters = parameters();
+        parameters.requestSessionType(" ADHOC ");
+        final SessionFilter sessionFilter = SessionFilter.of(parameters);
+
+        assertEquals(List.of(), sessionFilter.mismatches(session()));
+        assertEquals(List.of("sessionType = ADHOC"), sessionFilter.mismatches(session("sessionType", "DS")));
+        assertEquals(List.of("sessionType = ADHOC"), sessionFilter.mismatches(without("sessionType")));
+    }
+
+    @Test
+    @DisplayName("requestDuration - sessionDuration is equal, as a number")
+    void test_duration() {
+        final SessionsVerificationDTO parameters = parameters();
+        parameters.requestDuration("360");
+        final SessionFilter sessionFilter = SessionFilter.of(parameters);
+
+        assertEquals(List.of(), sessionFilter.mismatches(session()));
+        assertEquals(List.of(), sessionFilter.mismatches(session("sessionDuration", 360L)));
+        assertEquals(List.of("sessionDuration = 360"), sessionFilter.mismatches(session("sessionDuration", 30)));
+        assertEquals(List.of("sessionDuration = 360"), sessionFilter.mismatches(session("sessionDuration", "360")));
+    }
+
+    @Test
+    @DisplayName("requestJudgeType - one of the sessionJudges has that sessionJudgeType")
+    void test_judge_type() {
+        final SessionsVerificationDTO parameters = parameters();
+        parameters.requestJudgeType("DJ");
+        final SessionFilter sessionFilter = SessionFilter.of(parameters);
+
+        assertEquals(List.of(), sessionFilter.mismatches(session()));
+        assertEquals(List.of("a sessionJudgeType = DJ"), sessionFilter.mismatches(session("sessionJudges",
+                List.of(Map.of("sessionJudgeType", "MAG")))));
+        assertEquals(List.of("a sessionJudgeType = DJ"), sessionFilter.mismatches(session("sessionJudges", List.of())));
+        assertEquals(List.of("a sessionJudgeType = DJ"), sessionFilter.mismatches(without("sessionJudges")));
+    }
+
+    @Test
+    @DisplayName("requestLocationID - sessionRoomId is equal, whether the room is a number or text")
+    void test_location_id() {
+        final SessionsVerificationDTO parameters = parameters();
+        parameters.requestLocationID("301");
+        final SessionFilter sessionFilter = SessionFilter.of(parameters);
+
+        assertEquals(List.of(), sessionFilter.mismatches(session()));
+        assertEquals(List.of(), sessionFilter.mismatches(session("sessionRoomId", "301")));
+        assertEquals(List.of("sessionRoomId = 301"), sessionFilter.mismatches(session("sessionRoomId", 302)));
+        assertEquals(List.of("sessionRoomId = 301"), sessionFilter.mismatches(without("sessionRoomId")));
+    }
+
+    @Test
+    @DisplayName("requestStartDate - sessionStartTime is on or after it")
+    void test_start_date() {
+        final SessionsVerificationDTO parameters = parameters();
+        parameters.requestStartDate("2020-12-09T10:00:00Z");
+        final SessionFilter sessionFilter = SessionFilter.of(parameters);
+
+        assertEquals(List.of(), sessionFilter.mismatches(session("sessionStartTime", "2020-12-09T10:00:00Z")));
+        assertEquals(List.of(), sessionFilter.mismatches(session("sessionStartTime", "2020-12-10T09:00:00Z")));
+        assertEquals(List.of("sessionStartTime >= 2020-12-09T10:00"),
+                sessionFilter.mismatches(session("sessionStartTime", "2020-12-09T09:59:59Z")));
+    }
+
+    @Test
+    @DisplayName("requestEndDate - sessionStartTime is on or before it")
+    void test_end_date() {
+        final SessionsVerificationDTO parameters = parameters();
+        parameters.requestEndDate("2020-12-09T10:00:00Z");
+        final SessionFilter sessionFilter = SessionFilter.of(parameters);
+
+        assertEquals(List.of(), sessionFilter.mismatches(session("sessionStartTime", "2020-12-09T10:00:00Z")));
+        assertEquals(List.of(), sessionFilter.mismatches(session("sessionStartTime", "2020-12-08T11:00:00Z")));
+        assertEquals(List.of("sessionStartTime <= 2020-12-09T10:00"),
+                sessionFilter.mismatches(session("sessionStartTime", "2020-12-09T10:00:01Z")));
+    }
+
+    @Test
+    @DisplayName("Every parameter given is a criterion, a session matches only when it meets them all")
+    void test_criteria_combined() {
+        final SessionsVerificationDTO parameters = parameters();
+        parameters.requestSessionType("ADHOC");
+        parameters.requestDuration("360");
+        parameters.requestJudgeType("DJ");
+        parameters.requestLocationID("301");
+        parameters.requestStartDate("2020-12-01T00:00:00Z");
+        parameters.requestEndDate("2020-12-31T00:00:00Z");
+        final SessionFilter sessionFilter = SessionFilter.of(parameters);
+
+        assertEquals("sessionType = ADHOC and sessionDuration = 360 and a sessionJudgeType = DJ"
+                + " and sessionRoomId = 301 and sessionStartTime >= 2020-12-01T00:00"
+                + " and sessionStartTime <= 2020-12-31T00:00", sessionFilter.toString());
+        assertEquals(List.of(), sessionFilter.mismatches(session()));
+
+        final Map<String, Object> session = session("sessionRoomId", 302);
+        session.put("sessionStartTime", "2021-01-04T10:00:00Z");
+        assertEquals(List.of("sessionRoomId = 301", "sessionStartTime <= 2020-12-31T00:00"),
+                sessionFilter.mismatches(session));
+    }
+
+    @ParameterizedTest(name = "[{index}] \"{0}\"")
+    @DisplayName("A sessionStartTime that cannot be parsed meets neither date criterion")
+    @ValueSource(strings = {"2020-12-09 10:00:00", "2020-12-09T10:00:00", "2020-12-09T10:00:00.000Z", "2020-12-09", ""})
+    void test_unparseable_start_time_mismatches(final String sessionStartTime) {
+        final SessionsVerificationDTO parameters = parameters();
+        parameters.requestStartDate("2020-12-01T00:00:00Z");
+        parameters.requestEndDate("2020-12-31T00:00:00Z");
+        final SessionFilter sessionFilter = SessionFilter.of(parameters);
+
+        assertEquals(List.of("sessionStartTime >= 2020-12-01T00:00", "sessionStartTime <= 2020-12-31T00:00"),
+                sessionFilter.mismatches(session("sessionStartTime", sessionStartTime)));
+    }
+
+    @Test
+    @DisplayName("A session without a sessionStartTime meets neither date criterion")
+    void test_missing_start_time_mismatches() {
+        final SessionsVerificationDTO parameters = parameters();
+        parameters.requestStartDate("2020-12-01T00:00:00Z");
+        parameters.requestEndDate("2020-12-31T00:00:00Z");
+
+        assertEquals(2, SessionFilter.of(parameters).mismatches(without("sessionStartTime")).size());
+    }
+
+    @Test
+    @DisplayName("A date parameter that cannot be parsed is refused when the filter is built")
+    void test_unparseable_date_parameter_refused() {
+        final SessionsVerificationDTO parameters = parameters();
+        parameters.requestEndDate("2020-12-31");
+
+        assertThrows(DateTimeParseException.class, () -> SessionFilter.of(parameters));
+    }
+
+    private static SessionsVerificationDTO parameters() {
+        return new SessionsVerificationDTO(HttpStatus.OK, null, null, null);
+    }
+
+    //A session meeting every parameter of test_criteria_combined.
+    private static Map<String, Object> session() {
+        final Map<String, Object> session = new HashMap<>();
+        session.put("sessionType", "ADHOC");
+        session.put("sessionDuration", 360);
+        session.put("sessionJudges", List.of(Map.of("sessionJudgeType", "MAG"), Map.of("sessionJudgeType", "DJ")));
+        session.put("sessionRoomId", 301);
+        session.put("sessionStartTime", "2020-12-09T10:00:00Z");
+        return session;
+    }
+
+    private static Map<String, Object> session(final String field, final Object value) {
+        final Map<String, Object> session = session();
+        session.put(field, value);
+        return session;
+    }
+
+    private static Map<String, Object> without(final String field) {
+        final Map<String, Object> session = session();
+        session.remove(field);
+        return session;
+    }
+}
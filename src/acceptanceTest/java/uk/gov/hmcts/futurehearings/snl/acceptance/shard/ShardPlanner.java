@@ -0,0 +1,161 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.shard;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.platform.commons.annotation.Testable;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.junit.platform.commons.support.HierarchyTraversalMode;
+import org.junit.platform.commons.support.ReflectionSupport;
+
+//Entry point of ./gradlew acceptanceShardPlan, run for ./gradlew acceptance -Pshard=<shard>/<shards>.
+//The acceptance classes are bin-packed into shards of about the same duration from the TestHistory of the previous
+//runs, longest class first into the shard that is least full so far. A class without history counts as the median
+//of those with one. Every agent computes the same plan from the same history, so the shards never overlap.
+@Slf4j
+public class ShardPlanner {
+
+    private static final String ACCEPTANCE_PACKAGE = "uk/gov/hmcts/futurehearings/snl/acceptance/";
+    private static final String LOAD_PACKAGE = ACCEPTANCE_PACKAGE + "load/";
+    private static final long DEFAULT_DURATION_MILLIS = 1_000L;
+
+    private final TestHistory testHistory;
+
+    ShardPlanner(final TestHistory testHistory) {
+        this.testHistory = testHistory;
+    }
+
+    public static void main(final String[] args) throws IOException {
+        final String shard = required("shard");
+        final String[] shardParts = shard.split("/");
+        if (shardParts.length != 2) {
+            throw new IllegalArgumentException("-Pshard must be <shard>/<shards>, e.g. 2/5, not " + shard);
+        }
+        final int shardNumber = Integer.parseInt(shardParts[0].trim());
+        final int shards = Integer.parseInt(shardParts[1].trim());
+        if (shards < 1 || shardNumber < 1 || shardNumber > shards) {
+            throw new IllegalArgumentException("No shard " + shard);
+        }
+        final TestHistory testHistory = TestHistory.read(Paths.get(required("shard.history")));
+        final List<String> testClasses = testClasses(required("shard.classesDirs"));
+        final List<Shard> plan = new ShardPlanner(testHistory).plan(testClasses, shards);
+        plan.forEach(planned -> log.info(String.format("Shard %d/%d : %d classes, about %d s", planned.number(), shards,
+                planned.classes().size(), planned.durationMillis() / 1000)));
+
+        final Path output = Paths.get(required("shard.plan"));
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        Files.write(output, plan.get(shardNumber - 1).classes(), StandardCharsets.UTF_8);
+        log.info("Shard " + shard + " plan written to " + output.toAbsolutePath());
+    }
+
+    List<Shard> plan(final List<String> testClasses, final int shards) {
+        final long unknownDurationMillis = median(testHistory.classDurations());
+        final List<Shard> plan = new ArrayList<>(shards);
+        for (int number = 1; number <= shards; number++) {
+            plan.add(new Shard(number));
+        }
+        testClasses.stream()
+                .sorted(Comparator.comparingLong((String testClass) -> duration(testClass, unknownDurationMillis))
+                        .reversed().thenComparing(Comparator.naturalOrder()))
+                .forEach(testClass -> plan.stream()
+                        .min(Comparator.comparingLong(Shard::durationMillis).thenComparingInt(Shard::number))
+                        .get()
+                        .add(testClass, duration(testClass, unknownDurationMillis)));
+        return plan;
+    }
+
+    private long duration(final String testClass, final long unknownDurationMillis) {
+        final Long duration = testHistory.classDuration(testClass);
+        return Objects.isNull(duration) ? unknownDurationMillis : duration;
+    }
+
+    private static long median(final List<Long> durations) {
+        if (durations.isEmpty()) {
+            return DEFAULT_DURATION_MILLIS;
+        }
+        final List<Long> sorted = durations.stream().sorted().collect(Collectors.toList());
+        return sorted.get(sorted.size() / 2);
+    }
+
+    //The concrete top level classes of the acceptance task with a test method of their own or inherited.
+    static List<String> testClasses(final String classesDirs) throws IOException {
+        final List<String> testClasses = new ArrayList<>();
+        for (String classesDir : classesDirs.split(File.pathSeparator)) {
+            final Path root = Paths.get(classesDir);
+            if (!Files.isDirectory(root)) {
+                continue;
+            }
+            try (Stream<Path> walk = Files.walk(root)) {
+                walk.map(path -> root.relativize(path).toString().replace(File.separatorChar, '/'))
+                        .filter(path -> path.startsWith(ACCEPTANCE_PACKAGE) && !path.startsWith(LOAD_PACKAGE))
+                        .filter(path -> path.endsWith(".class") && !path.contains("$"))
+                        .map(path -> path.substring(0, path.length() - ".class".length()).replace('/', '.'))
+                        .filter(ShardPlanner::isTestClass)
+                        .forEach(testClasses::add);
+            }
+        }
+        return testClasses;
+    }
+
+    private static boolean isTestClass(final String className) {
+        final Class<?> testClass;
+        try {
+            testClass = Class.forName(className, false, ShardPlanner.class.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError loadingException) {
+            log.warn("Not planned, " + className + " could not be loaded : " + loadingException);
+            return false;
+        }
+        return !testClass.isInterface() && !Modifier.isAbstract(testClass.getModifiers())
+                && !ReflectionSupport.findMethods(testClass,
+                    method -> AnnotationSupport.isAnnotated(method, Testable.class),
+                    HierarchyTraversalMode.TOP_DOWN).isEmpty();
+    }
+
+    private static String required(final String property) {
+        final String value = System.getProperty(property);
+        if (Objects.isNull(value) || value.isBlank()) {
+            throw new IllegalArgumentException("-D" + property + " is required");
+        }
+        return value;
+    }
+
+    static final class Shard {
+
+        private final int number;
+        private final List<String> classes = new ArrayList<>();
+        private long durationMillis;
+
+        private Shard(final int number) {
+            this.number = number;
+        }
+
+        private void add(final String testClass, final long testClassDurationMillis) {
+            classes.add(testClass);
+            durationMillis += testClassDurationMillis;
+        }
+
+        int number() {
+            return number;
+        }
+
+        List<String> classes() {
+            return classes;
+        }
+
+        long durationMillis() {
+            return durationMillis;
+        }
+    }
+}
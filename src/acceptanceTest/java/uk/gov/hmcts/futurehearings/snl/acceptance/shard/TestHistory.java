@@ -0,0 +1,179 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.shard;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+
+//The durations and outcomes of the acceptance classes and of their test methods over the previous runs, kept as a CSV
+//file of class,method,durationMillis,runs,recentFailures where the row of a class as a whole has an empty method.
+//A duration is smoothed over the runs, so one slow run moves it only half way. recentFailures has a bit per each of
+//the last 8 runs, the latest run in the highest bit, so a test that failed more recently has the greater value.
+public class TestHistory {
+
+    private static final String HEADER = "class,method,durationMillis,runs,recentFailures";
+    private static final String PREVIOUS_HEADER = "class,method,durationMillis,runs";
+    private static final String CLASS_ROW = "";
+    private static final int LATEST_FAILURE = 0x80;
+
+    private final Map<String, Map<String, Entry>> classes = new TreeMap<>();
+
+    public static TestHistory read(final Path file) throws IOException {
+        final TestHistory testHistory = new TestHistory();
+        if (!Files.exists(file)) {
+            return testHistory;
+        }
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            if (line.isBlank() || line.equals(HEADER) || line.equals(PREVIOUS_HEADER)) {
+                continue;
+            }
+            final List<String> fields = parse(line);
+            if (fields.size() < 4) {
+                throw new IOException("Malformed test history line in " + file + " : " + line);
+            }
+            //A history written before the outcomes were recorded has no recentFailures column.
+            final int recentFailures = fields.size() > 4 ? Integer.parseInt(fields.get(4)) : 0;
+            testHistory.entries(fields.get(0)).put(fields.get(1),
+                    new Entry(Long.parseLong(fields.get(2)), Integer.parseInt(fields.get(3)), recentFailures));
+        }
+        return testHistory;
+    }
+
+    public void write(final Path file) throws IOException {
+        if (Objects.nonNull(file.toAbsolutePath().getParent())) {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(HEADER);
+            writer.newLine();
+            for (Map.Entry<String, Map<String, Entry>> testClass : classes.entrySet()) {
+                for (Map.Entry<String, Entry> method : testClass.getValue().entrySet()) {
+                    writer.write(String.join(",", csv(testClass.getKey()), csv(method.getKey()),
+                            String.valueOf(method.getValue().durationMillis()),
+                            String.valueOf(method.getValue().runs()),
+                            String.valueOf(method.getValue().recentFailures())));
+                    writer.newLine();
+                }
+            }
+        }
+    }
+
+    public void recordClass(final String className, final long durationMillis) {
+        record(className, CLASS_ROW, durationMillis, false);
+    }
+
+    public void recordMethod(final String className, final String methodName, final long durationMillis,
+                             final boolean failed) {
+        record(className, methodName, durationMillis, failed);
+    }
+
+    //The smoothed duration of the class, null when it has never run.
+    public Long classDuration(final String className) {
+        return duration(className, CLASS_ROW);
+    }
+
+    public Long methodDuration(final String className, final String methodName) {
+        return duration(className, methodName);
+    }
+
+    //The recentFailures of the method, 0 when it has never run or has passed in each of the last 8 runs.
+    public int methodRecentFailures(final String className, final String methodName) {
+        final Map<String, Entry> methods = classes.get(className);
+        if (Objects.isNull(methods) || !methods.containsKey(methodName)) {
+            return 0;
+        }
+        return methods.get(methodName).recentFailures();
+    }
+
+    //The method rows recorded for the class, as named in the JUnit XML results, e.g. test_x(String, String)[2].
+    public List<String> methodNames(final String className) {
+        final Map<String, Entry> methods = classes.get(className);
+        if (Objects.isNull(methods)) {
+            return Collections.emptyList();
+        }
+        final List<String> methodNames = new ArrayList<>(methods.keySet());
+        methodNames.remove(CLASS_ROW);
+        return Collections.unmodifiableList(methodNames);
+    }
+
+    public List<Long> classDurations() {
+        final List<Long> durations = new ArrayList<>();
+        classes.values().forEach(methods -> {
+            if (methods.containsKey(CLASS_ROW)) {
+                durations.add(methods.get(CLASS_ROW).durationMillis());
+            }
+        });
+        return Collections.unmodifiableList(durations);
+    }
+
+    private void record(final String className, final String methodName, final long durationMillis,
+                        final boolean failed) {
+        entries(className).merge(methodName, new Entry(durationMillis, 1, failed ? LATEST_FAILURE : 0),
+                (previous, latest) -> new Entry((previous.durationMillis() + latest.durationMillis()) / 2,
+                        previous.runs() + 1, (previous.recentFailures() >>> 1) | latest.recentFailures()));
+    }
+
+    private Long duration(final String className, final String methodName) {
+        final Map<String, Entry> methods = classes.get(className);
+        if (Objects.isNull(methods) || !methods.containsKey(methodName)) {
+            return null;
+        }
+        return methods.get(methodName).durationMillis();
+    }
+
+    private Map<String, Entry> entries(final String className) {
+        return classes.computeIfAbsent(className, key -> new TreeMap<>());
+    }
+
+    private static String csv(final String value) {
+        return value.contains(",") || value.contains("\"") ? "\"" + value.replace("\"", "\"\"") + "\"" : value;
+    }
+
+    private static List<String> parse(final String line) {
+        final List<String> fields = new ArrayList<>();
+        final StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int index = 0; index < line.length(); index++) {
+            final char character = line.charAt(index);
+            if (quoted && character == '"' && index + 1 < line.length() && line.charAt(index + 1) == '"') {
+                field.append('"');
+                index++;
+            } else if (character == '"') {
+                quoted = !quoted;
+            } else if (character == ',' && !quoted) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(character);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    @Getter(AccessLevel.PUBLIC)
+    @Accessors(fluent = true)
+    private static final class Entry {
+
+        private final long durationMillis;
+        private final int runs;
+        private final int recentFailures;
+
+        private Entry(final long durationMillis, final int runs, final int recentFailures) {
+            this.durationMillis = durationMillis;
+            this.runs = runs;
+            this.recentFailures = recentFailures;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.shard;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import lombok.extern.slf4j.Slf4j;
+
+//Entry point of the tasks that finish ./gradlew acceptance and ./gradlew mergeAcceptanceShards, records the class
+//and method durations and the method outcomes of the JUnit XML results found under history.results (a path list,
+//searched recursively) into the TestHistory the shards are planned and the methods are ordered from.
+//A skipped method, e.g. one not run after a systemic failure aborted the run, is not recorded, nor is a class none
+//of whose methods ran, as its time says nothing of how long the class takes.
+@Slf4j
+public class TestHistoryRecorder {
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = XMLInputFactory.newFactory();
+
+    public static void main(final String[] args) throws IOException, XMLStreamException {
+        final Path historyFile = Paths.get(required("history.file"));
+        final TestHistory testHistory = TestHistory.read(historyFile);
+        int recorded = 0;
+        for (String results : required("history.results").split(File.pathSeparator)) {
+            final Path resultsDir = Paths.get(results);
+            if (!Files.isDirectory(resultsDir)) {
+                continue;
+            }
+            final List<Path> reports;
+            try (Stream<Path> walk = Files.walk(resultsDir)) {
+                reports = walk.filter(path -> path.getFileName().toString().startsWith("TEST-")
+                        && path.getFileName().toString().endsWith(".xml")).sorted().collect(Collectors.toList());
+            }
+            for (Path report : reports) {
+                record(report, testHistory);
+                recorded++;
+            }
+        }
+        testHistory.write(historyFile);
+        log.info(recorded + " test class results recorded into " + historyFile.toAbsolutePath());
+    }
+
+    static void record(final Path report, final TestHistory testHistory) throws IOException, XMLStreamException {
+        try (InputStream input = Files.newInputStream(report)) {
+            final XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(input);
+            try {
+                String suiteName = null;
+                long suiteDurationMillis = 0L;
+                boolean suiteRan = false;
+                String className = null;
+                String methodName = null;
+                long durationMillis = 0L;
+                boolean failed = false;
+                boolean skipped = false;
+                while (reader.hasNext()) {
+                    final int event = reader.next();
+                    if (event == XMLStreamConstants.END_ELEMENT && "testcase".equals(reader.getLocalName())) {
+                        if (!skipped) {
+                            testHistory.recordMethod(className, methodName, durationMillis, failed);
+                            suiteRan = true;
+                        }
+                        continue;
+                    }
+                    if (event == XMLStreamConstants.END_ELEMENT && "testsuite".equals(reader.getLocalName())) {
+                        if (suiteRan) {
+                            testHistory.recordClass(suiteName, suiteDurationMillis);
+                        }
+                        continue;
+                    }
+                    if (event != XMLStreamConstants.START_ELEMENT) {
+                        continue;
+                    }
+                    switch (reader.getLocalName()) {
+                        case "testsuite":
+                            suiteName = reader.getAttributeValue(null, "name");
+                            suiteDurationMillis = millis(reader.getAttributeValue(null, "time"));
+                            suiteRan = false;
+                            break;
+                        case "testcase":
+                            className = reader.getAttributeValue(null, "classname");
+                            methodName = reader.getAttributeValue(null, "name");
+                            durationMillis = millis(reader.getAttributeValue(null, "time"));
+                            failed = false;
+                            skipped = false;
+                            break;
+                        case "failure":
+                        case "error":
+                            failed = true;
+                            break;
+                        case "skipped":
+                            skipped = true;
+                            break;
+                        default:
+                            break;
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        }
+    }
+
+    private static long millis(final String seconds) {
+        return Objects.isNull(seconds) || seconds.isBlank() ? 0L : Math.round(Double.parseDouble(seconds) * 1000);
+    }
+
+    private static String required(final String property) {
+        final String value = System.getProperty(property);
+        if (Objects.isNull(value) || value.isBlank()) {
+            throw new IllegalArgumentException("-D" + property + " is required");
+        }
+        return value;
+    }
+}
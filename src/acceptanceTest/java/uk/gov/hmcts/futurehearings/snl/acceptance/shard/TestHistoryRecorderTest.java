@@ -0,0 +1,75 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.shard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("Recording the JUnit XML results of an acceptance run into the test history")
+class TestHistoryRecorderTest {
+
+    private static final String CLASS_NAME = "uk.gov.hmcts.futurehearings.snl.acceptance.sessions.GETSessionsTest";
+
+    @TempDir
+    Path resultsDir;
+
+    @Test
+    @DisplayName("The class and each method run are recorded with their time and outcome")
+    void test_class_and_methods_recorded() throws Exception {
+        final TestHistory testHistory = record("<testsuite name=\"" + CLASS_NAME + "\" time=\"4.5\">"
+                + testcase("test_a()", "1.25", "")
+                + testcase("test_b()", "2.0", "<failure message=\"expected 200\"/>")
+                + "</testsuite>");
+
+        assertEquals(4500L, testHistory.classDuration(CLASS_NAME));
+        assertEquals(1250L, testHistory.methodDuration(CLASS_NAME, "test_a()"));
+        assertEquals(0, testHistory.methodRecentFailures(CLASS_NAME, "test_a()"));
+        assertNotEquals(0, testHistory.methodRecentFailures(CLASS_NAME, "test_b()"));
+    }
+
+    @Test
+    @DisplayName("A class none of whose methods ran, e.g. after the run was aborted, is not recorded")
+    void test_skipped_class_not_recorded() throws Exception {
+        final TestHistory testHistory = record("<testsuite name=\"" + CLASS_NAME + "\" time=\"0.01\">"
+                + testcase("test_a()", "0", "<skipped/>")
+                + testcase("test_b()", "0", "<skipped/>")
+                + "</testsuite>");
+
+        assertNull(testHistory.classDuration(CLASS_NAME));
+        assertEquals(List.of(), testHistory.methodNames(CLASS_NAME));
+    }
+
+    @Test
+    @DisplayName("A class cut short is recorded with the methods that ran, the skipped ones are left out")
+    void test_class_cut_short_recorded_with_methods_run() throws Exception {
+        final TestHistory testHistory = record("<testsuite name=\"" + CLASS_NAME + "\" time=\"1.5\">"
+                + testcase("test_a()", "1.5", "")
+                + testcase("test_b()", "0", "<skipped/>")
+                + "</testsuite>");
+
+        assertEquals(1500L, testHistory.classDuration(CLASS_NAME));
+        assertEquals(List.of("test_a()"), testHistory.methodNames(CLASS_NAME));
+    }
+
+    private TestHistory record(final String testsuite) throws Exception {
+        final Path report = resultsDir.resolve("TEST-" + CLASS_NAME + ".xml");
+        Files.write(report, ("<?xml version=\"1.0\" encoding=\"UTF-8\"?>" + testsuite)
+                .getBytes(StandardCharsets.UTF_8));
+        final TestHistory testHistory = new TestHistory();
+        TestHistoryRecorder.record(report, testHistory);
+        return testHistory;
+    }
+
+    private static String testcase(final String name, final String time, final String outcome) {
+        return "<testcase name=\"" + name + "\" classname=\"" + CLASS_NAME + "\" time=\"" + time + "\">"
+                + outcome + "</testcase>";
+    }
+}
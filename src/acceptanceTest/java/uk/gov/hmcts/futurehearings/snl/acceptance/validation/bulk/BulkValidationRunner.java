@@ -0,0 +1,185 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.validation.bulk;
+
+import uk.gov.hmcts.futurehearings.snl.acceptance.validation.registry.SchemaRegistry;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.everit.json.schema.Schema;
+import org.everit.json.schema.ValidationException;
+import org.json.JSONException;
+import org.json.JSONTokener;
+
+//Entry point of ./gradlew bulkValidate, validates every document of a directory of .json files or of a JSONL file
+//against one schema version, on a fork-join pool of bulkValidation.parallelism threads (all cores by default).
+//A JSONL line of the schemaCorpus shape, {"schema": ..., "payload": ...}, is validated against its own schema file.
+//Failures are summarised per rule, the schema keyword and the pointer with its array indices replaced by [*].
+@Slf4j
+public class BulkValidationRunner {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String UNPARSEABLE = "unparseable";
+
+    private final String version;
+    private final String defaultSchema;
+    private final LongAdder documents = new LongAdder();
+    private final LongAdder invalidDocuments = new LongAdder();
+    private final Map<String, LongAdder> ruleCounts = new ConcurrentHashMap<>();
+    private final Map<String, String> ruleExamples = new ConcurrentHashMap<>();
+
+    BulkValidationRunner(final String version, final String defaultSchema) {
+        this.version = version;
+        this.defaultSchema = defaultSchema;
+    }
+
+    public static void main(final String[] args) throws IOException, InterruptedException, ExecutionException {
+        final Path input = Paths.get(required("bulkValidation.input"));
+        final String version = System.getProperty("bulkValidation.version", "V1.5.1");
+        final String schema = System.getProperty("bulkValidation.schema", "");
+        final int parallelism = Integer.getInteger("bulkValidation.parallelism", Runtime.getRuntime().availableProcessors());
+        final Path output = Paths.get(System.getProperty("bulkValidation.output",
+                "build/reports/bulk-validation/summary.csv"));
+
+        final BulkValidationRunner runner = new BulkValidationRunner(version, schema);
+        final long startNanos = System.nanoTime();
+        final ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.submit(() -> runner.validateAll(input)).get();
+        } finally {
+            pool.shutdown();
+        }
+        final long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        runner.writeSummary(output);
+        log.info(String.format("%d documents validated against %s on %d threads in %d ms, %d invalid",
+                runner.documents.sum(), version, parallelism, elapsedMillis, runner.invalidDocuments.sum()));
+    }
+
+    //Runs inside the pool, so the parallel streams below use its threads rather than the common pool.
+    private void validateAll(final Path input) {
+        try {
+            if (Files.isDirectory(input)) {
+                final List<Path> files;
+                try (Stream<Path> walk = Files.walk(input)) {
+                    files = walk.filter(path -> path.toString().endsWith(".json")).sorted().collect(Collectors.toList());
+                }
+                files.parallelStream().forEach(file -> validate(file.toString(), defaultSchema, read(file)));
+            } else {
+                try (Stream<String> lines = Files.lines(input, StandardCharsets.UTF_8)) {
+                    lines.parallel()
+                            .filter(line -> !line.isBlank())
+                            .forEach(line -> validateLine(input.getFileName().toString(), line));
+                }
+            }
+        } catch (IOException ioException) {
+            throw new UncheckedIOException(ioException);
+        }
+    }
+
+    private void validateLine(final String source, final String line) {
+        if (line.contains("\"payload\"") && line.contains("\"schema\"")) {
+            try {
+                final JsonNode corpusLine = OBJECT_MAPPER.readTree(line);
+                if (corpusLine.has("payload") && corpusLine.has("schema")) {
+                    validate(source + " " + corpusLine.path("pointer").asText() + " "
+                                    + corpusLine.path("description").asText(),
+                            corpusLine.get("schema").asText(), corpusLine.get("payload").toString());
+                    return;
+                }
+            } catch (IOException ioException) {
+                //Not a corpus line, validated as it is below.
+            }
+        }
+        validate(source, defaultSchema, line);
+    }
+
+    void validate(final String documentName, final String schemaFileName, final String document) {
+        documents.increment();
+        if (schemaFileName.isEmpty()) {
+            throw new IllegalArgumentException("No bulkValidation.schema given for " + documentName);
+        }
+        final Schema schema = SchemaRegistry.schema(version, schemaFileName);
+        final List<String> rules = new ArrayList<>();
+        try {
+            schema.validate(new JSONTokener(document).nextValue());
+        } catch (ValidationException validationException) {
+            rules(schemaFileName, validationException, rules);
+        } catch (JSONException parseException) {
+            rules.add(schemaFileName + " " + UNPARSEABLE);
+        }
+        if (rules.isEmpty()) {
+            return;
+        }
+        invalidDocuments.increment();
+        rules.forEach(rule -> {
+            ruleCounts.computeIfAbsent(rule, key -> new LongAdder()).increment();
+            ruleExamples.putIfAbsent(rule, documentName);
+        });
+    }
+
+    private static void rules(final String schemaFileName, final ValidationException validationException,
+                              final List<String> rules) {
+        if (!validationException.getCausingExceptions().isEmpty()) {
+            validationException.getCausingExceptions().forEach(cause -> rules(schemaFileName, cause, rules));
+            return;
+        }
+        final String keyword = Objects.isNull(validationException.getKeyword()) ? "" : validationException.getKeyword();
+        rules.add(schemaFileName + " " + validationException.getPointerToViolation().replaceAll("/\\d+(?=/|$)", "/[*]")
+                + " " + keyword);
+    }
+
+    private void writeSummary(final Path output) throws IOException {
+        final List<Map.Entry<String, LongAdder>> rules = new ArrayList<>(ruleCounts.entrySet());
+        rules.sort((left, right) -> Long.compare(right.getValue().sum(), left.getValue().sum()));
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        try (BufferedWriter writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            writer.write("rule,failures,example");
+            writer.newLine();
+            for (Map.Entry<String, LongAdder> rule : rules) {
+                log.info(String.format("%8d  %s  (e.g. %s)", rule.getValue().sum(), rule.getKey(),
+                        ruleExamples.get(rule.getKey())));
+                writer.write(String.join(",", csv(rule.getKey()), String.valueOf(rule.getValue().sum()),
+                        csv(ruleExamples.get(rule.getKey()))));
+                writer.newLine();
+            }
+        }
+        log.info("Bulk validation summary written to " + output.toAbsolutePath());
+    }
+
+    private static String csv(final String value) {
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    private static String read(final Path file) {
+        try {
+            return Files.readString(file, StandardCharsets.UTF_8);
+        } catch (IOException ioException) {
+            throw new UncheckedIOException(ioException);
+        }
+    }
+
+    private static String required(final String property) {
+        final String value = System.getProperty(property);
+        if (Objects.isNull(value) || value.isBlank()) {
+            throw new IllegalArgumentException("-D" + property + " is required");
+        }
+        return value;
+    }
+}
@@ -1,45 +1,36 @@
 package uk.gov.hmcts.futurehearings.snl.acceptance.validation.factory;
 
-import static uk.gov.hmcts.futurehearings.snl.acceptance.common.TestingUtils.readFileContents;
+import uk.gov.hmcts.futurehearings.snl.acceptance.validation.registry.SchemaRegistry;
 
 import java.io.IOException;
-import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.Arrays;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.everit.json.schema.Schema;
 import org.everit.json.schema.ValidationException;
-import org.everit.json.schema.loader.SchemaLoader;
-import org.everit.json.schema.regexp.RE2JRegexpFactory;
 import org.json.JSONException;
 import org.json.JSONObject;
-import org.json.JSONTokener;
 
+//Every schema is read, parsed and loaded (with its RE2J patterns) once per run by the SchemaRegistry, after that a
+//validation is only Schema.validate, which keeps no state between calls and so is safe from any number of threads.
 @Slf4j
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class PayloadValidationFactory {
 
-    public static final String PAYLOAD_SCHEMA_DIR_PATH = "uk/gov/hmcts/futurehearings/snl/thirdparty/schema/S&L/V1.2.0";
+    public static final String PAYLOAD_SCHEMA_VERSION = "V1.2.0";
+    public static final String PAYLOAD_SCHEMA_DIR_PATH = SchemaRegistry.SCHEMA_ROOT + "/" + PAYLOAD_SCHEMA_VERSION;
 
     public static final void validateHMIPayload(JSONObject payloadObject, String schemaFileName)
             throws IOException, URISyntaxException, JSONException {
+        validateHMIPayload(payloadObject, PAYLOAD_SCHEMA_VERSION, schemaFileName);
+    }
 
-        JSONObject jsonSchemaReusable = new JSONObject(
-                new JSONTokener(readFileContents(PAYLOAD_SCHEMA_DIR_PATH + "/reusable.json")));
-        JSONObject jsonSchema = new JSONObject(
-                new JSONTokener(readFileContents(PAYLOAD_SCHEMA_DIR_PATH + schemaFileName)));
-
-        Schema schema = SchemaLoader.builder()
-                .useDefaults(true)
-                .regexpFactory(new RE2JRegexpFactory())
-                .registerSchemaByURI(new URI("http://www.gov.uk/reusable.json"), jsonSchemaReusable)
-                .schemaJson(jsonSchema)
-                .resolutionScope("classpath://" + PAYLOAD_SCHEMA_DIR_PATH + "/")
-                .build()
-                .load().build();
-
+    public static final void validateHMIPayload(JSONObject payloadObject, String schemaVersion, String schemaFileName)
+            throws IOException, URISyntaxException, JSONException {
+        final Schema schema = SchemaRegistry.schema(schemaVersion, schemaFileName);
         try {
             schema.validate(payloadObject);
         } catch (ValidationException validationException) {
@@ -49,6 +40,14 @@ public class PayloadValidationFactory {
                     .forEach(log::info);
             throw validationException;
         }
+    }
 
+    //Loads the given schemas on all cores, so that the first test to validate against them does not pay for it.
+    public static void warmUp(final String schemaVersion, final String... schemaFileNames) {
+        final long startNanos = System.nanoTime();
+        Arrays.stream(schemaFileNames).parallel()
+                .forEach(schemaFileName -> SchemaRegistry.schema(schemaVersion, schemaFileName));
+        log.info(String.format("%d schemas of %s loaded in %d ms", schemaFileNames.length, schemaVersion,
+                (System.nanoTime() - startNanos) / 1_000_000));
     }
 }
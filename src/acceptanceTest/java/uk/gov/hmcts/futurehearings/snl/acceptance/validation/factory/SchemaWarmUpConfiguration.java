@@ -0,0 +1,29 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.validation.factory;
+
+import javax.annotation.PostConstruct;
+import java.util.Arrays;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+//Loads the schemaValidation.warmUp schemas into PayloadValidationFactory as the Spring test context starts.
+@Configuration
+public class SchemaWarmUpConfiguration {
+
+    @Value("${schemaValidation.version:" + PayloadValidationFactory.PAYLOAD_SCHEMA_VERSION + "}")
+    private String version;
+
+    @Value("${schemaValidation.warmUp:}")
+    private String warmUp;
+
+    @PostConstruct
+    void warmUpSchemas() {
+        final String[] schemaFileNames = Arrays.stream(warmUp.split(","))
+                .map(String::trim)
+                .filter(schemaFileName -> !schemaFileName.isEmpty())
+                .toArray(String[]::new);
+        if (schemaFileNames.length > 0) {
+            PayloadValidationFactory.warmUp(version, schemaFileNames);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.validation.registry;
+
+import java.util.List;
+import java.util.Map;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+
+//Payloads (rows) validated against one schema file of every version (columns).
+@Getter(AccessLevel.PUBLIC)
+@Accessors(fluent = true)
+@Builder
+public class CompatibilityMatrix {
+
+    private final String schemaFileName;
+    private final List<String> versions;
+    //Payload name to version to result, in the order the payloads were given.
+    private final Map<String, Map<String, CompatibilityResult>> results;
+
+    public CompatibilityResult result(final String payloadName, final String version) {
+        return results.get(payloadName).get(version);
+    }
+
+    //One line per payload, e.g. "hearing-complete | valid | invalid (2) | - |".
+    public String toTable() {
+        final StringBuilder table = new StringBuilder(schemaFileName).append(System.lineSeparator());
+        table.append("payload |");
+        versions.forEach(version -> table.append(' ').append(version).append(" |"));
+        results.forEach((payloadName, row) -> {
+            table.append(System.lineSeparator()).append(payloadName).append(" |");
+            versions.forEach(version -> table.append(' ').append(cell(row.get(version))).append(" |"));
+        });
+        return table.toString();
+    }
+
+    private static String cell(final CompatibilityResult result) {
+        switch (result.outcome()) {
+            case VALID:
+                return "valid";
+            case INVALID:
+                return "invalid (" + result.violations().size() + ")";
+            case SCHEMA_ERROR:
+                return "schema error";
+            default:
+                return "-";
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.validation.registry;
+
+import java.util.List;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.Accessors;
+
+//One cell of a CompatibilityMatrix, a payload validated against one schema version.
+@Getter(AccessLevel.PUBLIC)
+@Accessors(fluent = true)
+@Builder
+@ToString
+public class CompatibilityResult {
+
+    public enum Outcome {
+        VALID,
+        INVALID,
+        //The version has no schema file of that name.
+        NO_SCHEMA,
+        //The schema file of the version is not a valid JSON Schema.
+        SCHEMA_ERROR
+    }
+
+    private final Outcome outcome;
+    private final List<String> violations;
+}
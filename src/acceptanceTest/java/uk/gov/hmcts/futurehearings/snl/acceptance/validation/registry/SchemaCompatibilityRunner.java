@@ -0,0 +1,91 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.validation.registry;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+//Entry point of ./gradlew schemaCompatibility, validates every case of a ./gradlew schemaCorpus corpus against the
+//schema file of the same name in every schema version. A cell counts the cases a version accepts and rejects, and how
+//many of those differ from what the corpus expected of the version it was generated from.
+@Slf4j
+public class SchemaCompatibilityRunner {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    public static void main(final String[] args) throws IOException {
+        final Path corpus = Paths.get(System.getProperty("compatibility.corpus",
+                "build/reports/schema-corpus/boundary-cases.jsonl"));
+        final Path output = Paths.get(System.getProperty("compatibility.output",
+                "build/reports/schema-compatibility/compatibility.csv"));
+
+        //Schema file name to case name to payload, and case name to the validity the corpus expects.
+        final Map<String, Map<String, String>> payloads = new TreeMap<>();
+        final Map<String, Boolean> expectations = new LinkedHashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(corpus, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                final JsonNode boundaryCase = OBJECT_MAPPER.readTree(line);
+                final String caseName = ++lineNumber + " " + boundaryCase.path("pointer").asText()
+                        + " " + boundaryCase.path("description").asText();
+                payloads.computeIfAbsent(boundaryCase.path("schema").asText(), schema -> new LinkedHashMap<>())
+                        .put(caseName, boundaryCase.path("payload").toString());
+                expectations.put(caseName, boundaryCase.path("valid").asBoolean());
+            }
+        }
+
+        final long startNanos = System.nanoTime();
+        final List<String> versions = SchemaRegistry.versions();
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        try (BufferedWriter writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            writer.write("schema,version,accepted,rejected,differs");
+            writer.newLine();
+            for (Map.Entry<String, Map<String, String>> schema : payloads.entrySet()) {
+                final CompatibilityMatrix matrix = SchemaRegistry.compatibility(schema.getKey(), schema.getValue());
+                final StringBuilder row = new StringBuilder(String.format("%-32s", schema.getKey()));
+                for (String version : versions) {
+                    int accepted = 0;
+                    int rejected = 0;
+                    int differs = 0;
+                    for (Map.Entry<String, Map<String, CompatibilityResult>> result : matrix.results().entrySet()) {
+                        final CompatibilityResult.Outcome outcome = result.getValue().get(version).outcome();
+                        if (outcome == CompatibilityResult.Outcome.NO_SCHEMA
+                                || outcome == CompatibilityResult.Outcome.SCHEMA_ERROR) {
+                            continue;
+                        }
+                        final boolean valid = outcome == CompatibilityResult.Outcome.VALID;
+                        accepted += valid ? 1 : 0;
+                        rejected += valid ? 0 : 1;
+                        differs += valid == expectations.get(result.getKey()) ? 0 : 1;
+                    }
+                    final CompatibilityResult.Outcome first = matrix.results().values().iterator().next().get(version).outcome();
+                    if (first == CompatibilityResult.Outcome.NO_SCHEMA) {
+                        row.append(String.format(" | %s -", version));
+                    } else if (first == CompatibilityResult.Outcome.SCHEMA_ERROR) {
+                        row.append(String.format(" | %s schema error", version));
+                    } else {
+                        row.append(String.format(" | %s %d/%d (%d differ)", version, accepted, rejected, differs));
+                        writer.write(String.join(",", schema.getKey(), version, String.valueOf(accepted),
+                                String.valueOf(rejected), String.valueOf(differs)));
+                        writer.newLine();
+                    }
+                }
+                log.info(row.toString());
+            }
+        }
+        log.info(String.format("Schema compatibility of %d cases against %s written to %s in %d ms",
+                expectations.size(), versions, output.toAbsolutePath(), (System.nanoTime() - startNanos) / 1_000_000));
+    }
+}
@@ -0,0 +1,170 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.validation.registry;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.everit.json.schema.Schema;
+import org.everit.json.schema.SchemaException;
+import org.everit.json.schema.ValidationException;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+//Every S&L schema version directory on the class path, indexed once on first use. A version is its directory name,
+//e.g. V1.2.0 or V1.5.1, and versions sort oldest first.
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SchemaRegistry {
+
+    public static final String SCHEMA_ROOT = "uk/gov/hmcts/futurehearings/snl/thirdparty/schema/S&L";
+
+    public static List<String> versions() {
+        return Index.VERSION_NAMES;
+    }
+
+    public static boolean hasSchema(final String version, final String schemaFileName) {
+        return version(version).contains(fileName(schemaFileName));
+    }
+
+    public static Schema schema(final String version, final String schemaFileName) {
+        return version(version).schema(fileName(schemaFileName));
+    }
+
+    public static void validate(final String version, final String schemaFileName, final JSONObject payload) {
+        schema(version, schemaFileName).validate(payload);
+    }
+
+    //Every payload against the schema file of every version, on all cores. The payloads are given as text because
+    //the schemas insert their defaults into the document they validate.
+    public static CompatibilityMatrix compatibility(final String schemaFileName, final Map<String, String> payloads) {
+        final List<String> versions = versions();
+        //A version without a usable schema gives every payload the same result.
+        final Map<String, CompatibilityResult> unusable = new HashMap<>();
+        versions.forEach(version -> unusableResult(version, schemaFileName)
+                .ifPresent(result -> unusable.put(version, result)));
+        final Map<String, Map<String, CompatibilityResult>> results = payloads.entrySet().parallelStream()
+                .collect(Collectors.toMap(Map.Entry::getKey,
+                    payload -> versions.parallelStream().collect(Collectors.toMap(version -> version,
+                        version -> unusable.containsKey(version) ? unusable.get(version)
+                                : result(version, schemaFileName, payload.getValue()),
+                        (first, second) -> first, LinkedHashMap::new)),
+                    (first, second) -> first, LinkedHashMap::new));
+        return CompatibilityMatrix.builder()
+                .schemaFileName(fileName(schemaFileName))
+                .versions(versions)
+                .results(results)
+                .build();
+    }
+
+    static URI uri(final String uri) {
+        try {
+            return new URI(uri);
+        } catch (URISyntaxException uriSyntaxException) {
+            throw new IllegalStateException("The schema id " + uri + " is not a URI", uriSyntaxException);
+        }
+    }
+
+    private static Optional<CompatibilityResult> unusableResult(final String version, final String schemaFileName) {
+        if (!hasSchema(version, schemaFileName)) {
+            return Optional.of(CompatibilityResult.builder()
+                    .outcome(CompatibilityResult.Outcome.NO_SCHEMA)
+                    .violations(Collections.emptyList())
+                    .build());
+        }
+        try {
+            schema(version, schemaFileName);
+            return Optional.empty();
+        } catch (SchemaException schemaException) {
+            log.warn("The schema " + schemaFileName + " of " + version + " cannot be loaded : " + schemaException.getMessage());
+            return Optional.of(CompatibilityResult.builder()
+                    .outcome(CompatibilityResult.Outcome.SCHEMA_ERROR)
+                    .violations(List.of(schemaException.getMessage()))
+                    .build());
+        }
+    }
+
+    private static CompatibilityResult result(final String version, final String schemaFileName, final String payload) {
+        try {
+            validate(version, schemaFileName, new JSONObject(new JSONTokener(payload)));
+            return CompatibilityResult.builder()
+                    .outcome(CompatibilityResult.Outcome.VALID)
+                    .violations(Collections.emptyList())
+                    .build();
+        } catch (ValidationException validationException) {
+            return CompatibilityResult.builder()
+                    .outcome(CompatibilityResult.Outcome.INVALID)
+                    .violations(validationException.getAllMessages())
+                    .build();
+        } catch (JSONException jsonException) {
+            return CompatibilityResult.builder()
+                    .outcome(CompatibilityResult.Outcome.INVALID)
+                    .violations(List.of("The payload is not a JSON object : " + jsonException.getMessage()))
+                    .build();
+        }
+    }
+
+    private static SchemaVersion version(final String version) {
+        final SchemaVersion schemaVersion = Index.VERSIONS.get(version);
+        if (Objects.isNull(schemaVersion)) {
+            throw new IllegalArgumentException("No schema version " + version + ", the versions are " + versions());
+        }
+        return schemaVersion;
+    }
+
+    private static String fileName(final String schemaFileName) {
+        return schemaFileName.startsWith("/") ? schemaFileName.substring(1) : schemaFileName;
+    }
+
+    //Scanned when the registry is first used rather than when the class is loaded.
+    private static final class Index {
+
+        private static final Map<String, SchemaVersion> VERSIONS = scan();
+        private static final List<String> VERSION_NAMES = Collections.unmodifiableList(new ArrayList<>(VERSIONS.keySet()));
+
+        private static Map<String, SchemaVersion> scan() {
+            final Map<String, Map<String, String>> documents = new TreeMap<>();
+            try {
+                for (Resource resource : new PathMatchingResourcePatternResolver()
+                        .getResources("classpath*:" + SCHEMA_ROOT + "/*/*.json")) {
+                    final String location = resource.getURL().toString();
+                    final String directory = location.substring(0, location.lastIndexOf('/'));
+                    final String version = directory.substring(directory.lastIndexOf('/') + 1);
+                    //The first copy on the class path wins, as it would for a class path resource.
+                    documents.computeIfAbsent(version, name -> new TreeMap<>())
+                            .putIfAbsent(resource.getFilename(), read(resource));
+                }
+            } catch (IOException ioException) {
+                throw new UncheckedIOException(ioException);
+            }
+            final Map<String, SchemaVersion> versions = new LinkedHashMap<>();
+            documents.forEach((version, files) -> versions.put(version, new SchemaVersion(version, files)));
+            log.debug("Schema versions indexed : " + versions.keySet());
+            return Collections.unmodifiableMap(versions);
+        }
+
+        private static String read(final Resource resource) throws IOException {
+            try (InputStream inputStream = resource.getInputStream()) {
+                return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.validation.registry;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.everit.json.schema.Schema;
+import org.everit.json.schema.loader.SchemaLoader;
+import org.everit.json.schema.regexp.RE2JRegexpFactory;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+
+//The schema files of one version directory. Every file is registered under http://www.gov.uk/<file name> and its
+//$id, so a reference to reusable.json or hmctsSchema.json is resolved against the file of the same version.
+class SchemaVersion {
+
+    private static final String SCHEMA_HOST = "http://www.gov.uk/";
+
+    private final String name;
+    private final Map<String, JSONObject> documents;
+    private final Map<String, Schema> schemas = new ConcurrentHashMap<>();
+
+    SchemaVersion(final String name, final Map<String, String> documentTexts) {
+        this.name = name;
+        this.documents = new ConcurrentHashMap<>();
+        documentTexts.forEach((fileName, text) -> {
+            try {
+                documents.put(fileName, new JSONObject(new JSONTokener(text)));
+            } catch (JSONException jsonException) {
+                throw new IllegalStateException("The schema " + fileName + " of " + name + " is not JSON", jsonException);
+            }
+        });
+    }
+
+    String name() {
+        return name;
+    }
+
+    Set<String> fileNames() {
+        return documents.keySet();
+    }
+
+    boolean contains(final String fileName) {
+        return documents.containsKey(fileName);
+    }
+
+    Schema schema(final String fileName) {
+        final Schema cached = schemas.get(fileName);
+        if (Objects.nonNull(cached)) {
+            return cached;
+        }
+        if (!contains(fileName)) {
+            throw new IllegalArgumentException("The schema version " + name + " has no " + fileName
+                    + ", it has " + fileNames());
+        }
+        final Schema loaded = load(fileName);
+        final Schema raced = schemas.putIfAbsent(fileName, loaded);
+        return Objects.nonNull(raced) ? raced : loaded;
+    }
+
+    private Schema load(final String fileName) {
+        final SchemaLoader.SchemaLoaderBuilder builder = SchemaLoader.builder()
+                .useDefaults(true)
+                .regexpFactory(new RE2JRegexpFactory())
+                .schemaJson(documents.get(fileName))
+                .resolutionScope(SCHEMA_HOST);
+        documents.forEach((siblingName, sibling) -> {
+            if (!siblingName.equals(fileName)) {
+                builder.registerSchemaByURI(SchemaRegistry.uri(SCHEMA_HOST + siblingName), sibling);
+                final String id = sibling.optString("$id", "");
+                if (!id.isEmpty() && !id.equals(SCHEMA_HOST + siblingName)) {
+                    builder.registerSchemaByURI(SchemaRegistry.uri(id), sibling);
+                }
+            }
+        });
+        return builder.build().load().build();
+    }
+}
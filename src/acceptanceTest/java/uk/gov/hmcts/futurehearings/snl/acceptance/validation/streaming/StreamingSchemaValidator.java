@@ -0,0 +1,187 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.validation.streaming;
+
+import uk.gov.hmcts.futurehearings.snl.acceptance.validation.registry.SchemaRegistry;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.everit.json.schema.ArraySchema;
+import org.everit.json.schema.ObjectSchema;
+import org.everit.json.schema.ReferenceSchema;
+import org.everit.json.schema.Schema;
+import org.everit.json.schema.ValidationException;
+import org.json.JSONException;
+import org.json.JSONTokener;
+
+//Validates a response against its schema as it is read, for responses dominated by one large array such as
+//sessionsResponse.sessions. Each element of that array is parsed, validated against the item schema and dropped before
+//the next one is read, everything else is kept as the envelope and validated once the stream ends with the array
+//left empty. Given a stream that is not buffered already, memory is bounded by the largest single element rather than
+//by the response.
+//Constraints across the elements (uniqueItems, contains) are not checked, minItems and maxItems are.
+public class StreamingSchemaValidator {
+
+    public static final String SESSIONS_SCHEMA = "getSessionsResponseMessage.json";
+    public static final String SESSIONS_POINTER = "/sessionsResponse/sessions";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final int MAXIMUM_VIOLATIONS = 100;
+
+    private final Schema schema;
+    private final String arrayPointer;
+    private final List<String> arrayPath;
+    private final ArraySchema arraySchema;
+
+    public StreamingSchemaValidator(final Schema schema, final String arrayPointer) {
+        this.schema = schema;
+        this.arrayPointer = arrayPointer;
+        this.arrayPath = Arrays.asList(arrayPointer.substring(1).split("/"));
+        this.arraySchema = arraySchema(schema, arrayPath, arrayPointer);
+    }
+
+    public static StreamingSchemaValidator sessions(final String schemaVersion) {
+        return new StreamingSchemaValidator(SchemaRegistry.schema(schemaVersion, SESSIONS_SCHEMA), SESSIONS_POINTER);
+    }
+
+    //Safe from any number of threads, all the state of a validation is local to the call.
+    public StreamingValidationResult validate(final InputStream body) throws IOException {
+        final Violations violations = new Violations();
+        final int[] itemCount = new int[1];
+        final JsonNode envelope;
+        try (JsonParser parser = OBJECT_MAPPER.getFactory().createParser(body)) {
+            if (Objects.isNull(parser.nextToken())) {
+                violations.add("#: the response body is empty");
+                return violations.result(0);
+            }
+            envelope = envelope(parser, 0, itemCount, violations);
+        }
+        try {
+            schema.validate(new JSONTokener(envelope.toString()).nextValue());
+        } catch (ValidationException validationException) {
+            leaves(validationException, violations);
+        } catch (JSONException jsonException) {
+            violations.add("#: " + jsonException.getMessage());
+        }
+        final Integer minItems = arraySchema.getMinItems();
+        if (Objects.nonNull(minItems) && itemCount[0] < minItems) {
+            violations.add("#" + arrayPointer + ": expected minimum item count: " + minItems + ", found: " + itemCount[0]);
+        }
+        final Integer maxItems = arraySchema.getMaxItems();
+        if (Objects.nonNull(maxItems) && itemCount[0] > maxItems) {
+            violations.add("#" + arrayPointer + ": expected maximum item count: " + maxItems + ", found: " + itemCount[0]);
+        }
+        return violations.result(itemCount[0]);
+    }
+
+    //The value at the current token, with the streamed array replaced by an empty one.
+    private JsonNode envelope(final JsonParser parser, final int depth, final int[] itemCount,
+                              final Violations violations) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            return parser.readValueAsTree();
+        }
+        final ObjectNode node = JsonNodeFactory.instance.objectNode();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String name = parser.getCurrentName();
+            parser.nextToken();
+            if (!name.equals(arrayPath.get(depth))) {
+                node.set(name, parser.readValueAsTree());
+            } else if (depth < arrayPath.size() - 1) {
+                node.set(name, envelope(parser, depth + 1, itemCount, violations));
+            } else if (parser.currentToken() == JsonToken.START_ARRAY) {
+                node.set(name, JsonNodeFactory.instance.arrayNode());
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    validateItem(parser.readValueAsTree(), itemCount[0]++, violations);
+                }
+            } else {
+                node.set(name, parser.readValueAsTree());
+            }
+        }
+        return node;
+    }
+
+    private void validateItem(final JsonNode item, final int index, final Violations violations) {
+        try {
+            arraySchema.getAllItemSchema().validate(new JSONTokener(item.toString()).nextValue());
+        } catch (ValidationException validationException) {
+            final Violations itemViolations = new Violations();
+            leaves(validationException, itemViolations);
+            itemViolations.messages.forEach(message ->
+                    violations.add("#" + arrayPointer + "/" + index + message.substring(1)));
+        } catch (JSONException jsonException) {
+            violations.add("#" + arrayPointer + "/" + index + ": " + jsonException.getMessage());
+        }
+    }
+
+    //The innermost violations, less the ones an empty array causes in the envelope.
+    private void leaves(final ValidationException validationException, final Violations violations) {
+        if (!validationException.getCausingExceptions().isEmpty()) {
+            validationException.getCausingExceptions().forEach(cause -> leaves(cause, violations));
+            return;
+        }
+        final boolean emptied = ("#" + arrayPointer).equals(validationException.getPointerToViolation())
+                && ("minItems".equals(validationException.getKeyword())
+                || "contains".equals(validationException.getKeyword()));
+        if (!emptied) {
+            violations.add(validationException.getMessage());
+        }
+    }
+
+    private static ArraySchema arraySchema(final Schema schema, final List<String> path, final String arrayPointer) {
+        Schema current = schema;
+        for (String name : path) {
+            current = referred(current);
+            if (!(current instanceof ObjectSchema)) {
+                throw new IllegalArgumentException("The schema has no object on the path " + arrayPointer);
+            }
+            final Map<String, Schema> properties = ((ObjectSchema) current).getPropertySchemas();
+            current = properties.get(name);
+            if (Objects.isNull(current)) {
+                throw new IllegalArgumentException("The schema has no property " + name + " on the path " + arrayPointer);
+            }
+        }
+        current = referred(current);
+        if (!(current instanceof ArraySchema) || Objects.isNull(((ArraySchema) current).getAllItemSchema())) {
+            throw new IllegalArgumentException("The schema has no array of a single item schema at " + arrayPointer);
+        }
+        return (ArraySchema) current;
+    }
+
+    private static Schema referred(final Schema schema) {
+        Schema current = schema;
+        while (current instanceof ReferenceSchema) {
+            current = ((ReferenceSchema) current).getReferredSchema();
+        }
+        return current;
+    }
+
+    private static final class Violations {
+
+        private final List<String> messages = new ArrayList<>();
+        private int count;
+
+        void add(final String message) {
+            if (count++ < MAXIMUM_VIOLATIONS) {
+                messages.add(message);
+            }
+        }
+
+        StreamingValidationResult result(final int itemCount) {
+            return StreamingValidationResult.builder()
+                    .itemCount(itemCount)
+                    .violationCount(count)
+                    .violations(messages)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.validation.streaming;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.everit.json.schema.Schema;
+import org.everit.json.schema.loader.SchemaLoader;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Validating a response against its schema one element of its large array at a time")
+class StreamingSchemaValidatorTest {
+
+    private static final String SESSIONS_POINTER = "/sessionsResponse/sessions";
+
+    private static final String SESSION = "{\"sessionId\":\"%s\",\"sessionRoomId\":%s}";
+
+    //A draft 7 schema so that contains, which the emptied array fails in the envelope, is in play.
+    private static final String SCHEMA = "{\"$schema\":\"http://json-schema.org/draft-07/schema#\","
+            + "\"type\":\"object\",\"required\":[\"sessionsResponse\"],"
+            + "\"properties\":{\"sessionsResponse\":{\"type\":\"object\",\"required\":[\"sessions\",\"total\"],"
+            + "\"properties\":{\"total\":{\"type\":\"integer\"},"
+            + "\"sessions\":{\"type\":\"array\",\"minItems\":1,\"maxItems\":3,"
+            + "\"contains\":{\"type\":\"object\"},"
+            + "\"items\":{\"type\":\"object\",\"required\":[\"sessionId\"],"
+            + "\"properties\":{\"sessionId\":{\"type\":\"string\"},\"sessionRoomId\":{\"type\":\"integer\"}}}}}}}}";
+
+    private static final StreamingSchemaValidator VALIDATOR =
+            new StreamingSchemaValidator(schema(SCHEMA), SESSIONS_POINTER);
+
+    @Test
+    @DisplayName("A valid response is valid, with every element of the array counted")
+    void test_valid_response() throws IOException {
+        final StreamingValidationResult result = validate(response(1, 2, 3));
+
+        assertTrue(result.valid(), result::toString);
+        assertEquals(3, result.itemCount());
+    }
+
+    @Test
+    @DisplayName("A violation in an element points at that element of the array")
+    void test_item_violation_prefixed_with_its_pointer() throws IOException {
+        final String sessions = String.format(SESSION, "A", "1") + "," + String.format(SESSION, "B", "\"301\"")
+                + ",{\"sessionRoomId\":3}";
+
+        final StreamingValidationResult result = validate(envelope(sessions, "3"));
+
+        assertEquals(2, result.violationCount(), result::toString);
+        assertEquals(3, result.itemCount());
+        assertTrue(result.violations().get(0).startsWith("#/sessionsResponse/sessions/1/sessionRoomId: "),
+                result::toString);
+        assertTrue(result.violations().get(1).startsWith("#/sessionsResponse/sessions/2: "), result::toString);
+        assertTrue(result.violations().get(1).contains("sessionId"), result::toString);
+    }
+
+    @Test
+    @DisplayName("An empty array is short of minItems once, minItems and contains of the emptied envelope are not")
+    void test_min_items_counted_and_envelope_violations_suppressed() throws IOException {
+        final StreamingValidationResult result = validate(envelope("", "0"));
+
+        assertEquals(List.of("#/sessionsResponse/sessions: expected minimum item count: 1, found: 0"),
+                result.violations());
+        assertEquals(1, result.violationCount());
+        assertEquals(0, result.itemCount());
+    }
+
+    @Test
+    @DisplayName("An array over maxItems is reported with its element count")
+    void test_max_items_counted() throws IOException {
+        final StreamingValidationResult result = validate(response(1, 2, 3, 4));
+
+        assertEquals(List.of("#/sessionsResponse/sessions: expected maximum item count: 3, found: 4"),
+                result.violations());
+        assertEquals(4, result.itemCount());
+    }
+
+    @Test
+    @DisplayName("A violation in the envelope outside the array is still reported")
+    void test_other_envelope_violations_reported() throws IOException {
+        final StreamingValidationResult result = validate(envelope(String.format(SESSION, "A", "1"), "\"one\""));
+
+        assertEquals(1, result.violationCount(), result::toString);
+        assertTrue(result.violations().get(0).startsWith("#/sessionsResponse/total: "), result::toString);
+    }
+
+    @Test
+    @DisplayName("A missing array leaves the envelope's own violation, and counts as short of minItems")
+    void test_missing_array() throws IOException {
+        final StreamingValidationResult result = validate("{\"sessionsResponse\":{\"total\":0}}");
+
+        assertEquals(2, result.violationCount(), result::toString);
+        assertTrue(result.violations().get(0).contains("sessions"), result::toString);
+        assertEquals("#/sessionsResponse/sessions: expected minimum item count: 1, found: 0",
+                result.violations().get(1));
+    }
+
+    @Test
+    @DisplayName("An empty body is a violation of its own")
+    void test_empty_body() throws IOException {
+        final StreamingValidationResult result = validate("");
+
+        assertEquals(List.of("#: the response body is empty"), result.violations());
+    }
+
+    @Test
+    @DisplayName("Every violation is counted but only the first hundred are kept")
+    void test_violations_kept_bounded() throws IOException {
+        final String sessions = IntStream.range(0, 150).mapToObj(index -> "{}").collect(Collectors.joining(","));
+
+        final StreamingValidationResult result = validate(envelope(sessions, "150"));
+
+        assertEquals(151, result.violationCount());
+        assertEquals(100, result.violations().size());
+        assertEquals(150, result.itemCount());
+    }
+
+    @Test
+    @DisplayName("A pointer that is not an array of one item schema is refused")
+    void test_pointer_without_array_refused() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new StreamingSchemaValidator(schema(SCHEMA), "/sessionsResponse/total"));
+        assertThrows(IllegalArgumentException.class,
+                () -> new StreamingSchemaValidator(schema(SCHEMA), "/sessionsResponse/rooms"));
+    }
+
+    private static StreamingValidationResult validate(final String body) throws IOException {
+        return VALIDATOR.validate(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String response(final int... roomIds) {
+        final String sessions = IntStream.of(roomIds)
+                .mapToObj(roomId -> String.format(SESSION, "S" + roomId, roomId))
+                .collect(Collectors.joining(","));
+        return envelope(sessions, String.valueOf(roomIds.length));
+    }
+
+    private static String envelope(final String sessions, final String total) {
+        return "{\"sessionsResponse\":{\"sessions\":[" + sessions + "],\"total\":" + total + "}}";
+    }
+
+    private static Schema schema(final String schema) {
+        try {
+            return SchemaLoader.builder().schemaJson(new JSONObject(new JSONTokener(schema))).build().load().build();
+        } catch (JSONException jsonException) {
+            throw new IllegalStateException("The test schema is not JSON", jsonException);
+        }
+    }
+}
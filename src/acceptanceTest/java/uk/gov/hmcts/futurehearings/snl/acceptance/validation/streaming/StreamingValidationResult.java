@@ -0,0 +1,25 @@
+package uk.gov.hmcts.futurehearings.snl.acceptance.validation.streaming;
+
+import java.util.List;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.Accessors;
+
+@Getter(AccessLevel.PUBLIC)
+@Accessors(fluent = true)
+@Builder
+@ToString
+public class StreamingValidationResult {
+
+    private final int itemCount;
+    private final int violationCount;
+    //The first violations only, violationCount has them all.
+    private final List<String> violations;
+
+    public boolean valid() {
+        return violationCount == 0;
+    }
+}